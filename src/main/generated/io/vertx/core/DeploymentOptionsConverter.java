@@ -61,6 +61,9 @@ import io.vertx.core.json.JsonArray;
     if (json.getValue("multiThreaded") instanceof Boolean) {
       obj.setMultiThreaded((Boolean)json.getValue("multiThreaded"));
     }
+    if (json.getValue("virtualThreads") instanceof Boolean) {
+      obj.setVirtualThreads((Boolean)json.getValue("virtualThreads"));
+    }
     if (json.getValue("worker") instanceof Boolean) {
       obj.setWorker((Boolean)json.getValue("worker"));
     }
@@ -93,6 +96,7 @@ import io.vertx.core.json.JsonArray;
     }
     json.put("maxWorkerExecuteTime", obj.getMaxWorkerExecuteTime());
     json.put("multiThreaded", obj.isMultiThreaded());
+    json.put("virtualThreads", obj.isVirtualThreads());
     json.put("worker", obj.isWorker());
     if (obj.getWorkerPoolName() != null) {
       json.put("workerPoolName", obj.getWorkerPoolName());
@@ -87,12 +87,30 @@ import io.vertx.core.json.JsonArray;
     if (json.getValue("quorumSize") instanceof Number) {
       obj.setQuorumSize(((Number)json.getValue("quorumSize")).intValue());
     }
+    if (json.getValue("timerWheelEnabled") instanceof Boolean) {
+      obj.setTimerWheelEnabled((Boolean)json.getValue("timerWheelEnabled"));
+    }
+    if (json.getValue("timerWheelTickDuration") instanceof Number) {
+      obj.setTimerWheelTickDuration(((Number)json.getValue("timerWheelTickDuration")).longValue());
+    }
     if (json.getValue("warningExceptionTime") instanceof Number) {
       obj.setWarningExceptionTime(((Number)json.getValue("warningExceptionTime")).longValue());
     }
+    if (json.getValue("workerPoolAdaptive") instanceof Boolean) {
+      obj.setWorkerPoolAdaptive((Boolean)json.getValue("workerPoolAdaptive"));
+    }
+    if (json.getValue("workerPoolKeepAliveTime") instanceof Number) {
+      obj.setWorkerPoolKeepAliveTime(((Number)json.getValue("workerPoolKeepAliveTime")).longValue());
+    }
+    if (json.getValue("workerPoolMinSize") instanceof Number) {
+      obj.setWorkerPoolMinSize(((Number)json.getValue("workerPoolMinSize")).intValue());
+    }
     if (json.getValue("workerPoolSize") instanceof Number) {
       obj.setWorkerPoolSize(((Number)json.getValue("workerPoolSize")).intValue());
     }
+    if (json.getValue("workerPoolTargetWaitTime") instanceof Number) {
+      obj.setWorkerPoolTargetWaitTime(((Number)json.getValue("workerPoolTargetWaitTime")).longValue());
+    }
   }
 
    static void toJson(VertxOptions obj, JsonObject json) {
@@ -128,7 +146,13 @@ import io.vertx.core.json.JsonArray;
     }
     json.put("preferNativeTransport", obj.getPreferNativeTransport());
     json.put("quorumSize", obj.getQuorumSize());
+    json.put("timerWheelEnabled", obj.isTimerWheelEnabled());
+    json.put("timerWheelTickDuration", obj.getTimerWheelTickDuration());
     json.put("warningExceptionTime", obj.getWarningExceptionTime());
+    json.put("workerPoolAdaptive", obj.isWorkerPoolAdaptive());
+    json.put("workerPoolKeepAliveTime", obj.getWorkerPoolKeepAliveTime());
+    json.put("workerPoolMinSize", obj.getWorkerPoolMinSize());
     json.put("workerPoolSize", obj.getWorkerPoolSize());
+    json.put("workerPoolTargetWaitTime", obj.getWorkerPoolTargetWaitTime());
   }
 }
\ No newline at end of file
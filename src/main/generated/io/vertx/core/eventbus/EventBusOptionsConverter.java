@@ -33,6 +33,24 @@ import io.vertx.core.json.JsonArray;
     if (json.getValue("clientAuth") instanceof String) {
       obj.setClientAuth(io.vertx.core.http.ClientAuth.valueOf((String)json.getValue("clientAuth")));
     }
+    if (json.getValue("clusterCompression") instanceof String) {
+      obj.setClusterCompression(io.vertx.core.eventbus.ClusterCompression.valueOf((String)json.getValue("clusterCompression")));
+    }
+    if (json.getValue("clusterCompressionLevel") instanceof Number) {
+      obj.setClusterCompressionLevel(((Number)json.getValue("clusterCompressionLevel")).intValue());
+    }
+    if (json.getValue("clusterCompressionThreshold") instanceof Number) {
+      obj.setClusterCompressionThreshold(((Number)json.getValue("clusterCompressionThreshold")).intValue());
+    }
+    if (json.getValue("clusterConnectionsPerPeer") instanceof Number) {
+      obj.setClusterConnectionsPerPeer(((Number)json.getValue("clusterConnectionsPerPeer")).intValue());
+    }
+    if (json.getValue("clusterMaxQueueSize") instanceof Number) {
+      obj.setClusterMaxQueueSize(((Number)json.getValue("clusterMaxQueueSize")).intValue());
+    }
+    if (json.getValue("clusterOverflowPolicy") instanceof String) {
+      obj.setClusterOverflowPolicy(io.vertx.core.eventbus.ClusterOverflowPolicy.valueOf((String)json.getValue("clusterOverflowPolicy")));
+    }
     if (json.getValue("clusterPingInterval") instanceof Number) {
       obj.setClusterPingInterval(((Number)json.getValue("clusterPingInterval")).longValue());
     }
@@ -45,6 +63,12 @@ import io.vertx.core.json.JsonArray;
     if (json.getValue("clusterPublicPort") instanceof Number) {
       obj.setClusterPublicPort(((Number)json.getValue("clusterPublicPort")).intValue());
     }
+    if (json.getValue("clusterRoutingCache") instanceof Boolean) {
+      obj.setClusterRoutingCache((Boolean)json.getValue("clusterRoutingCache"));
+    }
+    if (json.getValue("clusterRoutingCacheMaxAge") instanceof Number) {
+      obj.setClusterRoutingCacheMaxAge(((Number)json.getValue("clusterRoutingCacheMaxAge")).longValue());
+    }
     if (json.getValue("clustered") instanceof Boolean) {
       obj.setClustered((Boolean)json.getValue("clustered"));
     }
@@ -75,6 +99,9 @@ import io.vertx.core.json.JsonArray;
           obj.addEnabledSecureTransportProtocol((String)item);
       });
     }
+    if (json.getValue("eventLoopAffinity") instanceof Boolean) {
+      obj.setEventLoopAffinity((Boolean)json.getValue("eventLoopAffinity"));
+    }
     if (json.getValue("host") instanceof String) {
       obj.setHost((String)json.getValue("host"));
     }
@@ -169,12 +196,24 @@ import io.vertx.core.json.JsonArray;
     if (obj.getClientAuth() != null) {
       json.put("clientAuth", obj.getClientAuth().name());
     }
+    if (obj.getClusterCompression() != null) {
+      json.put("clusterCompression", obj.getClusterCompression().name());
+    }
+    json.put("clusterCompressionLevel", obj.getClusterCompressionLevel());
+    json.put("clusterCompressionThreshold", obj.getClusterCompressionThreshold());
+    json.put("clusterConnectionsPerPeer", obj.getClusterConnectionsPerPeer());
+    json.put("clusterMaxQueueSize", obj.getClusterMaxQueueSize());
+    if (obj.getClusterOverflowPolicy() != null) {
+      json.put("clusterOverflowPolicy", obj.getClusterOverflowPolicy().name());
+    }
     json.put("clusterPingInterval", obj.getClusterPingInterval());
     json.put("clusterPingReplyInterval", obj.getClusterPingReplyInterval());
     if (obj.getClusterPublicHost() != null) {
       json.put("clusterPublicHost", obj.getClusterPublicHost());
     }
     json.put("clusterPublicPort", obj.getClusterPublicPort());
+    json.put("clusterRoutingCache", obj.isClusterRoutingCache());
+    json.put("clusterRoutingCacheMaxAge", obj.getClusterRoutingCacheMaxAge());
     json.put("clustered", obj.isClustered());
     json.put("connectTimeout", obj.getConnectTimeout());
     if (obj.getCrlPaths() != null) {
@@ -197,6 +236,7 @@ import io.vertx.core.json.JsonArray;
       obj.getEnabledSecureTransportProtocols().forEach(item -> array.add(item));
       json.put("enabledSecureTransportProtocols", array);
     }
+    json.put("eventLoopAffinity", obj.isEventLoopAffinity());
     if (obj.getHost() != null) {
       json.put("host", obj.getHost());
     }
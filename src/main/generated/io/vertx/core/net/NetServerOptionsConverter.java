@@ -39,6 +39,9 @@ import io.vertx.core.json.JsonArray;
     if (json.getValue("host") instanceof String) {
       obj.setHost((String)json.getValue("host"));
     }
+    if (json.getValue("listenerPerEventLoop") instanceof Boolean) {
+      obj.setListenerPerEventLoop((Boolean)json.getValue("listenerPerEventLoop"));
+    }
     if (json.getValue("port") instanceof Number) {
       obj.setPort(((Number)json.getValue("port")).intValue());
     }
@@ -56,6 +59,7 @@ import io.vertx.core.json.JsonArray;
     if (obj.getHost() != null) {
       json.put("host", obj.getHost());
     }
+    json.put("listenerPerEventLoop", obj.isListenerPerEventLoop());
     json.put("port", obj.getPort());
     json.put("sni", obj.isSni());
   }
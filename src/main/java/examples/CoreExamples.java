@@ -32,6 +32,8 @@ import io.vertx.core.net.NetServer;
 import io.vertx.core.net.SocketAddress;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Created by tim on 08/01/15.
@@ -164,6 +166,16 @@ public class CoreExamples {
     CompositeFuture.join(Arrays.asList(future1, future2, future3));
   }
 
+  public void exampleFutureJoin3(List<Future<String>> futures) {
+    CompositeFuture.join(futures, Collectors.toList()).setHandler(ar -> {
+      if (ar.succeeded()) {
+        List<String> results = ar.result();
+      } else {
+        // All completed and at least one failed
+      }
+    });
+  }
+
   public void exampleFuture6(Vertx vertx) {
 
     FileSystem fs = vertx.fileSystem();
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * A handle on some blocking code submitted with {@link Context#submitBlocking}, {@link Vertx#submitBlocking} or
+ * {@link WorkerExecutor#submitBlocking}.
+ * <p>
+ * The task can be cancelled as long as it has not completed: a task that has not started yet will never run,
+ * a running task can optionally be interrupted. In both cases the result handler is called with a
+ * {@link java.util.concurrent.CancellationException}.
+ */
+@VertxGen
+public interface BlockingTask {
+
+  /**
+   * Cancel the task.
+   * <p>
+   * When the task has not started yet it is removed from the execution and its result handler is failed
+   * right away. When the task is running, the thread executing it is interrupted if {@code interrupt} is {@code true}
+   * and the result handler is failed when the blocking code returns.
+   *
+   * @param interrupt whether the thread running the task should be interrupted
+   * @return {@code true} when the task has been cancelled, {@code false} when it has already completed, been
+   *         skipped or been cancelled
+   */
+  boolean cancel(boolean interrupt);
+
+  /**
+   * @return whether the task has been cancelled
+   */
+  boolean isCancelled();
+
+}
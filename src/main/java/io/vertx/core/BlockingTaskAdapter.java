@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * The {@link BlockingTask} of the default {@code submitBlocking} implementations, built on {@code executeBlocking}.
+ * <p>
+ * The deadline and the cancellation are checked when the blocking code starts: a skipped task does not run its code
+ * and its result handler is failed at that time.
+ */
+class BlockingTaskAdapter<T> implements BlockingTask {
+
+  private static final int PENDING = 0, RUNNING = 1, DONE = 2, CANCELLED = 3, SKIPPED = 4;
+
+  /**
+   * Submit the blocking code with {@code executeBlocking}.
+   *
+   * @param executeBlocking the {@code executeBlocking} method to use
+   */
+  static <T> BlockingTask submit(Handler<Future<T>> blockingCodeHandler, long timeout,
+                                 Handler<AsyncResult<T>> resultHandler,
+                                 BiConsumer<Handler<Future<T>>, Handler<AsyncResult<T>>> executeBlocking) {
+    BlockingTaskAdapter<T> task = new BlockingTaskAdapter<>(blockingCodeHandler, timeout, resultHandler);
+    executeBlocking.accept(task::run, task::complete);
+    return task;
+  }
+
+  private final Handler<Future<T>> blockingCodeHandler;
+  private final Handler<AsyncResult<T>> resultHandler;
+  private final long timeout;
+  private final long deadline;
+  private final AtomicInteger status = new AtomicInteger(PENDING);
+  private volatile Thread runner;
+
+  private BlockingTaskAdapter(Handler<Future<T>> blockingCodeHandler, long timeout, Handler<AsyncResult<T>> resultHandler) {
+    this.blockingCodeHandler = blockingCodeHandler;
+    this.resultHandler = resultHandler;
+    this.timeout = timeout;
+    this.deadline = timeout > 0 ? System.nanoTime() + timeout * 1000000 : 0;
+  }
+
+  private void run(Future<T> future) {
+    if (deadline != 0 && System.nanoTime() - deadline > 0 && status.compareAndSet(PENDING, SKIPPED)) {
+      future.fail(new TimeoutException("Blocking task not started within " + timeout + " ms"));
+      return;
+    }
+    if (!status.compareAndSet(PENDING, RUNNING)) {
+      future.fail(new CancellationException());
+      return;
+    }
+    runner = Thread.currentThread();
+    try {
+      blockingCodeHandler.handle(future);
+    } finally {
+      runner = null;
+      if (!status.compareAndSet(RUNNING, DONE)) {
+        // Don't leak the interrupt of a cancelled task to the next task run by this thread
+        Thread.interrupted();
+      }
+    }
+  }
+
+  private void complete(AsyncResult<T> result) {
+    if (resultHandler != null) {
+      resultHandler.handle(status.get() == CANCELLED ? Future.failedFuture(new CancellationException()) : result);
+    }
+  }
+
+  @Override
+  public boolean cancel(boolean interrupt) {
+    if (status.compareAndSet(PENDING, CANCELLED)) {
+      return true;
+    }
+    if (status.compareAndSet(RUNNING, CANCELLED)) {
+      Thread thread = runner;
+      if (interrupt && thread != null) {
+        thread.interrupt();
+      }
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public boolean isCancelled() {
+    return status.get() == CANCELLED;
+  }
+}
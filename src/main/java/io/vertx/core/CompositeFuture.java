@@ -22,6 +22,7 @@ import io.vertx.core.impl.CompositeFutureImpl;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collector;
 
 /**
  * The composite future wraps a list of {@link Future futures}, it is useful when several futures
@@ -183,6 +184,28 @@ public interface CompositeFuture extends Future<CompositeFuture> {
     return CompositeFutureImpl.join(futures.toArray(new Future[futures.size()]));
   }
 
+  /**
+   * Like {@link #join(List)} but the returned future is completed with the results of the futures collected in
+   * the order of the list by the {@code collector}, it fails with the first failure of the futures.<p>
+   *
+   * No lock is taken as the futures complete. Each result is kept at the index of its future until the last future
+   * completes, the results are then folded in the order of the list by the {@code collector}.
+   *
+   * <pre>
+   * Future&lt;List&lt;String&gt;&gt; fut = CompositeFuture.join(futures, Collectors.toList());
+   * </pre>
+   *
+   * When the list is empty, the returned future will be already completed.
+   *
+   * @param futures the futures
+   * @param collector the collector of the results
+   * @return the future of the collected results
+   */
+  @GenIgnore
+  static <T, R> Future<R> join(List<Future<T>> futures, Collector<T, ?, R> collector) {
+    return CompositeFutureImpl.join(futures, collector);
+  }
+
   @Override
   CompositeFuture setHandler(Handler<AsyncResult<CompositeFuture>> handler);
 
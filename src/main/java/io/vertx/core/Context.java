@@ -131,6 +131,34 @@ public interface Context {
    */
   <T> void executeBlocking(Handler<Future<T>> blockingCodeHandler, Handler<AsyncResult<T>> resultHandler);
 
+  /**
+   * Like {@link #executeBlocking(Handler, boolean, Handler)} but the blocking code is given a deadline to start
+   * and the execution can be cancelled.
+   * <p>
+   * When the blocking code has not started within {@code timeout} ms, for instance because the worker pool
+   * is busy, it is skipped and the {@code resultHandler} is failed with a {@link java.util.concurrent.TimeoutException}
+   * as soon as the deadline passes.
+   * <p>
+   * The returned {@link BlockingTask} cancels the execution, see {@link BlockingTask#cancel(boolean)}.
+   * <p>
+   * The default implementation runs the blocking code with {@link #executeBlocking(Handler, boolean, Handler)}
+   * and checks the deadline when the blocking code starts, the {@code resultHandler} of a skipped task is failed
+   * at that time. Cancelling a task that has not started yet skips it in the same way.
+   *
+   * @param blockingCodeHandler  handler representing the blocking code to run
+   * @param ordered  if true then if executeBlocking is called several times on the same context, the executions
+   *                 for that context will be executed serially, not in parallel. if false then they will be no ordering
+   *                 guarantees
+   * @param timeout  the time in ms the blocking code can wait before it starts, a value {@code <= 0} means no deadline
+   * @param resultHandler  handler that will be called when the blocking code is complete, skipped or cancelled
+   * @param <T> the type of the result
+   * @return the task handle
+   */
+  default <T> BlockingTask submitBlocking(Handler<Future<T>> blockingCodeHandler, boolean ordered, long timeout, Handler<AsyncResult<T>> resultHandler) {
+    return BlockingTaskAdapter.submit(blockingCodeHandler, timeout, resultHandler,
+      (code, res) -> executeBlocking(code, ordered, res));
+  }
+
   /**
    * If the context is associated with a Verticle deployment, this returns the deployment ID of that deployment.
    *
@@ -207,6 +235,47 @@ public interface Context {
    */
   boolean remove(String key);
 
+  /**
+   * Get the value of a context local.
+   *
+   * @param local  the context local
+   * @param <T>  the type of the value
+   * @return the value or {@code null} when the local has no value on this context
+   */
+  @GenIgnore
+  default <T> T getLocal(ContextLocal<T> local) {
+    return get(local.key());
+  }
+
+  /**
+   * Put the value of a context local.
+   * <p>
+   * Like {@link #put(String, Object)} but the access to the value is a lot cheaper, see {@link ContextLocal}.
+   * <p>
+   * The default implementations of the context local methods store the value in the {@link #put(String, Object)}
+   * data of the context, the contexts created by Vert.x store it in an array indexed by the local.
+   *
+   * @param local  the context local
+   * @param value  the value
+   * @param <T>  the type of the value
+   */
+  @GenIgnore
+  default <T> void putLocal(ContextLocal<T> local, T value) {
+    put(local.key(), value);
+  }
+
+  /**
+   * Remove the value of a context local.
+   *
+   * @param local  the context local
+   * @param <T>  the type of the value
+   * @return true if removed successfully, false otherwise
+   */
+  @GenIgnore
+  default <T> boolean removeLocal(ContextLocal<T> local) {
+    return remove(local.key());
+  }
+
   /**
    * @return The Vertx instance that created the context
    */
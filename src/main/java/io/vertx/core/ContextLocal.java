@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A key of the context local storage, an alternative to the {@link Context#get(String)} / {@link Context#put(String, Object)}
+ * data of a context for data accessed frequently, e.g by a tracing library.
+ * <p>
+ * Each context local is assigned an index in the storage array of the contexts when it is created, accessing the
+ * value of a context is an array read: it does not hash the key and does not allocate. A context local is meant
+ * to be created once and kept in a static field, the storage array of the contexts is sized after the number
+ * of context locals created.
+ *
+ * <pre>
+ * private static final ContextLocal&lt;Span&gt; SPAN = new ContextLocal&lt;&gt;();
+ *
+ * Span span = SPAN.get(context);
+ * </pre>
+ *
+ * @param <T> the type of the value
+ */
+public final class ContextLocal<T> {
+
+  private static final AtomicInteger nextIndex = new AtomicInteger();
+
+  private final int index;
+  private final String key;
+
+  public ContextLocal() {
+    index = nextIndex.getAndIncrement();
+    key = "__vertx.contextLocal." + index;
+  }
+
+  /**
+   * @return the index of this local in the storage array of a context
+   */
+  public int index() {
+    return index;
+  }
+
+  /**
+   * @return the key of this local in the {@link Context#get(String)} / {@link Context#put(String, Object)} data,
+   *         used by the default implementations of the context local methods of {@link Context}
+   */
+  String key() {
+    return key;
+  }
+
+  /**
+   * @return the number of context locals created so far
+   */
+  public static int size() {
+    return nextIndex.get();
+  }
+
+  /**
+   * Like {@link Context#getLocal(ContextLocal)}.
+   */
+  public T get(Context context) {
+    return context.getLocal(this);
+  }
+
+  /**
+   * Like {@link Context#putLocal(ContextLocal, Object)}.
+   */
+  public void put(Context context, T value) {
+    context.putLocal(this, value);
+  }
+
+  /**
+   * Like {@link Context#removeLocal(ContextLocal)}.
+   */
+  public boolean remove(Context context) {
+    return context.removeLocal(this);
+  }
+}
@@ -38,6 +38,7 @@ public class DeploymentOptions {
   public static final String DEFAULT_ISOLATION_GROUP = null;
   public static final boolean DEFAULT_HA = false;
   public static final int DEFAULT_INSTANCES = 1;
+  public static final boolean DEFAULT_VIRTUAL_THREADS = false;
 
   private JsonObject config;
   private boolean worker;
@@ -46,6 +47,7 @@ public class DeploymentOptions {
   private String workerPoolName;
   private int workerPoolSize;
   private long maxWorkerExecuteTime;
+  private boolean virtualThreads;
   private boolean ha;
   private List<String> extraClasspath;
   private int instances;
@@ -64,6 +66,7 @@ public class DeploymentOptions {
     this.workerPoolName = null;
     this.workerPoolSize = VertxOptions.DEFAULT_WORKER_POOL_SIZE;
     this.maxWorkerExecuteTime = VertxOptions.DEFAULT_MAX_WORKER_EXECUTE_TIME;
+    this.virtualThreads = DEFAULT_VIRTUAL_THREADS;
   }
 
   /**
@@ -83,6 +86,7 @@ public class DeploymentOptions {
     this.workerPoolName = other.workerPoolName;
     setWorkerPoolSize(other.workerPoolSize);
     setMaxWorkerExecuteTime(other.maxWorkerExecuteTime);
+    this.virtualThreads = other.virtualThreads;
   }
 
   /**
@@ -357,6 +361,30 @@ public class DeploymentOptions {
     return this;
   }
 
+  /**
+   * @return whether the worker tasks of the verticle run on virtual threads
+   */
+  public boolean isVirtualThreads() {
+    return virtualThreads;
+  }
+
+  /**
+   * Set whether the worker tasks of the verticle run on virtual threads, i.e the tasks of a worker verticle and the
+   * blocking code executed with {@link Context#executeBlocking} by the verticle.
+   * <p>
+   * Each task runs on a new virtual thread instead of a thread of the worker pool, so many tasks can block concurrently
+   * without as many platform threads. The tasks are still ordered as usual. When the JVM does not support virtual
+   * threads, the worker pool is used instead. A verticle running on virtual threads can't use a named worker pool,
+   * such deployment fails with an {@link IllegalArgumentException}.
+   *
+   * @param virtualThreads true to run the worker tasks on virtual threads
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DeploymentOptions setVirtualThreads(boolean virtualThreads) {
+    this.virtualThreads = virtualThreads;
+    return this;
+  }
+
   /**
    * Convert this to JSON
    *
@@ -379,6 +407,7 @@ public class DeploymentOptions {
     if (multiThreaded != that.multiThreaded) return false;
     if (ha != that.ha) return false;
     if (instances != that.instances) return false;
+    if (virtualThreads != that.virtualThreads) return false;
     if (config != null ? !config.equals(that.config) : that.config != null) return false;
     if (isolationGroup != null ? !isolationGroup.equals(that.isolationGroup) : that.isolationGroup != null)
       return false;
@@ -401,6 +430,7 @@ public class DeploymentOptions {
     result = 31 * result + (workerPoolName != null ? workerPoolName.hashCode() : 0);
     result = 31 * result + workerPoolSize;
     result = 31 * result + Long.hashCode(maxWorkerExecuteTime);
+    result = 31 * result + (virtualThreads ? 1 : 0);
     return result;
   }
 }
@@ -520,6 +520,31 @@ public interface Vertx extends Measured {
    */
   <T> void executeBlocking(Handler<Future<T>> blockingCodeHandler, Handler<AsyncResult<T>> resultHandler);
 
+  /**
+   * Like {@link #executeBlocking(Handler, boolean, Handler)} but the blocking code is given a deadline to start
+   * and the execution can be cancelled.
+   * <p>
+   * When the blocking code has not started within {@code timeout} ms, for instance because the worker pool
+   * is busy, it is skipped and the {@code resultHandler} is failed with a {@link java.util.concurrent.TimeoutException}
+   * as soon as the deadline passes.
+   * <p>
+   * The returned {@link BlockingTask} cancels the execution, see {@link BlockingTask#cancel(boolean)}.
+   * <p>
+   * The default implementation submits the blocking code to the current context, see {@link #getOrCreateContext()}.
+   *
+   * @param blockingCodeHandler  handler representing the blocking code to run
+   * @param ordered  if true then if executeBlocking is called several times on the same context, the executions
+   *                 for that context will be executed serially, not in parallel. if false then they will be no ordering
+   *                 guarantees
+   * @param timeout  the time in ms the blocking code can wait before it starts, a value {@code <= 0} means no deadline
+   * @param resultHandler  handler that will be called when the blocking code is complete, skipped or cancelled
+   * @param <T> the type of the result
+   * @return the task handle
+   */
+  default <T> BlockingTask submitBlocking(Handler<Future<T>> blockingCodeHandler, boolean ordered, long timeout, Handler<AsyncResult<T>> resultHandler) {
+    return getOrCreateContext().submitBlocking(blockingCodeHandler, ordered, timeout, resultHandler);
+  }
+
   /**
    * Return the Netty EventLoopGroup used by Vert.x
    *
@@ -101,6 +101,36 @@ public class VertxOptions {
    */
   public static final long DEFAULT_MAX_WORKER_EXECUTE_TIME = 60L * 1000 * 1000000;
 
+  /**
+   * The default value of whether the worker pools are adaptive = false
+   */
+  public static final boolean DEFAULT_WORKER_POOL_ADAPTIVE = false;
+
+  /**
+   * The default minimum number of threads of an adaptive worker pool = 1
+   */
+  public static final int DEFAULT_WORKER_POOL_MIN_SIZE = 1;
+
+  /**
+   * The default target wait time of the tasks of an adaptive worker pool = 10000000 ns (10 ms)
+   */
+  public static final long DEFAULT_WORKER_POOL_TARGET_WAIT_TIME = 10L * 1000000;
+
+  /**
+   * The default keep alive time of the idle threads of an adaptive worker pool = 60000000000 ns (60 seconds)
+   */
+  public static final long DEFAULT_WORKER_POOL_KEEP_ALIVE_TIME = 60L * 1000 * 1000000;
+
+  /**
+   * The default value of whether the timers are scheduled with a timer wheel = false
+   */
+  public static final boolean DEFAULT_TIMER_WHEEL_ENABLED = false;
+
+  /**
+   * The default tick duration of the timer wheel = 10 ms
+   */
+  public static final long DEFAULT_TIMER_WHEEL_TICK_DURATION = 10;
+
   /**
    * The default value of quorum size = 1
    */
@@ -139,6 +169,12 @@ public class VertxOptions {
   private long blockedThreadCheckInterval = DEFAULT_BLOCKED_THREAD_CHECK_INTERVAL;
   private long maxEventLoopExecuteTime = DEFAULT_MAX_EVENT_LOOP_EXECUTE_TIME;
   private long maxWorkerExecuteTime = DEFAULT_MAX_WORKER_EXECUTE_TIME;
+  private boolean workerPoolAdaptive = DEFAULT_WORKER_POOL_ADAPTIVE;
+  private int workerPoolMinSize = DEFAULT_WORKER_POOL_MIN_SIZE;
+  private long workerPoolTargetWaitTime = DEFAULT_WORKER_POOL_TARGET_WAIT_TIME;
+  private long workerPoolKeepAliveTime = DEFAULT_WORKER_POOL_KEEP_ALIVE_TIME;
+  private boolean timerWheelEnabled = DEFAULT_TIMER_WHEEL_ENABLED;
+  private long timerWheelTickDuration = DEFAULT_TIMER_WHEEL_TICK_DURATION;
   private ClusterManager clusterManager;
   private boolean haEnabled = DEFAULT_HA_ENABLED;
   private int quorumSize = DEFAULT_QUORUM_SIZE;
@@ -167,6 +203,12 @@ public class VertxOptions {
     this.blockedThreadCheckInterval = other.getBlockedThreadCheckInterval();
     this.maxEventLoopExecuteTime = other.getMaxEventLoopExecuteTime();
     this.maxWorkerExecuteTime = other.getMaxWorkerExecuteTime();
+    this.workerPoolAdaptive = other.isWorkerPoolAdaptive();
+    this.workerPoolMinSize = other.getWorkerPoolMinSize();
+    this.workerPoolTargetWaitTime = other.getWorkerPoolTargetWaitTime();
+    this.workerPoolKeepAliveTime = other.getWorkerPoolKeepAliveTime();
+    this.timerWheelEnabled = other.isTimerWheelEnabled();
+    this.timerWheelTickDuration = other.getTimerWheelTickDuration();
     this.internalBlockingPoolSize = other.getInternalBlockingPoolSize();
     this.clusterManager = other.getClusterManager();
     this.haEnabled = other.isHAEnabled();
@@ -466,6 +508,139 @@ public class VertxOptions {
     return this;
   }
 
+  /**
+   * @return whether the worker pools are adaptive
+   */
+  public boolean isWorkerPoolAdaptive() {
+    return workerPoolAdaptive;
+  }
+
+  /**
+   * Set whether the worker pools are adaptive, i.e the worker pool and the named worker pools.
+   * <p>
+   * An adaptive worker pool starts with {@link #getWorkerPoolMinSize()} threads and grows up to its size when the
+   * tasks wait longer than {@link #getWorkerPoolTargetWaitTime()} before they start. It shrinks back when it has idle
+   * threads for {@link #getWorkerPoolKeepAliveTime()}.
+   *
+   * @param workerPoolAdaptive true when the worker pools are adaptive
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setWorkerPoolAdaptive(boolean workerPoolAdaptive) {
+    this.workerPoolAdaptive = workerPoolAdaptive;
+    return this;
+  }
+
+  /**
+   * @return the minimum number of threads of an adaptive worker pool
+   */
+  public int getWorkerPoolMinSize() {
+    return workerPoolMinSize;
+  }
+
+  /**
+   * Set the minimum number of threads of an adaptive worker pool, a pool smaller than this value is not resized.
+   *
+   * @param workerPoolMinSize the minimum number of threads
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setWorkerPoolMinSize(int workerPoolMinSize) {
+    if (workerPoolMinSize < 1) {
+      throw new IllegalArgumentException("workerPoolMinSize must be > 0");
+    }
+    this.workerPoolMinSize = workerPoolMinSize;
+    return this;
+  }
+
+  /**
+   * @return the time the tasks of an adaptive worker pool should wait at most before they start, in ns
+   */
+  public long getWorkerPoolTargetWaitTime() {
+    return workerPoolTargetWaitTime;
+  }
+
+  /**
+   * Set the time the tasks of an adaptive worker pool should wait at most before they start, in ns. The pool adds
+   * threads when the tasks wait longer.
+   *
+   * @param workerPoolTargetWaitTime the target wait time, in ns
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setWorkerPoolTargetWaitTime(long workerPoolTargetWaitTime) {
+    if (workerPoolTargetWaitTime < 1) {
+      throw new IllegalArgumentException("workerPoolTargetWaitTime must be > 0");
+    }
+    this.workerPoolTargetWaitTime = workerPoolTargetWaitTime;
+    return this;
+  }
+
+  /**
+   * @return the time an adaptive worker pool keeps idle threads, in ns
+   */
+  public long getWorkerPoolKeepAliveTime() {
+    return workerPoolKeepAliveTime;
+  }
+
+  /**
+   * Set the time an adaptive worker pool keeps idle threads, in ns. The pool removes a thread each time it had idle
+   * threads and no waiting tasks for this time.
+   *
+   * @param workerPoolKeepAliveTime the keep alive time, in ns
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setWorkerPoolKeepAliveTime(long workerPoolKeepAliveTime) {
+    if (workerPoolKeepAliveTime < 1) {
+      throw new IllegalArgumentException("workerPoolKeepAliveTime must be > 0");
+    }
+    this.workerPoolKeepAliveTime = workerPoolKeepAliveTime;
+    return this;
+  }
+
+  /**
+   * @return whether the timers are scheduled with a timer wheel
+   */
+  public boolean isTimerWheelEnabled() {
+    return timerWheelEnabled;
+  }
+
+  /**
+   * Set whether the timers created by {@link Vertx#setTimer}, {@link Vertx#setPeriodic} and their timer streams are
+   * scheduled with a hashed timer wheel of each event loop instead of the scheduled tasks of the event loop.
+   * <p>
+   * Arming and cancelling a timer of the wheel is a constant time operation, this suits applications managing a large
+   * number of timers that are mostly cancelled before they fire, e.g session timeouts. The timers fire with the
+   * precision of {@link #getTimerWheelTickDuration()}.
+   *
+   * @param timerWheelEnabled true when the timers are scheduled with a timer wheel
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setTimerWheelEnabled(boolean timerWheelEnabled) {
+    this.timerWheelEnabled = timerWheelEnabled;
+    return this;
+  }
+
+  /**
+   * @return the tick duration of the timer wheel, in ms
+   */
+  public long getTimerWheelTickDuration() {
+    return timerWheelTickDuration;
+  }
+
+  /**
+   * Set the tick duration of the timer wheel, in ms. A timer fires at most one tick after its delay.
+   * <p>
+   * The event bus reply timeouts are always scheduled with the timer wheel.
+   *
+   * @param timerWheelTickDuration the tick duration, in ms
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setTimerWheelTickDuration(long timerWheelTickDuration) {
+    if (timerWheelTickDuration < 1) {
+      throw new IllegalArgumentException("timerWheelTickDuration must be > 0");
+    }
+    this.timerWheelTickDuration = timerWheelTickDuration;
+    return this;
+  }
+
   /**
    * Get the cluster manager to be used when clustering.
    * <p>
@@ -711,6 +886,12 @@ public class VertxOptions {
     if (blockedThreadCheckInterval != that.blockedThreadCheckInterval) return false;
     if (maxEventLoopExecuteTime != that.maxEventLoopExecuteTime) return false;
     if (maxWorkerExecuteTime != that.maxWorkerExecuteTime) return false;
+    if (workerPoolAdaptive != that.workerPoolAdaptive) return false;
+    if (workerPoolMinSize != that.workerPoolMinSize) return false;
+    if (workerPoolTargetWaitTime != that.workerPoolTargetWaitTime) return false;
+    if (workerPoolKeepAliveTime != that.workerPoolKeepAliveTime) return false;
+    if (timerWheelEnabled != that.timerWheelEnabled) return false;
+    if (timerWheelTickDuration != that.timerWheelTickDuration) return false;
     if (haEnabled != that.haEnabled) return false;
     if (quorumSize != that.quorumSize) return false;
     if (warningExceptionTime != that.warningExceptionTime) return false;
@@ -734,6 +915,12 @@ public class VertxOptions {
     result = 31 * result + (int) (blockedThreadCheckInterval ^ (blockedThreadCheckInterval >>> 32));
     result = 31 * result + (int) (maxEventLoopExecuteTime ^ (maxEventLoopExecuteTime >>> 32));
     result = 31 * result + (int) (maxWorkerExecuteTime ^ (maxWorkerExecuteTime >>> 32));
+    result = 31 * result + (workerPoolAdaptive ? 1 : 0);
+    result = 31 * result + workerPoolMinSize;
+    result = 31 * result + (int) (workerPoolTargetWaitTime ^ (workerPoolTargetWaitTime >>> 32));
+    result = 31 * result + (int) (workerPoolKeepAliveTime ^ (workerPoolKeepAliveTime >>> 32));
+    result = 31 * result + (timerWheelEnabled ? 1 : 0);
+    result = 31 * result + (int) (timerWheelTickDuration ^ (timerWheelTickDuration >>> 32));
     result = 31 * result + (clusterManager != null ? clusterManager.hashCode() : 0);
     result = 31 * result + (haEnabled ? 1 : 0);
     result = 31 * result + (fileResolverCachingEnabled ? 1 : 0);
@@ -756,6 +943,12 @@ public class VertxOptions {
         ", blockedThreadCheckInterval=" + blockedThreadCheckInterval +
         ", maxEventLoopExecuteTime=" + maxEventLoopExecuteTime +
         ", maxWorkerExecuteTime=" + maxWorkerExecuteTime +
+        ", workerPoolAdaptive=" + workerPoolAdaptive +
+        ", workerPoolMinSize=" + workerPoolMinSize +
+        ", workerPoolTargetWaitTime=" + workerPoolTargetWaitTime +
+        ", workerPoolKeepAliveTime=" + workerPoolKeepAliveTime +
+        ", timerWheelEnabled=" + timerWheelEnabled +
+        ", timerWheelTickDuration=" + timerWheelTickDuration +
         ", clusterManager=" + clusterManager +
         ", haEnabled=" + haEnabled +
         ", fileCachingEnabled=" + fileResolverCachingEnabled +
@@ -61,6 +61,34 @@ public interface WorkerExecutor extends Measured {
     executeBlocking(blockingCodeHandler, true, resultHandler);
   }
 
+  /**
+   * Like {@link #executeBlocking(Handler, boolean, Handler)} but the blocking code is given a deadline to start
+   * and the execution can be cancelled.
+   * <p>
+   * When the blocking code has not started within {@code timeout} ms, for instance because the worker pool
+   * is busy, it is skipped and the {@code resultHandler} is failed with a {@link java.util.concurrent.TimeoutException}
+   * as soon as the deadline passes.
+   * <p>
+   * The returned {@link BlockingTask} cancels the execution, see {@link BlockingTask#cancel(boolean)}.
+   * <p>
+   * The default implementation runs the blocking code with {@link #executeBlocking(Handler, boolean, Handler)}
+   * and checks the deadline when the blocking code starts, the {@code resultHandler} of a skipped task is failed
+   * at that time. Cancelling a task that has not started yet skips it in the same way.
+   *
+   * @param blockingCodeHandler  handler representing the blocking code to run
+   * @param ordered  if true then if executeBlocking is called several times on the same context, the executions
+   *                 for that context will be executed serially, not in parallel. if false then they will be no ordering
+   *                 guarantees
+   * @param timeout  the time in ms the blocking code can wait before it starts, a value {@code <= 0} means no deadline
+   * @param resultHandler  handler that will be called when the blocking code is complete, skipped or cancelled
+   * @param <T> the type of the result
+   * @return the task handle
+   */
+  default <T> BlockingTask submitBlocking(Handler<Future<T>> blockingCodeHandler, boolean ordered, long timeout, Handler<AsyncResult<T>> resultHandler) {
+    return BlockingTaskAdapter.submit(blockingCodeHandler, timeout, resultHandler,
+      (code, res) -> executeBlocking(code, ordered, res));
+  }
+
   /**
    * Close the executor.
    */
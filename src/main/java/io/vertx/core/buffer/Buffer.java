@@ -675,6 +675,20 @@ public interface Buffer extends ClusterSerializable {
    */
   Buffer copy();
 
+  /**
+   * Returns a read-only copy of this buffer. The copy is taken once and rejects any modification with a
+   * {@link java.nio.ReadOnlyBufferException}. Read-only copies are not copied again when sent on the event bus,
+   * so they can be handed to several handlers as is.
+   *
+   * @return the read-only copy, or this buffer when it is already a read-only copy
+   */
+  Buffer readOnlyCopy();
+
+  /**
+   * @return true if this buffer is a read-only copy
+   */
+  boolean isReadOnly();
+
   /**
    * Returns a slice of this buffer. Modifying the content
    * of the returned buffer or this buffer affects each other's content
@@ -35,6 +35,7 @@ import java.util.Objects;
 public class BufferImpl implements Buffer {
 
   private ByteBuf buffer;
+  private boolean readOnly;
 
   public BufferImpl() {
     this(0);
@@ -462,6 +463,19 @@ public class BufferImpl implements Buffer {
     return new BufferImpl(buffer.copy());
   }
 
+  public Buffer readOnlyCopy() {
+    if (readOnly) {
+      return this;
+    }
+    BufferImpl copy = new BufferImpl(buffer.copy().asReadOnly());
+    copy.readOnly = true;
+    return copy;
+  }
+
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
   public Buffer slice() {
     return new BufferImpl(buffer.slice());
   }
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * The compression of the message bodies sent to the other nodes of the cluster.
+ */
+@VertxGen
+public enum ClusterCompression {
+
+  /**
+   * The bodies are not compressed.
+   */
+  NONE,
+
+  /**
+   * The bodies are compressed with the zlib format of {@link java.util.zip.Deflater}.
+   */
+  DEFLATE,
+
+  /**
+   * The bodies are compressed with the GZIP format.
+   */
+  GZIP
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * The policy applied when a message is sent to a cluster node whose connection queue is full.
+ */
+@VertxGen
+public enum ClusterOverflowPolicy {
+
+  /**
+   * The message is not sent, the sender is notified with a {@link ReplyFailure#QUEUE_FULL} failure when it expects
+   * a reply.
+   */
+  FAIL,
+
+  /**
+   * The oldest queued message is discarded to make room for the message.
+   */
+  DROP_OLDEST,
+
+  /**
+   * The message of a {@link MessageProducer} is queued anyway, the producer sending to the node reports its write
+   * queue as full until the connection queue is drained. The other messages are handled as with {@link #FAIL}.
+   */
+  BLOCK
+}
@@ -38,6 +38,65 @@ public class EventBusOptions extends TCPSSLOptions {
   private long clusterPingInterval = VertxOptions.DEFAULT_CLUSTER_PING_INTERVAL;
   private long clusterPingReplyInterval = VertxOptions.DEFAULT_CLUSTER_PING_REPLY_INTERVAL;
 
+  /**
+   * The default value of whether the cluster routing cache is enabled = false
+   */
+  public static final boolean DEFAULT_CLUSTER_ROUTING_CACHE = false;
+
+  /**
+   * The default maximum age of a cluster routing cache entry = 100 ms
+   */
+  public static final long DEFAULT_CLUSTER_ROUTING_CACHE_MAX_AGE = 100;
+
+  private boolean clusterRoutingCache = DEFAULT_CLUSTER_ROUTING_CACHE;
+  private long clusterRoutingCacheMaxAge = DEFAULT_CLUSTER_ROUTING_CACHE_MAX_AGE;
+
+  /**
+   * The default number of connections opened to each cluster node = 1
+   */
+  public static final int DEFAULT_CLUSTER_CONNECTIONS_PER_PEER = 1;
+
+  private int clusterConnectionsPerPeer = DEFAULT_CLUSTER_CONNECTIONS_PER_PEER;
+
+  /**
+   * The default compression of the message bodies sent to the cluster = NONE
+   */
+  public static final ClusterCompression DEFAULT_CLUSTER_COMPRESSION = ClusterCompression.NONE;
+
+  /**
+   * The default size above which message bodies are compressed = 1024 bytes
+   */
+  public static final int DEFAULT_CLUSTER_COMPRESSION_THRESHOLD = 1024;
+
+  /**
+   * The default compression level = 6
+   */
+  public static final int DEFAULT_CLUSTER_COMPRESSION_LEVEL = 6;
+
+  private ClusterCompression clusterCompression = DEFAULT_CLUSTER_COMPRESSION;
+  private int clusterCompressionThreshold = DEFAULT_CLUSTER_COMPRESSION_THRESHOLD;
+  private int clusterCompressionLevel = DEFAULT_CLUSTER_COMPRESSION_LEVEL;
+
+  /**
+   * The default maximum number of messages queued for a cluster connection = -1 (unbounded)
+   */
+  public static final int DEFAULT_CLUSTER_MAX_QUEUE_SIZE = -1;
+
+  /**
+   * The default policy applied when a cluster connection queue is full = FAIL
+   */
+  public static final ClusterOverflowPolicy DEFAULT_CLUSTER_OVERFLOW_POLICY = ClusterOverflowPolicy.FAIL;
+
+  private int clusterMaxQueueSize = DEFAULT_CLUSTER_MAX_QUEUE_SIZE;
+  private ClusterOverflowPolicy clusterOverflowPolicy = DEFAULT_CLUSTER_OVERFLOW_POLICY;
+
+  /**
+   * The default event loop affinity of point-to-point messages = false
+   */
+  public static final boolean DEFAULT_EVENT_LOOP_AFFINITY = false;
+
+  private boolean eventLoopAffinity = DEFAULT_EVENT_LOOP_AFFINITY;
+
   // Attributes used to configure the server of the event bus when the event bus is clustered.
 
   /**
@@ -126,6 +185,15 @@ public class EventBusOptions extends TCPSSLOptions {
     this.clusterPublicPort = other.clusterPublicPort;
     this.clusterPingInterval = other.clusterPingInterval;
     this.clusterPingReplyInterval = other.clusterPingReplyInterval;
+    this.clusterRoutingCache = other.clusterRoutingCache;
+    this.clusterRoutingCacheMaxAge = other.clusterRoutingCacheMaxAge;
+    this.clusterConnectionsPerPeer = other.clusterConnectionsPerPeer;
+    this.clusterCompression = other.clusterCompression;
+    this.clusterCompressionThreshold = other.clusterCompressionThreshold;
+    this.clusterCompressionLevel = other.clusterCompressionLevel;
+    this.clusterMaxQueueSize = other.clusterMaxQueueSize;
+    this.clusterOverflowPolicy = other.clusterOverflowPolicy;
+    this.eventLoopAffinity = other.eventLoopAffinity;
 
     this.port = other.port;
     this.host = other.host;
@@ -535,6 +603,203 @@ public class EventBusOptions extends TCPSSLOptions {
     return this;
   }
 
+  /**
+   * @return whether the cluster routing cache is enabled
+   */
+  public boolean isClusterRoutingCache() {
+    return clusterRoutingCache;
+  }
+
+  /**
+   * Set whether the clustered event bus maintains a node-local routing cache of the cluster subscriptions.
+   * <p>
+   * When enabled, the nodes subscribed to an address are looked up in the cluster subscription map once and then
+   * resolved locally for the following messages. The cache is updated when this node registers or unregisters
+   * handlers and when nodes join or leave the cluster. Subscription changes made by other nodes are observed
+   * when an entry is refreshed, after at most {@link #getClusterRoutingCacheMaxAge()} ms.
+   *
+   * @param clusterRoutingCache true to enable the cache
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterRoutingCache(boolean clusterRoutingCache) {
+    this.clusterRoutingCache = clusterRoutingCache;
+    return this;
+  }
+
+  /**
+   * @return the maximum age of a cluster routing cache entry, in ms
+   */
+  public long getClusterRoutingCacheMaxAge() {
+    return clusterRoutingCacheMaxAge;
+  }
+
+  /**
+   * Set the maximum age of a cluster routing cache entry, in ms. An older entry is still used to route messages
+   * but it is refreshed from the cluster subscription map.
+   *
+   * @param clusterRoutingCacheMaxAge the maximum age, in ms
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterRoutingCacheMaxAge(long clusterRoutingCacheMaxAge) {
+    if (clusterRoutingCacheMaxAge < 1) {
+      throw new IllegalArgumentException("clusterRoutingCacheMaxAge must be greater than 0");
+    }
+    this.clusterRoutingCacheMaxAge = clusterRoutingCacheMaxAge;
+    return this;
+  }
+
+  /**
+   * @return the number of connections opened to each cluster node
+   */
+  public int getClusterConnectionsPerPeer() {
+    return clusterConnectionsPerPeer;
+  }
+
+  /**
+   * Set the number of connections opened to each cluster node.
+   * <p>
+   * Messages are spread over the connections by address, so the messages sent to an address keep their order. The
+   * connections are handled by different event loops, on both the sending and the receiving node.
+   *
+   * @param clusterConnectionsPerPeer the number of connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterConnectionsPerPeer(int clusterConnectionsPerPeer) {
+    if (clusterConnectionsPerPeer < 1) {
+      throw new IllegalArgumentException("clusterConnectionsPerPeer must be greater than 0");
+    }
+    this.clusterConnectionsPerPeer = clusterConnectionsPerPeer;
+    return this;
+  }
+
+  /**
+   * @return the compression of the message bodies sent to the cluster
+   */
+  public ClusterCompression getClusterCompression() {
+    return clusterCompression;
+  }
+
+  /**
+   * Set the compression of the message bodies sent to the other nodes of the cluster. Only the bodies larger than
+   * {@link #getClusterCompressionThreshold()} are compressed, the receiving node decompresses a body when it is
+   * read.
+   * <p>
+   * Bodies are compressed only on connections using the version 2 of the wire protocol, i.e when the other node
+   * supports it.
+   *
+   * @param clusterCompression the compression
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterCompression(ClusterCompression clusterCompression) {
+    this.clusterCompression = clusterCompression;
+    return this;
+  }
+
+  /**
+   * @return the size above which message bodies are compressed, in bytes
+   */
+  public int getClusterCompressionThreshold() {
+    return clusterCompressionThreshold;
+  }
+
+  /**
+   * Set the size above which message bodies are compressed, in bytes.
+   *
+   * @param clusterCompressionThreshold the threshold, in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterCompressionThreshold(int clusterCompressionThreshold) {
+    if (clusterCompressionThreshold < 0) {
+      throw new IllegalArgumentException("clusterCompressionThreshold must be >= 0");
+    }
+    this.clusterCompressionThreshold = clusterCompressionThreshold;
+    return this;
+  }
+
+  /**
+   * @return the compression level
+   */
+  public int getClusterCompressionLevel() {
+    return clusterCompressionLevel;
+  }
+
+  /**
+   * Set the compression level, from {@code 0} (no compression) to {@code 9} (best compression).
+   *
+   * @param clusterCompressionLevel the compression level
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterCompressionLevel(int clusterCompressionLevel) {
+    if (clusterCompressionLevel < 0 || clusterCompressionLevel > 9) {
+      throw new IllegalArgumentException("clusterCompressionLevel must be between 0 and 9");
+    }
+    this.clusterCompressionLevel = clusterCompressionLevel;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of messages queued for a cluster connection
+   */
+  public int getClusterMaxQueueSize() {
+    return clusterMaxQueueSize;
+  }
+
+  /**
+   * Set the maximum number of messages queued for a cluster connection, i.e sent to the node but not yet written
+   * to the socket. Messages are written only while the socket is writable, so a node that does not read fast
+   * enough makes the queue of its connection grow up to this size, then {@link #getClusterOverflowPolicy()}
+   * applies. If set to -1 the queue is unbounded.
+   *
+   * @param clusterMaxQueueSize the maximum number of messages, or {@code -1}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterMaxQueueSize(int clusterMaxQueueSize) {
+    if (clusterMaxQueueSize < 1 && clusterMaxQueueSize != -1) {
+      throw new IllegalArgumentException("clusterMaxQueueSize must be > 0 or -1");
+    }
+    this.clusterMaxQueueSize = clusterMaxQueueSize;
+    return this;
+  }
+
+  /**
+   * @return the policy applied when a cluster connection queue is full
+   */
+  public ClusterOverflowPolicy getClusterOverflowPolicy() {
+    return clusterOverflowPolicy;
+  }
+
+  /**
+   * Set the policy applied when a message is sent to a cluster node whose connection queue has reached
+   * {@link #getClusterMaxQueueSize()}.
+   *
+   * @param clusterOverflowPolicy the policy
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterOverflowPolicy(ClusterOverflowPolicy clusterOverflowPolicy) {
+    this.clusterOverflowPolicy = clusterOverflowPolicy;
+    return this;
+  }
+
+  /**
+   * @return whether point-to-point messages are delivered in priority to a consumer of the sender event loop
+   */
+  public boolean isEventLoopAffinity() {
+    return eventLoopAffinity;
+  }
+
+  /**
+   * Set whether a message sent from an event loop is delivered in priority to a consumer running on the same event
+   * loop, which avoids a handoff between threads. When no such consumer is registered for the address, or when it
+   * has too many messages waiting to be handled, the consumer is chosen in a round robin fashion as usual.
+   *
+   * @param eventLoopAffinity true to prefer the consumers of the sender event loop
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setEventLoopAffinity(boolean eventLoopAffinity) {
+    this.eventLoopAffinity = eventLoopAffinity;
+    return this;
+  }
+
   /**
    * Get the public facing port to be used when clustering.
    * <p>
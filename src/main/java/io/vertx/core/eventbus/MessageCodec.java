@@ -60,6 +60,9 @@ public interface MessageCodec<S, R> {
   /**
    * If a message is sent <i>locally</i> across the event bus, this method is called to transform the message from
    * the sent type S to the received type R
+   * <p>
+   * It is called once for each handler receiving the message. When the sent object is immutable it can be returned
+   * as is, so a message published to several handlers is not copied for each of them.
    *
    * @param s  the sent message
    * @return  the transformed message
@@ -21,6 +21,9 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.streams.ReadStream;
 
+import java.util.Objects;
+import java.util.function.Function;
+
 /**
  * An event bus consumer object representing a stream of message to an {@link EventBus} address that can
  * be read from.
@@ -82,6 +85,31 @@ public interface MessageConsumer<T> extends ReadStream<Message<T>> {
    */
   int getMaxBufferedMessages();
 
+  /**
+   * Handle the messages on {@code concurrency} lanes running in parallel. The {@code keyExtractor} gives the key of
+   * each message, the messages with the same key are handled in order on the same lane while messages with different
+   * keys can be handled in parallel on different lanes.
+   * <p>
+   * The lanes run on the worker pool of the consumer context, also when it is an event loop context: like blocking
+   * code, the handler is called on worker threads with the consumer context as current context and it can be called
+   * concurrently by several lanes. Each lane queues up to {@link #getMaxBufferedMessages()} divided by
+   * {@code concurrency} messages, the messages of a full lane are buffered as when the consumer is paused.
+   * <p>
+   * This must be called before the handler is set. The default implementation does not partition the messages, they
+   * are all handled in order as if there was a single lane.
+   *
+   * @param keyExtractor the function returning the key of a message
+   * @param concurrency the number of lanes
+   * @return this registration
+   */
+  default MessageConsumer<T> partitionBy(Function<Message<T>, String> keyExtractor, int concurrency) {
+    Objects.requireNonNull(keyExtractor);
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("Concurrency must be > 0");
+    }
+    return this;
+  }
+
   /**
    * Optional method which can be called to indicate when the registration has been propagated across the cluster.
    *
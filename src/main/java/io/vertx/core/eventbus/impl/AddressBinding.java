@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus.impl;
+
+import io.vertx.core.eventbus.MessageCodec;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The state of an address resolved by a {@link MessageProducerImpl} and reused for the messages it sends: the codec
+ * of the last type of body sent and the local handlers of the address.
+ * <p>
+ * The binding can be used from any thread: the codec is replaced as a whole when the producer sends another type of
+ * body.
+ */
+class AddressBinding {
+
+  final String address;
+  private volatile ResolvedCodec resolvedCodec;
+  private volatile Handlers handlers;
+
+  AddressBinding(String address) {
+    this.address = address;
+  }
+
+  /**
+   * @return the codec resolved for the previous body, or {@code null} when the type of the body, the codec name or
+   *         the registered codecs changed since then
+   */
+  MessageCodec codec(Object body, String codecName, int codecsVersion) {
+    ResolvedCodec resolved = resolvedCodec;
+    if (resolved != null && body != null && body.getClass() == resolved.bodyClass
+      && codecsVersion == resolved.codecsVersion && Objects.equals(codecName, resolved.codecName)) {
+      return resolved.codec;
+    }
+    return null;
+  }
+
+  void setCodec(Object body, String codecName, int codecsVersion, MessageCodec codec) {
+    if (body != null) {
+      resolvedCodec = new ResolvedCodec(body.getClass(), codecName, codecsVersion, codec);
+    }
+  }
+
+  /**
+   * The handlers of an address are removed from the map when the last one is unregistered and new handlers are
+   * created when the address is registered again, so the handlers are looked up again once they are empty.
+   *
+   * @return the local handlers of the address
+   */
+  Handlers handlers(ConcurrentMap<String, Handlers> handlerMap) {
+    Handlers h = handlers;
+    if (h == null || h.list.isEmpty()) {
+      h = handlerMap.get(address);
+      handlers = h;
+    }
+    return h;
+  }
+
+  private static class ResolvedCodec {
+
+    final Class<?> bodyClass;
+    final String codecName;
+    final int codecsVersion;
+    final MessageCodec codec;
+
+    ResolvedCodec(Class<?> bodyClass, String codecName, int codecsVersion, MessageCodec codec) {
+      this.bodyClass = bodyClass;
+      this.codecName = codecName;
+      this.codecsVersion = codecsVersion;
+      this.codec = codec;
+    }
+  }
+}
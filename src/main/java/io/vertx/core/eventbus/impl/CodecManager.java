@@ -10,6 +10,7 @@ import io.vertx.core.json.JsonObject;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -37,6 +38,8 @@ public class CodecManager {
   private final MessageCodec[] systemCodecs;
   private final ConcurrentMap<String, MessageCodec> userCodecMap = new ConcurrentHashMap<>();
   private final ConcurrentMap<Class, MessageCodec> defaultCodecMap = new ConcurrentHashMap<>();
+  // Incremented when the codecs change, so the codecs resolved by the producers can be checked
+  private final AtomicInteger version = new AtomicInteger();
 
   public CodecManager() {
     this.systemCodecs = codecs(NULL_MESSAGE_CODEC, PING_MESSAGE_CODEC, STRING_MESSAGE_CODEC, BUFFER_MESSAGE_CODEC, JSON_OBJECT_MESSAGE_CODEC, JSON_ARRAY_MESSAGE_CODEC,
@@ -105,11 +108,13 @@ public class CodecManager {
       throw new IllegalStateException("Already a codec registered with name " + codec.name());
     }
     userCodecMap.put(codec.name(), codec);
+    version.incrementAndGet();
   }
 
   public void unregisterCodec(String name) {
     Objects.requireNonNull(name);
     userCodecMap.remove(name);
+    version.incrementAndGet();
   }
 
   public <T> void registerDefaultCodec(Class<T> clazz, MessageCodec<T, ?> codec) {
@@ -125,6 +130,7 @@ public class CodecManager {
     }
     defaultCodecMap.put(clazz, codec);
     userCodecMap.put(codec.name(), codec);
+    version.incrementAndGet();
   }
 
   public void unregisterDefaultCodec(Class clazz) {
@@ -133,6 +139,14 @@ public class CodecManager {
     if (codec != null) {
       userCodecMap.remove(codec.name());
     }
+    version.incrementAndGet();
+  }
+
+  /**
+   * @return a number changing each time a codec is registered or unregistered
+   */
+  public int version() {
+    return version.get();
   }
 
   public MessageCodec[] systemCodecs() {
@@ -16,6 +16,7 @@
 
 package io.vertx.core.eventbus.impl;
 
+import io.netty.channel.EventLoop;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Closeable;
 import io.vertx.core.Context;
@@ -25,6 +26,7 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.EventBusOptions;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageCodec;
 import io.vertx.core.eventbus.MessageConsumer;
@@ -32,6 +34,7 @@ import io.vertx.core.eventbus.MessageProducer;
 import io.vertx.core.eventbus.ReplyException;
 import io.vertx.core.eventbus.ReplyFailure;
 import io.vertx.core.eventbus.SendContext;
+import io.vertx.core.impl.ContextImpl;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -39,12 +42,12 @@ import io.vertx.core.spi.metrics.EventBusMetrics;
 import io.vertx.core.spi.metrics.MetricsProvider;
 import io.vertx.core.spi.metrics.VertxMetrics;
 
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -56,29 +59,45 @@ public class EventBusImpl implements EventBus, MetricsProvider {
 
   private static final Logger log = LoggerFactory.getLogger(EventBusImpl.class);
 
-  private final List<Handler<SendContext>> interceptors = new CopyOnWriteArrayList<>();
+  // Copied on write so a message is sent through the interceptors without allocating an iterator
+  @SuppressWarnings("unchecked")
+  private volatile Handler<SendContext>[] interceptors = new Handler[0];
   private final AtomicLong replySequence = new AtomicLong(0);
   protected final VertxInternal vertx;
   protected final EventBusMetrics metrics;
   protected final ConcurrentMap<String, Handlers> handlerMap = new ConcurrentHashMap<>();
+  // Reply handlers are correlated by reply address outside of the handler map
+  protected final ConcurrentMap<String, HandlerHolder> replyHandlers = new ConcurrentHashMap<>();
   protected final CodecManager codecManager = new CodecManager();
   protected volatile boolean started;
+  private final boolean eventLoopAffinity;
 
   public EventBusImpl(VertxInternal vertx) {
+    this(vertx, new EventBusOptions());
+  }
+
+  public EventBusImpl(VertxInternal vertx, EventBusOptions options) {
     VertxMetrics metrics = vertx.metricsSPI();
     this.vertx = vertx;
     this.metrics = metrics != null ? metrics.createMetrics(this) : null;
+    this.eventLoopAffinity = options.isEventLoopAffinity();
   }
 
   @Override
-  public EventBus addInterceptor(Handler<SendContext> interceptor) {
-    interceptors.add(interceptor);
+  public synchronized EventBus addInterceptor(Handler<SendContext> interceptor) {
+    Handler<SendContext>[] chain = Arrays.copyOf(interceptors, interceptors.length + 1);
+    chain[interceptors.length] = interceptor;
+    interceptors = chain;
     return this;
   }
 
   @Override
-  public EventBus removeInterceptor(Handler<SendContext> interceptor) {
-    interceptors.remove(interceptor);
+  @SuppressWarnings("unchecked")
+  public synchronized EventBus removeInterceptor(Handler<SendContext> interceptor) {
+    List<Handler<SendContext>> chain = new ArrayList<>(Arrays.asList(interceptors));
+    if (chain.remove(interceptor)) {
+      interceptors = chain.toArray(new Handler[chain.size()]);
+    }
     return this;
   }
 
@@ -107,7 +126,7 @@ public class EventBusImpl implements EventBus, MetricsProvider {
 
   @Override
   public <T> EventBus send(String address, Object message, DeliveryOptions options, Handler<AsyncResult<Message<T>>> replyHandler) {
-    sendOrPubInternal(createMessage(true, address, options.getHeaders(), message, options.getCodecName()), options, replyHandler);
+    sendOrPubInternal(createMessage(true, address, options.getHeaders(), message, options.getCodecName()), options, null, replyHandler);
     return this;
   }
 
@@ -144,7 +163,7 @@ public class EventBusImpl implements EventBus, MetricsProvider {
 
   @Override
   public EventBus publish(String address, Object message, DeliveryOptions options) {
-    sendOrPubInternal(createMessage(false, address, options.getHeaders(), message, options.getCodecName()), options, null);
+    sendOrPubInternal(createMessage(false, address, options.getHeaders(), message, options.getCodecName()), options, null, null);
     return this;
   }
 
@@ -227,14 +246,53 @@ public class EventBusImpl implements EventBus, MetricsProvider {
   protected MessageImpl createMessage(boolean send, String address, MultiMap headers, Object body, String codecName) {
     Objects.requireNonNull(address, "no null address accepted");
     MessageCodec codec = codecManager.lookupCodec(body, codecName);
+    return newMessage(send, address, headers, body, codec);
+  }
+
+  protected MessageImpl newMessage(boolean send, String address, MultiMap headers, Object body, MessageCodec codec) {
     @SuppressWarnings("unchecked")
     MessageImpl msg = new MessageImpl(address, null, headers, body, codec, send, this);
     return msg;
   }
 
+  /**
+   * @return whether the codec of a body can be reused for the next bodies of the same type sent by a producer
+   */
+  protected boolean isCodecReusable(Object body) {
+    return true;
+  }
+
+  private MessageImpl createMessage(boolean send, AddressBinding binding, MultiMap headers, Object body, String codecName) {
+    int codecsVersion = codecManager.version();
+    MessageCodec codec = binding.codec(body, codecName, codecsVersion);
+    if (codec == null) {
+      if (!isCodecReusable(body)) {
+        return createMessage(send, binding.address, headers, body, codecName);
+      }
+      codec = codecManager.lookupCodec(body, codecName);
+      binding.setCodec(body, codecName, codecsVersion, codec);
+    }
+    return newMessage(send, binding.address, headers, body, codec);
+  }
+
+  /**
+   * Send or publish a message from a producer, the codec and the handlers resolved for the address of the producer are
+   * reused from the previous messages.
+   */
+  <T> void sendOrPub(AddressBinding binding, boolean send, Object body, DeliveryOptions options,
+                     Handler<AsyncResult<Message<T>>> replyHandler) {
+    sendOrPubInternal(createMessage(send, binding, options.getHeaders(), body, options.getCodecName()), options,
+      binding, replyHandler);
+  }
+
   protected <T> void addRegistration(String address, HandlerRegistration<T> registration,
                                      boolean replyHandler, boolean localOnly) {
     Objects.requireNonNull(registration.getHandler(), "handler");
+    if (replyHandler) {
+      addReplyRegistration(address, registration);
+      registration.setResult(Future.succeededFuture());
+      return;
+    }
     boolean newAddress = addLocalRegistration(address, registration, replyHandler, localOnly);
     addRegistration(newAddress, address, replyHandler, localOnly, registration::setResult);
   }
@@ -245,6 +303,20 @@ public class EventBusImpl implements EventBus, MetricsProvider {
     completionHandler.handle(Future.succeededFuture());
   }
 
+  private <T> void addReplyRegistration(String address, HandlerRegistration<T> registration) {
+    Context context = Vertx.currentContext();
+    boolean hasContext = context != null;
+    if (!hasContext) {
+      // Embedded
+      context = vertx.getOrCreateContext();
+    }
+    registration.setHandlerContext(context);
+    replyHandlers.put(address, new HandlerHolder<>(metrics, registration, true, true, context));
+    if (hasContext) {
+      context.addCloseHook(new HandlerEntry<>(address, registration));
+    }
+  }
+
   protected <T> boolean addLocalRegistration(String address, HandlerRegistration<T> registration,
                                              boolean replyHandler, boolean localOnly) {
     Objects.requireNonNull(address, "address");
@@ -291,6 +363,15 @@ public class EventBusImpl implements EventBus, MetricsProvider {
   }
 
   protected <T> HandlerHolder removeLocalRegistration(String address, HandlerRegistration<T> handler) {
+    HandlerHolder replyHolder = replyHandlers.get(address);
+    if (replyHolder != null && replyHolder.getHandler() == handler) {
+      if (replyHandlers.remove(address, replyHolder)) {
+        replyHolder.setRemoved();
+        replyHolder.getContext().removeCloseHook(new HandlerEntry<>(address, handler));
+        return replyHolder;
+      }
+      return null;
+    }
     Handlers handlers = handlerMap.get(address);
     HandlerHolder lastHolder = null;
     if (handlers != null) {
@@ -364,7 +445,7 @@ public class EventBusImpl implements EventBus, MetricsProvider {
   }
 
   protected <T> void deliverMessageLocally(SendContextImpl<T> sendContext) {
-    if (!deliverMessageLocally(sendContext.message)) {
+    if (!deliverMessageLocally(sendContext.message, sendContext.binding)) {
       // no handlers
       if (metrics != null) {
         metrics.replyFailure(sendContext.message.address, ReplyFailure.NO_HANDLERS);
@@ -381,12 +462,26 @@ public class EventBusImpl implements EventBus, MetricsProvider {
   }
 
   protected <T> boolean deliverMessageLocally(MessageImpl msg) {
+    return deliverMessageLocally(msg, null);
+  }
+
+  private boolean deliverMessageLocally(MessageImpl msg, AddressBinding binding) {
     msg.setBus(this);
-    Handlers handlers = handlerMap.get(msg.address());
+    if (!replyHandlers.isEmpty()) {
+      HandlerHolder replyHolder = replyHandlers.get(msg.address());
+      if (replyHolder != null) {
+        if (metrics != null) {
+          metrics.messageReceived(msg.address(), !msg.isSend(), isMessageLocal(msg), 1);
+        }
+        deliverToHandler(msg, replyHolder);
+        return true;
+      }
+    }
+    Handlers handlers = binding != null ? binding.handlers(handlerMap) : handlerMap.get(msg.address());
     if (handlers != null) {
       if (msg.isSend()) {
         //Choose one
-        HandlerHolder holder = handlers.choose();
+        HandlerHolder holder = chooseHandler(handlers);
         if (metrics != null) {
           metrics.messageReceived(msg.address(), !msg.isSend(), isMessageLocal(msg), holder != null ? 1 : 0);
         }
@@ -411,6 +506,31 @@ public class EventBusImpl implements EventBus, MetricsProvider {
     }
   }
 
+  private HandlerHolder chooseHandler(Handlers handlers) {
+    if (eventLoopAffinity && ContextImpl.isOnEventLoopThread()) {
+      ContextImpl context = vertx.getContext();
+      if (context != null && context.isEventLoopContext()) {
+        return handlers.choose(context.nettyEventLoop());
+      }
+    }
+    return handlers.choose();
+  }
+
+  /**
+   * @return whether the messages sent to the {@code address} are queued faster than they are written to the
+   *         other nodes, the local event bus never queues messages
+   */
+  protected boolean writeQueueFull(String address) {
+    return false;
+  }
+
+  /**
+   * Set a one-shot handler called when the messages queued for the {@code address} are drained.
+   */
+  protected void writeQueueDrainHandler(String address, Handler<Void> handler) {
+    handler.handle(null);
+  }
+
   protected void checkStarted() {
     if (!started) {
       throw new IllegalStateException("Event Bus is not started");
@@ -438,11 +558,11 @@ public class EventBusImpl implements EventBus, MetricsProvider {
     }
   }
 
-  private <T> void sendOrPubInternal(MessageImpl message, DeliveryOptions options,
+  private <T> void sendOrPubInternal(MessageImpl message, DeliveryOptions options, AddressBinding binding,
                                      Handler<AsyncResult<Message<T>>> replyHandler) {
     checkStarted();
     HandlerRegistration<T> replyHandlerRegistration = createReplyHandlerRegistration(message, options, replyHandler);
-    SendContextImpl<T> sendContext = new SendContextImpl<>(message, options, replyHandlerRegistration);
+    SendContextImpl<T> sendContext = new SendContextImpl<>(message, options, replyHandlerRegistration, binding);
     sendContext.next();
   }
 
@@ -451,13 +571,35 @@ public class EventBusImpl implements EventBus, MetricsProvider {
     public final MessageImpl message;
     public final DeliveryOptions options;
     public final HandlerRegistration<T> handlerRegistration;
-    public final Iterator<Handler<SendContext>> iter;
+    final AddressBinding binding;
+    private final Handler<SendContext>[] chain;
+    private int index;
 
     public SendContextImpl(MessageImpl message, DeliveryOptions options, HandlerRegistration<T> handlerRegistration) {
+      this(message, options, handlerRegistration, null);
+    }
+
+    SendContextImpl(MessageImpl message, DeliveryOptions options, HandlerRegistration<T> handlerRegistration,
+                    AddressBinding binding) {
       this.message = message;
       this.options = options;
       this.handlerRegistration = handlerRegistration;
-      this.iter = interceptors.iterator();
+      this.binding = binding;
+      this.chain = interceptors;
+    }
+
+    /**
+     * @return whether the message is sent by a {@link MessageProducerImpl}, only the producers bind their address
+     */
+    public boolean isFromProducer() {
+      return binding != null;
+    }
+
+    /**
+     * @return the next interceptor, or {@code null} when the message went through all of them
+     */
+    Handler<SendContext> nextInterceptor() {
+      return index < chain.length ? chain[index++] : null;
     }
 
     @Override
@@ -467,8 +609,8 @@ public class EventBusImpl implements EventBus, MetricsProvider {
 
     @Override
     public void next() {
-      if (iter.hasNext()) {
-        Handler<SendContext> handler = iter.next();
+      Handler<SendContext> handler = nextInterceptor();
+      if (handler != null) {
         try {
           handler.handle(this);
         } catch (Throwable t) {
@@ -502,8 +644,8 @@ public class EventBusImpl implements EventBus, MetricsProvider {
 
     @Override
     public void next() {
-      if (iter.hasNext()) {
-        Handler<SendContext> handler = iter.next();
+      Handler<SendContext> handler = nextInterceptor();
+      if (handler != null) {
         handler.handle(this);
       } else {
         sendReply(this, replierMessage);
@@ -514,6 +656,9 @@ public class EventBusImpl implements EventBus, MetricsProvider {
 
   private void unregisterAll() {
     // Unregister all handlers explicitly - don't rely on context hooks
+    for (HandlerHolder holder: replyHandlers.values()) {
+      holder.getHandler().unregister();
+    }
     for (Handlers handlers: handlerMap.values()) {
       for (HandlerHolder holder: handlers.list) {
         holder.getHandler().unregister();
@@ -530,19 +675,7 @@ public class EventBusImpl implements EventBus, MetricsProvider {
       metrics.scheduleMessage(holder.getHandler().getMetric(), msg.isLocal());
     }
 
-    holder.getContext().runOnContext((v) -> {
-      // Need to check handler is still there - the handler might have been removed after the message were sent but
-      // before it was received
-      try {
-        if (!holder.isRemoved()) {
-          holder.getHandler().handle(copied);
-        }
-      } finally {
-        if (holder.isReplyHandler()) {
-          holder.getHandler().unregister();
-        }
-      }
-    });
+    holder.schedule(copied);
   }
 
   public class HandlerEntry<T> implements Closeable {
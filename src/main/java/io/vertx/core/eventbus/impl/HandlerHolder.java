@@ -1,18 +1,33 @@
 package io.vertx.core.eventbus.impl;
 
+import io.netty.channel.EventLoop;
 import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.impl.ContextImpl;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
 public class HandlerHolder<T> {
 
+  // Maximum number of messages handled by a single task on the context of the handler
+  private static final int MAX_BATCH_SIZE = 256;
+
   private final EventBusMetrics metrics;
   private final Context context;
   private final HandlerRegistration<T> handler;
   private final boolean replyHandler;
   private final boolean localOnly;
+  private final EventLoop eventLoop;
+  private final Queue<Message<T>> pending = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingCount = new AtomicInteger();
+  private final Handler<Void> drainTask = v -> drain();
   private boolean removed;
 
   public HandlerHolder(EventBusMetrics metrics, HandlerRegistration<T> handler, boolean replyHandler, boolean localOnly,
@@ -22,6 +37,7 @@ public class HandlerHolder<T> {
     this.handler = handler;
     this.replyHandler = replyHandler;
     this.localOnly = localOnly;
+    this.eventLoop = context.isEventLoopContext() && context instanceof ContextImpl ? ((ContextImpl) context).nettyEventLoop() : null;
   }
 
   // We use a synchronized block to protect removed as it can be unregistered from a different thread
@@ -73,5 +89,67 @@ public class HandlerHolder<T> {
   public boolean isLocalOnly() {
     return localOnly;
   }
-;
+
+  /**
+   * @return the event loop running the handler, or {@code null} when the handler runs on a worker
+   */
+  public EventLoop getEventLoop() {
+    return eventLoop;
+  }
+
+  /**
+   * @return the number of messages scheduled on the handler context and not yet handled
+   */
+  public int getBacklog() {
+    return pendingCount.get();
+  }
+
+  /**
+   * Schedule the delivery of a message on the handler context.
+   * <p>
+   * On an event loop context the messages are queued and only the first message queued when no delivery is in progress
+   * schedules a task on the context, this task then handles all the queued messages in order. A worker context handles
+   * each message with its own task: a worker task is a pool execution timed by the blocked thread checker and reported
+   * by the pool metrics, and a multi-threaded worker context handles the messages concurrently.
+   */
+  void schedule(Message<T> msg) {
+    if (replyHandler || eventLoop == null) {
+      context.runOnContext(v -> deliver(msg));
+    } else {
+      pending.add(msg);
+      if (pendingCount.getAndIncrement() == 0) {
+        context.runOnContext(drainTask);
+      }
+    }
+  }
+
+  private void drain() {
+    int handled = 0;
+    try {
+      Message<T> msg;
+      while (handled < MAX_BATCH_SIZE && (msg = pending.poll()) != null) {
+        handled++;
+        deliver(msg);
+      }
+    } finally {
+      // Messages left after a full batch or a handler failure are handled by another task
+      if (pendingCount.addAndGet(-handled) > 0) {
+        context.runOnContext(drainTask);
+      }
+    }
+  }
+
+  private void deliver(Message<T> msg) {
+    // Need to check handler is still there - the handler might have been removed after the message were sent but
+    // before it was received
+    try {
+      if (!isRemoved()) {
+        handler.handle(msg);
+      }
+    } finally {
+      if (replyHandler) {
+        handler.unregister();
+      }
+    }
+  }
 }
@@ -7,6 +7,10 @@ import io.vertx.core.eventbus.ReplyException;
 import io.vertx.core.eventbus.ReplyFailure;
 import io.vertx.core.eventbus.impl.clustered.ClusteredMessage;
 import io.vertx.core.impl.Arguments;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.TaskQueue;
+import io.vertx.core.impl.TimerWheel;
+import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.core.spi.metrics.EventBusMetrics;
@@ -15,6 +19,8 @@ import io.vertx.core.streams.ReadStream;
 import java.util.ArrayDeque;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 
 /*
  * This class is optimised for performance when used on the same event loop it was created on.
@@ -36,7 +42,7 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
   private final String repliedAddress;
   private final boolean localOnly;
   private final Handler<AsyncResult<Message<T>>> asyncResultHandler;
-  private long timeoutID = -1;
+  private TimerWheel.Timeout timeout;
   private boolean registered;
   private Handler<Message<T>> handler;
   private Context handlerContext;
@@ -48,6 +54,8 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
   private final Queue<Message<T>> pending = new ArrayDeque<>(8);
   private boolean paused;
   private Object metric;
+  private Function<Message<T>, String> keyExtractor;
+  private Lane[] lanes;
 
   public HandlerRegistration(Vertx vertx, EventBusMetrics metrics, EventBusImpl eventBus, String address,
                              String repliedAddress, boolean localOnly,
@@ -60,12 +68,23 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
     this.localOnly = localOnly;
     this.asyncResultHandler = asyncResultHandler;
     if (timeout != -1) {
-      timeoutID = vertx.setTimer(timeout, tid -> {
-        if (metrics != null) {
-          metrics.replyFailure(address, ReplyFailure.TIMEOUT);
-        }
-        sendAsyncResultFailure(ReplyFailure.TIMEOUT, "Timed out after waiting " + timeout + "(ms) for a reply. address: " + address + ", repliedAddress: " + repliedAddress);
-      });
+      // The timeout is armed on the timer wheel of the event loop of the sender, without the bookkeeping of a Vert.x timer
+      ContextInternal timeoutContext = (ContextInternal) vertx.getOrCreateContext();
+      TimerWheel wheel = ((VertxInternal) vertx).timerWheel(timeoutContext.nettyEventLoop());
+      try {
+        this.timeout = wheel.schedule(() -> timeoutContext.runOnContext(v -> {
+          if (!isRegistered()) {
+            // The reply has been handled meanwhile
+            return;
+          }
+          if (metrics != null) {
+            metrics.replyFailure(address, ReplyFailure.TIMEOUT);
+          }
+          sendAsyncResultFailure(ReplyFailure.TIMEOUT, "Timed out after waiting " + timeout + "(ms) for a reply. address: " + address + ", repliedAddress: " + repliedAddress);
+        }), timeout, false);
+      } catch (RejectedExecutionException ignore) {
+        // Vert.x is closed
+      }
     }
   }
 
@@ -84,6 +103,21 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
     return maxBufferedMessages;
   }
 
+  @Override
+  public synchronized MessageConsumer<T> partitionBy(Function<Message<T>, String> keyExtractor, int concurrency) {
+    Objects.requireNonNull(keyExtractor);
+    Arguments.require(concurrency > 0, "Concurrency must be > 0");
+    if (registered) {
+      throw new IllegalStateException("Cannot partition a registered consumer");
+    }
+    this.keyExtractor = keyExtractor;
+    this.lanes = new Lane[concurrency];
+    for (int i = 0; i < concurrency; i++) {
+      lanes[i] = new Lane();
+    }
+    return this;
+  }
+
   @Override
   public String address() {
     return address;
@@ -117,8 +151,8 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
   }
 
   private void doUnregister(Handler<AsyncResult<Void>> completionHandler) {
-    if (timeoutID != -1) {
-      vertx.cancelTimer(timeoutID);
+    if (timeout != null) {
+      timeout.cancel();
     }
     if (endHandler != null) {
       Handler<Void> theEndHandler = endHandler;
@@ -167,14 +201,17 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
   public void handle(Message<T> message) {
     Handler<Message<T>> theHandler;
     synchronized (this) {
-      if (paused) {
+      if (lanes != null && !paused && pending.isEmpty() && offer(message)) {
+        return;
+      }
+      if (paused || lanes != null) {
         if (pending.size() < maxBufferedMessages) {
           pending.add(message);
         } else {
           if (discardHandler != null) {
             discardHandler.handle(message);
           } else {
-            log.warn("Discarding message as more than " + maxBufferedMessages + " buffered in paused consumer. address: " + address);
+            log.warn("Discarding message as more than " + maxBufferedMessages + " buffered in " + (paused ? "paused" : "partitioned") + " consumer. address: " + address);
           }
         }
         return;
@@ -222,7 +259,45 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
     }
   }
 
+  /**
+   * Hand the message to its lane unless the lane is full.
+   */
+  private boolean offer(Message<T> message) {
+    String key = keyExtractor.apply(message);
+    Lane lane = lanes[key == null ? 0 : Math.floorMod(key.hashCode(), lanes.length)];
+    if (lane.size >= Math.max(1, maxBufferedMessages / lanes.length)) {
+      return false;
+    }
+    lane.size++;
+    Handler<Message<T>> theHandler = handler;
+    ((ContextInternal) handlerContext).executeOnWorker(lane.queue, v -> {
+      try {
+        deliver(theHandler, message);
+      } finally {
+        synchronized (HandlerRegistration.this) {
+          lane.size--;
+          drainPending();
+        }
+      }
+    });
+    return true;
+  }
+
+  /**
+   * Hand the buffered messages to their lanes in order, until the lane of the next message is full.
+   */
+  private void drainPending() {
+    Message<T> message;
+    while (!paused && (message = pending.peek()) != null && offer(message)) {
+      pending.poll();
+    }
+  }
+
   private synchronized void checkNextTick() {
+    if (lanes != null) {
+      // The lanes drain the buffered messages
+      return;
+    }
     // Check if there are more pending messages in the queue that can be processed next time around
     if (!pending.isEmpty()) {
       handlerContext.runOnContext(v -> {
@@ -281,7 +356,11 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
   public synchronized MessageConsumer<T> resume() {
     if (paused) {
       paused = false;
-      checkNextTick();
+      if (lanes != null) {
+        drainPending();
+      } else {
+        checkNextTick();
+      }
     }
     return this;
   }
@@ -311,4 +390,12 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
     return metric;
   }
 
+  /**
+   * A lane of a partitioned consumer, the size is guarded by the registration.
+   */
+  private static class Lane {
+    final TaskQueue queue = new TaskQueue();
+    int size;
+  }
+
 }
@@ -1,5 +1,7 @@
 package io.vertx.core.eventbus.impl;
 
+import io.netty.channel.EventLoop;
+
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -9,9 +11,25 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class Handlers {
 
+  // Number of messages waiting on a consumer above which the event loop affinity is ignored
+  static final int MAX_AFFINITY_BACKLOG = 64;
+
   private final AtomicInteger pos = new AtomicInteger(0);
   public final List<HandlerHolder> list = new CopyOnWriteArrayList<>();
 
+  /**
+   * Choose a handler running on the {@code eventLoop} when there is one that is not backlogged, otherwise fallback
+   * on {@link #choose()}.
+   */
+  public HandlerHolder choose(EventLoop eventLoop) {
+    for (HandlerHolder holder : list) {
+      if (holder.getEventLoop() == eventLoop && holder.getBacklog() < MAX_AFFINITY_BACKLOG) {
+        return holder;
+      }
+    }
+    return choose();
+  }
+
   public HandlerHolder choose() {
     while (true) {
       int size = list.size();
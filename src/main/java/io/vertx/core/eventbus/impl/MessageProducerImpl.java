@@ -17,6 +17,7 @@
 package io.vertx.core.eventbus.impl;
 
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.*;
@@ -34,19 +35,24 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
 
   private final Vertx vertx;
   private final EventBus bus;
+  private final EventBusImpl busImpl;
   private final boolean send;
   private final String address;
+  private final AddressBinding binding;
   private final Queue<T> pending = new ArrayDeque<>();
   private final MessageConsumer<Integer> creditConsumer;
   private DeliveryOptions options;
   private int maxSize = DEFAULT_WRITE_QUEUE_MAX_SIZE;
   private int credits = DEFAULT_WRITE_QUEUE_MAX_SIZE;
   private Handler<Void> drainHandler;
+  private boolean waitingBusDrain;
 
   public MessageProducerImpl(Vertx vertx, String address, boolean send, DeliveryOptions options) {
     this.vertx = vertx;
     this.bus = vertx.eventBus();
+    this.busImpl = bus instanceof EventBusImpl ? (EventBusImpl) bus : null;
     this.address = address;
+    this.binding = new AddressBinding(address);
     this.send = send;
     this.options = options;
     if (send) {
@@ -100,14 +106,19 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
     if (send) {
       doSend(data, null);
     } else {
-      bus.publish(address, data, options);
+      sendOrPub(false, data, null);
     }
     return this;
   }
 
   @Override
   public synchronized boolean writeQueueFull() {
-    return credits == 0;
+    return credits == 0 || busWriteQueueFull();
+  }
+
+  private boolean busWriteQueueFull() {
+    // The clustered event bus queues the messages sent to a node that does not read them fast enough
+    return busImpl != null && busImpl.writeQueueFull(address);
   }
 
   @Override
@@ -122,11 +133,24 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
   private void checkDrained() {
     Handler<Void> handler = drainHandler;
     if (handler != null && credits >= maxSize / 2) {
+      if (busWriteQueueFull()) {
+        if (!waitingBusDrain) {
+          waitingBusDrain = true;
+          Context context = vertx.getOrCreateContext();
+          busImpl.writeQueueDrainHandler(address, v -> context.runOnContext(v2 -> busDrained()));
+        }
+        return;
+      }
       this.drainHandler = null;
       vertx.runOnContext(v -> handler.handle(null));
     }
   }
 
+  private synchronized void busDrained() {
+    waitingBusDrain = false;
+    checkDrained();
+  }
+
   @Override
   public String address() {
     return address;
@@ -154,16 +178,25 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
   private synchronized <R> void doSend(T data, Handler<AsyncResult<Message<R>>> replyHandler) {
     if (credits > 0) {
       credits--;
-      if (replyHandler == null) {
-        bus.send(address, data, options);
-      } else {
-        bus.send(address, data, options, replyHandler);
-      }
+      sendOrPub(true, data, replyHandler);
     } else {
       pending.add(data);
     }
   }
 
+  private <R> void sendOrPub(boolean send, T data, Handler<AsyncResult<Message<R>>> replyHandler) {
+    if (busImpl != null) {
+      // Reuse the codec and the handlers resolved for the address
+      busImpl.sendOrPub(binding, send, data, options, replyHandler);
+    } else if (!send) {
+      bus.publish(address, data, options);
+    } else if (replyHandler == null) {
+      bus.send(address, data, options);
+    } else {
+      bus.send(address, data, options, replyHandler);
+    }
+  }
+
   private synchronized void doReceiveCredit(int credit) {
     credits += credit;
     while (credits > 0) {
@@ -172,7 +205,7 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
         break;
       } else {
         credits--;
-        bus.send(address, data, options);
+        sendOrPub(true, data, null);
       }
     }
     checkDrained();
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.ClusterCompression;
+import io.vertx.core.eventbus.EventBusOptions;
+
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses the message bodies written to a cluster connection.
+ * <p>
+ * A compressed body starts with the varint length of the uncompressed body followed by the compressed bytes. A
+ * compressor is used by the event loop of its connection only, so its {@link Deflater} is reused for all the bodies.
+ */
+class BodyCompressor {
+
+  private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+  private static final int GZIP_TRAILER_SIZE = 8;
+
+  private final ClusterCompression compression;
+  private final int threshold;
+  private final Deflater deflater;
+  private final CRC32 crc;
+  private final byte[] chunk = new byte[8 * 1024];
+
+  BodyCompressor(EventBusOptions options) {
+    this.compression = options.getClusterCompression();
+    this.threshold = options.getClusterCompressionThreshold();
+    this.deflater = new Deflater(options.getClusterCompressionLevel(), compression == ClusterCompression.GZIP);
+    this.crc = compression == ClusterCompression.GZIP ? new CRC32() : null;
+  }
+
+  ClusterCompression compression() {
+    return compression;
+  }
+
+  /**
+   * Compress a body.
+   *
+   * @return the compressed body or {@code null} when the body is too small or does not compress
+   */
+  Buffer compress(Buffer body) {
+    int length = body.length();
+    if (length < threshold) {
+      return null;
+    }
+    byte[] input = body.getBytes();
+    Buffer compressed = Buffer.buffer(length / 2 + GZIP_HEADER.length + GZIP_TRAILER_SIZE);
+    ClusteredMessage.writeVarInt(compressed, length);
+    if (crc != null) {
+      compressed.appendBytes(GZIP_HEADER);
+      crc.reset();
+      crc.update(input, 0, length);
+    }
+    deflater.reset();
+    deflater.setInput(input);
+    deflater.finish();
+    while (!deflater.finished()) {
+      int n = deflater.deflate(chunk);
+      compressed.appendBytes(chunk, 0, n);
+      if (compressed.length() >= length) {
+        // Not worth it
+        return null;
+      }
+    }
+    if (crc != null) {
+      compressed.appendIntLE((int) crc.getValue());
+      compressed.appendIntLE(length);
+    }
+    return compressed.length() < length ? compressed : null;
+  }
+
+  /**
+   * Decompress a body.
+   *
+   * @param compression the compression of the body
+   * @param body the compressed body, starting with the length of the uncompressed body
+   * @return the uncompressed body
+   */
+  static Buffer decompress(ClusterCompression compression, Buffer body) {
+    int length = ClusteredMessage.readVarInt(body, 0);
+    int pos = ClusteredMessage.varIntSize(length);
+    boolean gzip = compression == ClusterCompression.GZIP;
+    byte[] input = body.getBytes(pos, body.length());
+    int offset = 0;
+    if (gzip) {
+      if (input.length < GZIP_HEADER.length + GZIP_TRAILER_SIZE || input[0] != GZIP_HEADER[0] ||
+        input[1] != GZIP_HEADER[1] || input[3] != 0) {
+        throw new IllegalStateException("Invalid GZIP body");
+      }
+      offset = GZIP_HEADER.length;
+    }
+    Inflater inflater = new Inflater(gzip);
+    try {
+      inflater.setInput(input, offset, input.length - offset);
+      byte[] output = new byte[length];
+      int n = 0;
+      while (n < length) {
+        int read = inflater.inflate(output, n, length - n);
+        if (read == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+        n += read;
+      }
+      if (n != length) {
+        throw new IllegalStateException("Invalid compressed body length " + n + " should be " + length);
+      }
+      if (gzip) {
+        CRC32 crc = new CRC32();
+        crc.update(output, 0, length);
+        Buffer trailer = Buffer.buffer(input).slice(input.length - GZIP_TRAILER_SIZE, input.length);
+        if (trailer.getIntLE(0) != (int) crc.getValue()) {
+          throw new IllegalStateException("Invalid GZIP body checksum");
+        }
+      }
+      return Buffer.buffer(output);
+    } catch (DataFormatException e) {
+      throw new IllegalStateException("Invalid compressed body", e);
+    } finally {
+      inflater.end();
+    }
+  }
+}
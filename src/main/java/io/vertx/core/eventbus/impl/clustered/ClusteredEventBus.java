@@ -17,6 +17,7 @@
 package io.vertx.core.eventbus.impl.clustered;
 
 import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -24,13 +25,17 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.ClusterOverflowPolicy;
 import io.vertx.core.eventbus.EventBusOptions;
 import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.eventbus.ReplyFailure;
 import io.vertx.core.eventbus.impl.CodecManager;
 import io.vertx.core.eventbus.impl.EventBusImpl;
 import io.vertx.core.eventbus.impl.HandlerHolder;
 import io.vertx.core.eventbus.impl.MessageImpl;
 import io.vertx.core.impl.ConcurrentHashSet;
+import io.vertx.core.impl.ContextImpl;
 import io.vertx.core.impl.HAManager;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.json.JsonObject;
@@ -51,13 +56,17 @@ import io.vertx.core.parsetools.RecordParser;
 import io.vertx.core.spi.cluster.AsyncMultiMap;
 import io.vertx.core.spi.cluster.ChoosableIterable;
 import io.vertx.core.spi.cluster.ClusterManager;
+import io.vertx.core.spi.cluster.NodeListener;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Predicate;
 
 /**
@@ -73,16 +82,27 @@ public class ClusteredEventBus extends EventBusImpl {
   public static final String CLUSTER_PUBLIC_PORT_PROP_NAME = "vertx.cluster.public.port";
 
   private static final Buffer PONG = Buffer.buffer(new byte[]{(byte) 1});
+
+  /**
+   * The header of the first ping sent on a connection, its value is the highest wire protocol version supported by
+   * the client. A server supporting the version 2 replies with the version to use instead of a pong, older servers
+   * ignore the header and reply with a pong which means the version 1.
+   */
+  static final String WIRE_PROTOCOL_HEADER = "__vertx.wire";
   private static final String SERVER_ID_HA_KEY = "server_id";
   private static final String SUBS_MAP_NAME = "__vertx.subs";
 
   private final ClusterManager clusterManager;
   private final HAManager haManager;
-  private final ConcurrentMap<ServerID, ConnectionHolder> connections = new ConcurrentHashMap<>();
+  private final ConcurrentMap<ConnectionHolder.Key, ConnectionHolder> connections = new ConcurrentHashMap<>();
+  private final List<NetServer> stripeServers = new CopyOnWriteArrayList<>();
   private final Context sendNoContext;
+  private final String replyAddressPrefix;
 
   private EventBusOptions options;
   private AsyncMultiMap<String, ClusterNodeInfo> subs;
+  private RoutingTable routingTable;
+  private SubsBatcher subsBatcher;
   private Set<String> ownSubs = new ConcurrentHashSet<>();
   private ServerID serverID;
   private ClusterNodeInfo nodeInfo;
@@ -92,12 +112,14 @@ public class ClusteredEventBus extends EventBusImpl {
                            VertxOptions options,
                            ClusterManager clusterManager,
                            HAManager haManager) {
-    super(vertx);
+    super(vertx, options.getEventBusOptions());
     this.options = options.getEventBusOptions();
     this.clusterManager = clusterManager;
     this.haManager = haManager;
     this.sendNoContext = vertx.getOrCreateContext();
+    this.replyAddressPrefix = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, Character.MAX_RADIX) + ".";
     setClusterViewChangedHandler(haManager);
+    setMembershipListener(haManager);
   }
 
   private NetServerOptions getServerOptions() {
@@ -140,6 +162,9 @@ public class ClusteredEventBus extends EventBusImpl {
     clusterManager.<String, ClusterNodeInfo>getAsyncMultiMap(SUBS_MAP_NAME, ar2 -> {
       if (ar2.succeeded()) {
         subs = ar2.result();
+        if (options.isClusterRoutingCache()) {
+          routingTable = new RoutingTable(subs, metrics, options.getClusterRoutingCacheMaxAge());
+        }
         server = vertx.createNetServer(getServerOptions());
 
         server.connectHandler(getServerHandler());
@@ -149,11 +174,22 @@ public class ClusteredEventBus extends EventBusImpl {
             String serverHost = getClusterPublicHost(options);
             serverID = new ServerID(serverPort, serverHost);
             nodeInfo = new ClusterNodeInfo(clusterManager.getNodeID(), serverID);
-            haManager.addDataToAHAInfo(SERVER_ID_HA_KEY, new JsonObject().put("host", serverID.host).put("port", serverID.port));
-            if (resultHandler != null) {
-              started = true;
-              resultHandler.handle(Future.succeededFuture());
-            }
+            subsBatcher = new SubsBatcher(subs, nodeInfo);
+            listenStripes(server.actualPort(), ar3 -> {
+              if (ar3.succeeded()) {
+                haManager.addDataToAHAInfo(SERVER_ID_HA_KEY, new JsonObject().put("host", serverID.host).put("port", serverID.port));
+                if (resultHandler != null) {
+                  started = true;
+                  resultHandler.handle(Future.succeededFuture());
+                }
+              } else {
+                if (resultHandler != null) {
+                  resultHandler.handle(Future.failedFuture(ar3.cause()));
+                } else {
+                  log.error(ar3.cause());
+                }
+              }
+            });
           } else {
             if (resultHandler != null) {
               resultHandler.handle(Future.failedFuture(asyncResult.cause()));
@@ -172,21 +208,64 @@ public class ClusteredEventBus extends EventBusImpl {
     });
   }
 
+  /**
+   * Start the servers sharing the port of the event bus server so the inbound connections are handled by
+   * {@link EventBusOptions#getClusterConnectionsPerPeer()} event loops.
+   */
+  private void listenStripes(int port, Handler<AsyncResult<Void>> completionHandler) {
+    int count = options.getClusterConnectionsPerPeer() - 1;
+    if (count == 0) {
+      completionHandler.handle(Future.succeededFuture());
+      return;
+    }
+    NetServerOptions serverOptions = getServerOptions().setPort(port);
+    List<Future> futures = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Future<NetServer> fut = Future.future();
+      futures.add(fut);
+      // Each server is registered from a different event loop, the connections are spread over these event loops
+      ContextImpl context = vertx.createEventLoopContext(null, null, new JsonObject(), Thread.currentThread().getContextClassLoader());
+      context.runOnContext(v -> {
+        NetServer stripe = vertx.createNetServer(serverOptions);
+        stripe.connectHandler(getServerHandler());
+        stripeServers.add(stripe);
+        stripe.listen(fut);
+      });
+    }
+    CompositeFuture.all(futures).setHandler(ar -> completionHandler.handle(ar.mapEmpty()));
+  }
+
+  private void closeStripes(Handler<AsyncResult<Void>> completionHandler) {
+    List<Future> futures = new ArrayList<>(stripeServers.size());
+    for (NetServer stripe : stripeServers) {
+      Future<Void> fut = Future.future();
+      futures.add(fut);
+      stripe.close(fut);
+    }
+    stripeServers.clear();
+    CompositeFuture.all(futures).setHandler(ar -> completionHandler.handle(ar.mapEmpty()));
+  }
+
   @Override
   public void close(Handler<AsyncResult<Void>> completionHandler) {
     super.close(ar1 -> {
       if (server != null) {
-        server.close(ar -> {
-          if (ar.failed()) {
-            log.error("Failed to close server", ar.cause());
-          }
-          // Close all outbound connections explicitly - don't rely on context hooks
-          for (ConnectionHolder holder : connections.values()) {
-            holder.close();
-          }
-          if (completionHandler != null) {
-            completionHandler.handle(ar);
+        closeStripes(ar2 -> {
+          if (ar2.failed()) {
+            log.error("Failed to close server", ar2.cause());
           }
+          server.close(ar -> {
+            if (ar.failed()) {
+              log.error("Failed to close server", ar.cause());
+            }
+            // Close all outbound connections explicitly - don't rely on context hooks
+            for (ConnectionHolder holder : connections.values()) {
+              holder.close();
+            }
+            if (completionHandler != null) {
+              completionHandler.handle(ar);
+            }
+          });
         });
       } else {
         if (completionHandler != null) {
@@ -200,19 +279,41 @@ public class ClusteredEventBus extends EventBusImpl {
   @Override
   protected MessageImpl createMessage(boolean send, String address, MultiMap headers, Object body, String codecName) {
     Objects.requireNonNull(address, "no null address accepted");
-    MessageCodec codec = codecManager.lookupCodec(body, codecName);
+    if (body instanceof ClusteredMessage) {
+      ClusteredMessage received = (ClusteredMessage) body;
+      if (received.isForwardable() && (codecName == null || codecName.equals(received.codec().name()))) {
+        // Forward the body of a message read from the wire without decoding it
+        return received.forward(serverID, address, headers, send);
+      }
+    }
+    return super.createMessage(send, address, headers, body, codecName);
+  }
+
+  @Override
+  protected MessageImpl newMessage(boolean send, String address, MultiMap headers, Object body, MessageCodec codec) {
     @SuppressWarnings("unchecked")
     ClusteredMessage msg = new ClusteredMessage(serverID, address, null, headers, body, codec, send, this);
     return msg;
   }
 
+  @Override
+  protected boolean isCodecReusable(Object body) {
+    // A message read from the wire can be forwarded without codec
+    return !(body instanceof ClusteredMessage);
+  }
+
   @Override
   protected <T> void addRegistration(boolean newAddress, String address,
                                      boolean replyHandler, boolean localOnly,
                                      Handler<AsyncResult<Void>> completionHandler) {
-    if (newAddress && subs != null && !replyHandler && !localOnly) {
+    if (newAddress && subsBatcher != null && !replyHandler && !localOnly) {
       // Propagate the information
-      subs.add(address, nodeInfo, completionHandler);
+      subsBatcher.add(address, ar -> {
+        if (ar.succeeded() && routingTable != null) {
+          routingTable.addLocal(address, nodeInfo);
+        }
+        completionHandler.handle(ar);
+      });
       ownSubs.add(address);
     } else {
       completionHandler.handle(Future.succeededFuture());
@@ -222,9 +323,12 @@ public class ClusteredEventBus extends EventBusImpl {
   @Override
   protected <T> void removeRegistration(HandlerHolder lastHolder, String address,
                                         Handler<AsyncResult<Void>> completionHandler) {
-    if (lastHolder != null && subs != null && !lastHolder.isLocalOnly()) {
+    if (lastHolder != null && subsBatcher != null && !lastHolder.isLocalOnly()) {
       ownSubs.remove(address);
-      removeSub(address, nodeInfo, completionHandler);
+      if (routingTable != null) {
+        routingTable.removeLocal(address, nodeInfo);
+      }
+      removeSub(address, completionHandler);
     } else {
       callCompletionHandlerAsync(completionHandler);
     }
@@ -232,6 +336,7 @@ public class ClusteredEventBus extends EventBusImpl {
 
   @Override
   protected <T> void sendReply(SendContextImpl<T> sendContext, MessageImpl replierMessage) {
+    ((ClusteredMessage) sendContext.message).setReply(true);
     clusteredSendReply(((ClusteredMessage) replierMessage).getSender(), sendContext);
   }
 
@@ -240,20 +345,25 @@ public class ClusteredEventBus extends EventBusImpl {
     String address = sendContext.message.address();
     Handler<AsyncResult<ChoosableIterable<ClusterNodeInfo>>> resultHandler = asyncResult -> {
       if (asyncResult.succeeded()) {
-        ChoosableIterable<ClusterNodeInfo> serverIDs = asyncResult.result();
-        if (serverIDs != null && !serverIDs.isEmpty()) {
-          sendToSubs(serverIDs, sendContext);
-        } else {
-          if (metrics != null) {
-            metrics.messageSent(address, !sendContext.message.isSend(), true, false);
-          }
-          deliverMessageLocally(sendContext);
-        }
+        sendToNodes(asyncResult.result(), sendContext);
       } else {
         log.error("Failed to send message", asyncResult.cause());
       }
     };
-    if (Vertx.currentContext() == null) {
+    if (routingTable != null) {
+      ChoosableIterable<ClusterNodeInfo> route = routingTable.route(address);
+      if (route != null) {
+        sendToNodes(route, sendContext);
+        return;
+      }
+    }
+    // The message is written after the send returns when its route is looked up, it is prepared now in case
+    // the route is remote
+    ((ClusteredMessage) sendContext.message).prepareWrite();
+    if (routingTable != null) {
+      // The routing table keeps the order of the messages sent while the address is looked up
+      routingTable.lookup(address, resultHandler);
+    } else if (Vertx.currentContext() == null) {
       // Guarantees the order when there is no current context
       sendNoContext.runOnContext(v -> {
         subs.get(address, resultHandler);
@@ -265,8 +375,9 @@ public class ClusteredEventBus extends EventBusImpl {
 
   @Override
   protected String generateReplyAddress() {
-    // The address is a cryptographically secure id that can't be guessed
-    return UUID.randomUUID().toString();
+    // Replies are sent to the node of the sender so the address only needs to be unique on this node, the random
+    // prefix keeps the replies of different nodes apart when a message is forwarded
+    return replyAddressPrefix + super.generateReplyAddress();
   }
 
   @Override
@@ -275,15 +386,47 @@ public class ClusteredEventBus extends EventBusImpl {
     return !clusteredMessage.isFromWire();
   }
 
+  private <T> void sendToNodes(ChoosableIterable<ClusterNodeInfo> serverIDs, SendContextImpl<T> sendContext) {
+    if (serverIDs != null && !serverIDs.isEmpty()) {
+      sendToSubs(serverIDs, sendContext);
+    } else {
+      if (metrics != null) {
+        metrics.messageSent(sendContext.message.address(), !sendContext.message.isSend(), true, false);
+      }
+      deliverMessageLocally(sendContext);
+    }
+  }
+
+  private void setMembershipListener(HAManager haManager) {
+    haManager.setMembershipListener(new NodeListener() {
+      @Override
+      public void nodeAdded(String nodeID) {
+        RoutingTable table = routingTable;
+        if (table != null) {
+          table.nodeAdded(nodeID);
+        }
+      }
+      @Override
+      public void nodeLeft(String nodeID) {
+        RoutingTable table = routingTable;
+        if (table != null) {
+          table.nodeLeft(nodeID);
+        }
+      }
+    });
+  }
+
   private void setClusterViewChangedHandler(HAManager haManager) {
-    haManager.setClusterViewChangedHandler(members -> {
-      ownSubs.forEach(address -> {
-        subs.add(address, nodeInfo, addResult -> {
-          if (addResult.failed()) {
-            log.warn("Failed to update subs map with self", addResult.cause());
-          }
-        });
-      });
+    haManager.setClusterViewChangedHandler((nodeID, members) -> {
+      List<String> addresses = new ArrayList<>(ownSubs);
+      if (members.contains(nodeID)) {
+        // A node joined, the subs of this node may have been lost when the cluster merged after a split: only the
+        // missing ones are re-added
+        addMissingSubs(addresses);
+        return;
+      }
+      // The subs of this node stored by the node that left may be lost, re-add them in a single operation
+      addSubs(addresses);
 
       subs.removeAllMatching((Serializable & Predicate<ClusterNodeInfo>) ci -> !members.contains(ci.nodeId), removeResult -> {
         if (removeResult.failed()) {
@@ -293,6 +436,48 @@ public class ClusteredEventBus extends EventBusImpl {
     });
   }
 
+  private void addMissingSubs(List<String> addresses) {
+    List<Future> futures = new ArrayList<>(addresses.size());
+    for (String address : addresses) {
+      Future<ChoosableIterable<ClusterNodeInfo>> future = Future.future();
+      subs.get(address, future.completer());
+      futures.add(future);
+    }
+    CompositeFuture.all(futures).setHandler(ar -> {
+      if (ar.failed()) {
+        log.warn("Failed to check subs map for self", ar.cause());
+        return;
+      }
+      List<String> missing = new ArrayList<>();
+      for (int i = 0; i < addresses.size(); i++) {
+        if (!contains(ar.result().resultAt(i), nodeInfo)) {
+          missing.add(addresses.get(i));
+        }
+      }
+      addSubs(missing);
+    });
+  }
+
+  private static boolean contains(ChoosableIterable<ClusterNodeInfo> nodes, ClusterNodeInfo node) {
+    for (ClusterNodeInfo ci : nodes) {
+      if (ci.equals(node)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void addSubs(List<String> addresses) {
+    if (addresses.isEmpty()) {
+      return;
+    }
+    subs.addAll(addresses, nodeInfo, addResult -> {
+      if (addResult.failed()) {
+        log.warn("Failed to update subs map with self", addResult.cause());
+      }
+    });
+  }
+
   private int getClusterPublicPort(EventBusOptions options, int actualPort) {
     // We retain the old system property for backwards compat
     int publicPort = Integer.getInteger(CLUSTER_PUBLIC_PORT_PROP_NAME, options.getClusterPublicPort());
@@ -314,6 +499,7 @@ public class ClusteredEventBus extends EventBusImpl {
 
   private Handler<NetSocket> getServerHandler() {
     return socket -> {
+      WireTable wireTable = new WireTable();
       RecordParser parser = RecordParser.newFixed(4);
       Handler<Buffer> handler = new Handler<Buffer>() {
         int size = -1;
@@ -324,15 +510,22 @@ public class ClusteredEventBus extends EventBusImpl {
             parser.fixedSizeMode(size);
           } else {
             ClusteredMessage received = new ClusteredMessage();
-            received.readFromWire(buff, codecManager);
+            received.readFromWire(buff, codecManager, wireTable);
             if (metrics != null) {
               metrics.messageRead(received.address(), buff.length());
             }
             parser.fixedSizeMode(4);
             size = -1;
             if (received.codec() == CodecManager.PING_MESSAGE_CODEC) {
-              // Just send back pong directly on connection
-              socket.write(PONG);
+              String version = received.headers().get(WIRE_PROTOCOL_HEADER);
+              if (version != null) {
+                // Negotiate the wire protocol version
+                int negotiated = Math.min(Integer.parseInt(version), ClusteredMessage.WIRE_PROTOCOL_VERSION_2);
+                socket.write(Buffer.buffer(new byte[]{(byte) negotiated}));
+              } else {
+                // Just send back pong directly on connection
+                socket.write(PONG);
+              }
             } else {
               deliverMessageLocally(received);
             }
@@ -354,7 +547,9 @@ public class ClusteredEventBus extends EventBusImpl {
         if (metrics != null) {
           metrics.messageSent(address, false, false, true);
         }
-        sendRemote(sid, sendContext.message);
+        if (!sendRemote(sid, sendContext.message, sendContext.isFromProducer())) {
+          queueFull(sid, sendContext);
+        }
       } else {
         if (metrics != null) {
           metrics.messageSent(address, false, true, false);
@@ -367,8 +562,14 @@ public class ClusteredEventBus extends EventBusImpl {
       boolean remote = false;
       for (ClusterNodeInfo ci : subs) {
         if (!ci.serverID.equals(serverID)) {  //We don't send to this node
+          if (!remote) {
+            // Encode the body once, it is then shared by the connections of all the nodes
+            ((ClusteredMessage) sendContext.message).wireBody();
+          }
           remote = true;
-          sendRemote(ci.serverID, sendContext.message);
+          if (!sendRemote(ci.serverID, sendContext.message, sendContext.isFromProducer()) && metrics != null) {
+            metrics.messageDropped(address);
+          }
         } else {
           local = true;
         }
@@ -389,7 +590,9 @@ public class ClusteredEventBus extends EventBusImpl {
       if (metrics != null) {
         metrics.messageSent(address, false, false, true);
       }
-      sendRemote(replyDest, message);
+      if (!sendRemote(replyDest, message, false)) {
+        queueFull(replyDest, sendContext);
+      }
     } else {
       if (metrics != null) {
         metrics.messageSent(address, false, true, false);
@@ -398,18 +601,41 @@ public class ClusteredEventBus extends EventBusImpl {
     }
   }
 
-  private void sendRemote(ServerID theServerID, MessageImpl message) {
+  private <T> void queueFull(ServerID theServerID, SendContextImpl<T> sendContext) {
+    String address = sendContext.message.address();
+    if (metrics != null) {
+      metrics.messageDropped(address);
+      metrics.replyFailure(address, ReplyFailure.QUEUE_FULL);
+    }
+    if (sendContext.handlerRegistration != null) {
+      sendContext.handlerRegistration.sendAsyncResultFailure(ReplyFailure.QUEUE_FULL, "Queue full for server "
+        + theServerID + ", address: " + address);
+    }
+  }
+
+  private int stripe(String address) {
+    int stripes = options.getClusterConnectionsPerPeer();
+    // The messages of an address always use the same connection so they are delivered in order
+    return stripes == 1 ? 0 : (address.hashCode() & Integer.MAX_VALUE) % stripes;
+  }
+
+  /**
+   * @param fromProducer whether the message is sent by a {@link io.vertx.core.eventbus.MessageProducer}
+   * @return {@code false} when the message is rejected because the queue of the connection is full
+   */
+  private boolean sendRemote(ServerID theServerID, MessageImpl message, boolean fromProducer) {
     // We need to deal with the fact that connecting can take some time and is async, and we cannot
     // block to wait for it. So we add any sends to a pending list if not connected yet.
     // Once we connect we send them.
     // This can also be invoked concurrently from different threads, so it gets a little
     // tricky
-    ConnectionHolder holder = connections.get(theServerID);
+    ConnectionHolder.Key key = new ConnectionHolder.Key(theServerID, stripe(message.address()));
+    ConnectionHolder holder = connections.get(key);
     if (holder == null) {
       // When process is creating a lot of connections this can take some time
       // so increase the timeout
-      holder = new ConnectionHolder(this, theServerID, options);
-      ConnectionHolder prevHolder = connections.putIfAbsent(theServerID, holder);
+      holder = new ConnectionHolder(this, key, options);
+      ConnectionHolder prevHolder = connections.putIfAbsent(key, holder);
       if (prevHolder != null) {
         // Another one sneaked in
         holder = prevHolder;
@@ -417,11 +643,60 @@ public class ClusteredEventBus extends EventBusImpl {
         holder.connect();
       }
     }
-    holder.writeMessage((ClusteredMessage) message);
+    return holder.writeMessage((ClusteredMessage) message, fromProducer);
+  }
+
+  /**
+   * Fail the reply handler of a message that a cluster connection could not write.
+   */
+  void failReply(ClusteredMessage message, String failureMessage) {
+    String address = message.address();
+    if (metrics != null) {
+      metrics.messageDropped(address);
+    }
+    String replyAddress = message.replyAddress();
+    if (replyAddress != null) {
+      if (metrics != null) {
+        metrics.replyFailure(address, ReplyFailure.RECIPIENT_FAILURE);
+      }
+      deliverMessageLocally(createMessage(true, replyAddress, null,
+        new ReplyException(ReplyFailure.RECIPIENT_FAILURE, -1, failureMessage), null));
+    }
+  }
+
+  @Override
+  protected boolean writeQueueFull(String address) {
+    return fullConnection(address) != null;
+  }
+
+  @Override
+  protected void writeQueueDrainHandler(String address, Handler<Void> handler) {
+    ConnectionHolder holder = fullConnection(address);
+    if (holder != null) {
+      holder.addDrainHandler(v -> writeQueueDrainHandler(address, handler));
+    } else {
+      handler.handle(null);
+    }
+  }
+
+  /**
+   * @return a connection used by the {@code address} whose queue is full when producers are blocked on full queues
+   */
+  private ConnectionHolder fullConnection(String address) {
+    if (options.getClusterOverflowPolicy() != ClusterOverflowPolicy.BLOCK || options.getClusterMaxQueueSize() <= 0) {
+      return null;
+    }
+    int stripe = stripe(address);
+    for (ConnectionHolder holder : connections.values()) {
+      if (holder.key().stripe == stripe && holder.isQueueFull()) {
+        return holder;
+      }
+    }
+    return null;
   }
 
-  private void removeSub(String subName, ClusterNodeInfo node, Handler<AsyncResult<Void>> completionHandler) {
-    subs.remove(subName, node, ar -> {
+  private void removeSub(String subName, Handler<AsyncResult<Void>> completionHandler) {
+    subsBatcher.remove(subName, ar -> {
       if (!ar.succeeded()) {
         log.error("Failed to remove sub", ar.cause());
       } else {
@@ -439,7 +714,7 @@ public class ClusteredEventBus extends EventBusImpl {
     });
   }
 
-  ConcurrentMap<ServerID, ConnectionHolder> connections() {
+  ConcurrentMap<ConnectionHolder.Key, ConnectionHolder> connections() {
     return connections;
   }
 
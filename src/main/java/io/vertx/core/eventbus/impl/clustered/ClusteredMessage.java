@@ -19,6 +19,7 @@ package io.vertx.core.eventbus.impl.clustered;
 import io.netty.util.CharsetUtil;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.ClusterCompression;
 import io.vertx.core.eventbus.MessageCodec;
 import io.vertx.core.eventbus.impl.CodecManager;
 import io.vertx.core.eventbus.impl.EventBusImpl;
@@ -40,11 +41,33 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
 
   private static final byte WIRE_PROTOCOL_VERSION = 1;
 
+  /**
+   * The version of the compact wire protocol: strings are interned per connection, lengths are varints and the
+   * headers are only present when the message has headers.
+   */
+  static final byte WIRE_PROTOCOL_VERSION_2 = 2;
+
+  private static final int FLAG_SEND = 0x01;
+  private static final int FLAG_REPLY_ADDRESS = 0x02;
+  private static final int FLAG_HEADERS = 0x04;
+  private static final int FLAG_DEFLATE = 0x08;
+  private static final int FLAG_GZIP = 0x10;
+
   private ServerID sender;
   private Buffer wireBuffer;
+  private WireTable wireTable;
+  private int wirePos;
   private int bodyPos;
   private int headersPos;
   private boolean fromWire;
+  private boolean reply;
+  private ClusterCompression bodyCompression = ClusterCompression.NONE;
+  private volatile Buffer encodedBody;
+  private volatile Buffer compressedBody;
+  private ClusterCompression compressedBodyCompression;
+  private Buffer forwardedBody;
+  private volatile Buffer encodedFrame;
+  private boolean prepared;
 
   public ClusteredMessage() {
   }
@@ -60,7 +83,9 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     this.sender = other.sender;
     if (other.sentBody == null) {
       this.wireBuffer = other.wireBuffer;
+      this.wireTable = other.wireTable;
       this.bodyPos = other.bodyPos;
+      this.bodyCompression = other.bodyCompression;
       this.headersPos = other.headersPos;
     }
     this.fromWire = other.fromWire;
@@ -100,9 +125,169 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     return replyAddress;
   }
 
+  @Override
+  public void setReplyAddress(String replyAddress) {
+    super.setReplyAddress(replyAddress);
+    encodedFrame = null;
+  }
+
   public Buffer encodeToWire() {
     int length = 1024; // TODO make this configurable
     Buffer buffer = Buffer.buffer(length);
+    encodeToWire(buffer);
+    return buffer;
+  }
+
+  /**
+   * Returns the wire frame of this message. The frame is encoded once and then shared by every connection the
+   * message is written to, so publishing to many nodes or re-sending the message does not encode it again.
+   *
+   * @return a read-only buffer containing the wire frame
+   */
+  public Buffer wireFrame() {
+    Buffer frame = encodedFrame;
+    if (frame == null) {
+      synchronized (this) {
+        frame = encodedFrame;
+        if (frame == null) {
+          Buffer buffer = Buffer.buffer(1024);
+          encodeToWire(buffer);
+          frame = readOnly(buffer);
+          encodedFrame = frame;
+        }
+      }
+    }
+    return frame;
+  }
+
+  /**
+   * Prepare this message to be queued to a cluster connection, it is called by the sender before the message is
+   * queued. The body is encoded and the headers are copied: the connection writes the message later from its event
+   * loop while the sender can modify the objects it sent once the send returns, and a codec failure is thrown to
+   * the sender.
+   */
+  void prepareWrite() {
+    if (prepared) {
+      // A published message is queued to the connection of each node
+      return;
+    }
+    prepared = true;
+    if (forwardedBody == null) {
+      wireBody();
+    }
+    if (headers != null && !headers.isEmpty()) {
+      headers = new CaseInsensitiveHeaders().addAll(headers);
+    }
+  }
+
+  /**
+   * Returns the encoded body of this message. The body is encoded once and then shared by the frames of every
+   * connection and every version of the wire protocol.
+   *
+   * @return a read-only buffer containing the encoded body
+   */
+  public Buffer wireBody() {
+    Buffer body = encodedBody;
+    if (body == null) {
+      synchronized (this) {
+        body = encodedBody;
+        if (body == null) {
+          if (forwardedBody != null) {
+            body = bodyCompression == ClusterCompression.NONE ? forwardedBody :
+              readOnly(BodyCompressor.decompress(bodyCompression, forwardedBody));
+          } else {
+            Buffer buffer = Buffer.buffer();
+            writeBody(buffer);
+            body = readOnly(buffer);
+          }
+          encodedBody = body;
+        }
+      }
+    }
+    return body;
+  }
+
+  /**
+   * Returns the body of this message compressed by the {@code compressor}, like {@link #wireBody()} the body is
+   * compressed once and then shared by the connections. A forwarded body that was received compressed is returned
+   * as is.
+   *
+   * @param compressor the compressor or {@code null} when bodies are not compressed
+   * @return the compressed body or the result of {@link #wireBody()} when the body is not compressed
+   */
+  Buffer compressedWireBody(BodyCompressor compressor) {
+    Buffer body = compressedBody;
+    if (body == null) {
+      synchronized (this) {
+        body = compressedBody;
+        if (body == null) {
+          ClusterCompression compression = ClusterCompression.NONE;
+          if (forwardedBody != null && bodyCompression != ClusterCompression.NONE) {
+            body = forwardedBody;
+            compression = bodyCompression;
+          } else if (compressor != null) {
+            body = compressor.compress(wireBody());
+            compression = compressor.compression();
+          }
+          if (body == null) {
+            body = wireBody();
+            compression = ClusterCompression.NONE;
+          }
+          compressedBodyCompression = compression;
+          compressedBody = body;
+        }
+      }
+    }
+    return body;
+  }
+
+  /**
+   * @return the compression of the body returned by {@link #compressedWireBody(BodyCompressor)}
+   */
+  ClusterCompression compressedWireBodyCompression() {
+    return compressedBodyCompression;
+  }
+
+  /**
+   * @return whether this message has been read from the wire and its body can be forwarded without being decoded
+   */
+  boolean isForwardable() {
+    return fromWire && bodyPos != 0;
+  }
+
+  /**
+   * Create a message forwarding the body of this message as it was read from the wire: the bytes are written
+   * again without being decoded and encoded, changes made to the decoded body are not forwarded.
+   *
+   * @param sender this node
+   * @param address the address to forward to
+   * @param headers the headers of the forwarded message, the headers of this message when {@code null}
+   * @param send whether the message is sent or published
+   * @return the message to send
+   */
+  ClusteredMessage<U, V> forward(ServerID sender, String address, MultiMap headers, boolean send) {
+    if (headers == null) {
+      headers = new CaseInsensitiveHeaders().addAll(headers());
+    }
+    ClusteredMessage<U, V> forwarded = new ClusteredMessage<>(sender, address, null, headers, null, messageCodec, send, bus);
+    forwarded.wireBuffer = wireBuffer;
+    forwarded.bodyPos = bodyPos;
+    forwarded.bodyCompression = bodyCompression;
+    forwarded.forwardedBody = readOnly(wireBuffer.slice(bodyPos, wireBuffer.length()));
+    return forwarded;
+  }
+
+  private static Buffer readOnly(Buffer buffer) {
+    return Buffer.buffer(buffer.getByteBuf().asReadOnly());
+  }
+
+  /**
+   * Append the wire frame of this message to the {@code buffer}, the frame starts with its length.
+   *
+   * @param buffer the buffer to append to
+   */
+  public void encodeToWire(Buffer buffer) {
+    int start = buffer.length();
     buffer.appendInt(0);
     buffer.appendByte(WIRE_PROTOCOL_VERSION);
     byte systemCodecID = messageCodec.systemCodecID();
@@ -121,15 +306,84 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     buffer.appendInt(sender.port);
     writeString(buffer, sender.host);
     encodeHeaders(buffer);
-    writeBody(buffer);
-    buffer.setInt(0, buffer.length() - 4);
-    return buffer;
+    buffer.appendBuffer(wireBody());
+    buffer.setInt(start, buffer.length() - start - 4);
+  }
+
+  /**
+   * Append the version 2 envelope of this message to the {@code buffer}: the frame length, the protocol version,
+   * the addresses, the sender and the headers. The frame is complete once the {@link #wireBody()} of
+   * {@code bodyLength} bytes is written after the envelope.
+   *
+   * @param buffer the buffer to append to
+   * @param table the strings interned by the connection
+   * @param bodyLength the length of the body
+   * @param compression the compression of the body
+   */
+  void encodeEnvelopeV2(Buffer buffer, WireTable table, int bodyLength, ClusterCompression compression) {
+    int start = buffer.length();
+    buffer.appendInt(0);
+    buffer.appendByte(WIRE_PROTOCOL_VERSION_2);
+    boolean hasHeaders = headers != null && !headers.isEmpty();
+    int flags = 0;
+    if (send) {
+      flags |= FLAG_SEND;
+    }
+    if (replyAddress != null) {
+      flags |= FLAG_REPLY_ADDRESS;
+    }
+    if (hasHeaders) {
+      flags |= FLAG_HEADERS;
+    }
+    if (compression == ClusterCompression.DEFLATE) {
+      flags |= FLAG_DEFLATE;
+    } else if (compression == ClusterCompression.GZIP) {
+      flags |= FLAG_GZIP;
+    }
+    buffer.appendByte((byte) flags);
+    byte systemCodecID = messageCodec.systemCodecID();
+    buffer.appendByte(systemCodecID);
+    if (systemCodecID == -1) {
+      // User codec
+      writeString(buffer, table, messageCodec.name(), true);
+    }
+    // Reply addresses are used once, interning them would only fill the table
+    writeString(buffer, table, address, !reply);
+    if (replyAddress != null) {
+      writeString(buffer, table, replyAddress, false);
+    }
+    writeVarInt(buffer, sender.port);
+    writeString(buffer, table, sender.host, true);
+    if (hasHeaders) {
+      List<Map.Entry<String, String>> entries = headers.entries();
+      writeVarInt(buffer, entries.size());
+      for (Map.Entry<String, String> entry: entries) {
+        writeString(buffer, table, entry.getKey(), true);
+        writeString(buffer, table, entry.getValue(), false);
+      }
+    }
+    buffer.setInt(start, buffer.length() - start - 4 + bodyLength);
   }
 
   public void readFromWire(Buffer buffer, CodecManager codecManager) {
+    readFromWire(buffer, codecManager, null);
+  }
+
+  /**
+   * Read a frame of any supported version of the wire protocol.
+   *
+   * @param buffer the frame, without its length
+   * @param codecManager the codec manager
+   * @param table the strings interned by the connection the frame is read from, required for the version 2
+   */
+  public void readFromWire(Buffer buffer, CodecManager codecManager, WireTable table) {
     int pos = 0;
     // Overall Length already read when passed in here
     byte protocolVersion = buffer.getByte(pos);
+    if (protocolVersion == WIRE_PROTOCOL_VERSION_2 && table != null) {
+      readFromWireV2(buffer, codecManager, table);
+      return;
+    }
     if (protocolVersion > WIRE_PROTOCOL_VERSION) {
       throw new IllegalStateException("Invalid wire protocol version " + protocolVersion +
                                       " should be <= " + WIRE_PROTOCOL_VERSION);
@@ -182,9 +436,58 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     fromWire = true;
   }
 
+  private void readFromWireV2(Buffer buffer, CodecManager codecManager, WireTable table) {
+    wireBuffer = buffer;
+    wireTable = table;
+    // Skip the protocol version
+    wirePos = 1;
+    int flags = buffer.getByte(wirePos++);
+    send = (flags & FLAG_SEND) != 0;
+    if ((flags & FLAG_DEFLATE) != 0) {
+      bodyCompression = ClusterCompression.DEFLATE;
+    } else if ((flags & FLAG_GZIP) != 0) {
+      bodyCompression = ClusterCompression.GZIP;
+    }
+    byte systemCodecCode = buffer.getByte(wirePos++);
+    if (systemCodecCode == -1) {
+      // User codec
+      String codecName = readString(table);
+      messageCodec = codecManager.getCodec(codecName);
+      if (messageCodec == null) {
+        throw new IllegalStateException("No message codec registered with name " + codecName);
+      }
+    } else {
+      messageCodec = codecManager.systemCodecs()[systemCodecCode];
+    }
+    address = readString(table);
+    if ((flags & FLAG_REPLY_ADDRESS) != 0) {
+      replyAddress = readString(table);
+    }
+    int senderPort = readVarInt();
+    String senderHost = readString(table);
+    sender = table.sender(senderPort, senderHost);
+    if ((flags & FLAG_HEADERS) != 0) {
+      headersPos = wirePos;
+      // The header names must be interned in the order of the stream, the values are decoded lazily
+      int numHeaders = readVarInt();
+      for (int i = 0; i < numHeaders; i++) {
+        readString(table);
+        skipString();
+      }
+    }
+    bodyPos = wirePos;
+    fromWire = true;
+  }
+
   private void decodeBody() {
-    receivedBody = messageCodec.decodeFromWire(bodyPos, wireBuffer);
-    bodyPos = 0;
+    if (bodyCompression != ClusterCompression.NONE) {
+      // Decompress only when the body is read
+      Buffer body = BodyCompressor.decompress(bodyCompression, wireBuffer.slice(bodyPos, wireBuffer.length()));
+      receivedBody = messageCodec.decodeFromWire(0, body);
+    } else {
+      receivedBody = messageCodec.decodeFromWire(bodyPos, wireBuffer);
+    }
+    // The body position is kept so the body can still be forwarded
   }
 
   private void encodeHeaders(Buffer buffer) {
@@ -205,6 +508,10 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
   }
 
   private void decodeHeaders() {
+    if (wireTable != null) {
+      decodeHeadersV2();
+      return;
+    }
     int length = wireBuffer.getInt(headersPos);
     if (length != 4) {
       headersPos += 4;
@@ -228,6 +535,19 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     headersPos = 0;
   }
 
+  private void decodeHeadersV2() {
+    wirePos = headersPos;
+    int numHeaders = readVarInt();
+    headers = new CaseInsensitiveHeaders();
+    for (int i = 0; i < numHeaders; i++) {
+      // The names have been interned when the message was read
+      String key = readString(null);
+      String val = readString(null);
+      headers.add(key, val);
+    }
+    headersPos = 0;
+  }
+
   private void writeBody(Buffer buff) {
     messageCodec.encodeToWire(buff, sentBody);
   }
@@ -238,6 +558,87 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     buff.appendBytes(strBytes);
   }
 
+  /*
+   * The strings of the version 2 are written as a varint tag followed by the UTF-8 bytes of literal strings:
+   * (index << 1) | 1 : a string interned by the connection
+   * (length << 2) | 2 : a string interned by the connection from now on
+   * length << 2       : a string that is not interned
+   */
+
+  private static void writeString(Buffer buff, WireTable table, String str, boolean intern) {
+    if (intern) {
+      int index = table.indexOf(str);
+      if (index != -1) {
+        writeVarInt(buff, (index << 1) | 1);
+        return;
+      }
+      intern = table.add(str);
+    }
+    byte[] strBytes = str.getBytes(CharsetUtil.UTF_8);
+    writeVarInt(buff, (strBytes.length << 2) | (intern ? 2 : 0));
+    buff.appendBytes(strBytes);
+  }
+
+  private String readString(WireTable table) {
+    int tag = readVarInt();
+    if ((tag & 1) != 0) {
+      return wireTable.get(tag >>> 1);
+    }
+    int length = tag >>> 2;
+    String str = wireBuffer.getString(wirePos, wirePos + length);
+    wirePos += length;
+    if ((tag & 2) != 0 && table != null) {
+      table.addDecoded(str);
+    }
+    return str;
+  }
+
+  private void skipString() {
+    int tag = readVarInt();
+    if ((tag & 1) == 0) {
+      wirePos += tag >>> 2;
+    }
+  }
+
+  static void writeVarInt(Buffer buff, int value) {
+    while ((value & ~0x7F) != 0) {
+      buff.appendByte((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buff.appendByte((byte) value);
+  }
+
+  private int readVarInt() {
+    int value = readVarInt(wireBuffer, wirePos);
+    wirePos += varIntSize(value);
+    return value;
+  }
+
+  static int readVarInt(Buffer buff, int pos) {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      byte b = buff.getByte(pos++);
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalStateException("Malformed varint");
+  }
+
+  static int varIntSize(int value) {
+    int size = 1;
+    while ((value & ~0x7F) != 0) {
+      value >>>= 7;
+      size++;
+    }
+    return size;
+  }
+
+  void setReply(boolean reply) {
+    this.reply = reply;
+  }
+
   ServerID getSender() {
     return sender;
   }
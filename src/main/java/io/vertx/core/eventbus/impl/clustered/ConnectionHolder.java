@@ -1,22 +1,54 @@
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.internal.PlatformDependent;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.ClusterCompression;
+import io.vertx.core.eventbus.ClusterOverflowPolicy;
 import io.vertx.core.eventbus.EventBusOptions;
 import io.vertx.core.eventbus.impl.codecs.PingMessageCodec;
+import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.impl.ContextImpl;
+import io.vertx.core.impl.NetSocketInternal;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
+import io.vertx.core.net.SocketAddress;
 import io.vertx.core.net.impl.NetClientImpl;
 import io.vertx.core.net.impl.ServerID;
+import io.vertx.core.net.impl.SocketAddressImpl;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 
-import java.util.ArrayDeque;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * Holds the outbound connection to a cluster peer.
+ * <p>
+ * Messages can be written from any thread: they are appended to a multi-producer / single-consumer queue which is
+ * drained by the event loop of the connection. A drain writes the wire frames of the queued messages in batches,
+ * one buffer and one flush per batch, as long as the socket is writable.
+ * <p>
+ * When the socket is not writable, i.e the peer does not read fast enough, messages stay in the queue until the
+ * socket drains. The queue is bounded by {@link EventBusOptions#getClusterMaxQueueSize()}, the
+ * {@link EventBusOptions#getClusterOverflowPolicy()} decides what happens to the messages sent when it is full.
+ * <p>
+ * The sender encodes the body of a message before queuing it, see {@link ClusteredMessage#prepareWrite()}. A message
+ * that cannot be written, or that is still queued when the connection is closed, fails its reply handler.
+ * <p>
+ * The first ping sent on the connection negotiates the wire protocol version with the server. Messages are written
+ * with the version 1 until the server has accepted the version 2, which then interns the strings of the messages
+ * in the {@link WireTable} of the connection and can compress their bodies.
+ *
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
 class ConnectionHolder {
@@ -25,33 +57,73 @@ class ConnectionHolder {
 
   private static final String PING_ADDRESS = "__vertx_ping";
 
+  // Initial capacity of the buffer a drain encodes messages into
+  private static final int BATCH_BUFFER_SIZE = 1024;
+
+  // Frames larger than this are written without being copied in the batch buffer
+  private static final int SHARED_FRAME_THRESHOLD = 8 * 1024;
+
+  // A drain checks the socket is still writable after writing this many bytes
+  private static final int MAX_BATCH_SIZE = 64 * 1024;
+
   private final ClusteredEventBus eventBus;
   private final NetClient client;
+  private final Key key;
   private final ServerID serverID;
   private final Vertx vertx;
   private final EventBusMetrics metrics;
+  private final Queue<ClusteredMessage> pending = PlatformDependent.newMpscQueue();
+  private final AtomicInteger wip = new AtomicInteger();
+  private final Runnable drainTask = this::drain;
+  private final BodyCompressor compressor;
+  private final int maxQueueSize;
+  private final ClusterOverflowPolicy overflowPolicy;
+  private final SocketAddress remoteAddress;
+  private final AtomicInteger queued = new AtomicInteger();
+  private final Queue<Handler<Void>> drainHandlers = new ConcurrentLinkedQueue<>();
 
-  private Queue<ClusteredMessage> pending;
   private NetSocket socket;
-  private boolean connected;
+  private volatile Executor executor;
+  private volatile boolean connected;
+  private volatile boolean closed;
+  private volatile int protocolVersion = 1;
+  private boolean negotiating;
+  private WireTable wireTable;
   private long timeoutID = -1;
   private long pingTimeoutID = -1;
 
-  ConnectionHolder(ClusteredEventBus eventBus, ServerID serverID, EventBusOptions options) {
+  ConnectionHolder(ClusteredEventBus eventBus, Key key, EventBusOptions options) {
     this.eventBus = eventBus;
-    this.serverID = serverID;
+    this.key = key;
+    this.serverID = key.serverID;
     this.vertx = eventBus.vertx();
     this.metrics = eventBus.getMetrics();
     NetClientOptions clientOptions = new NetClientOptions(options.toJson());
     ClusteredEventBus.setCertOptions(clientOptions, options.getKeyCertOptions());
     ClusteredEventBus.setTrustOptions(clientOptions, options.getTrustOptions());
     client = new NetClientImpl(eventBus.vertx(), clientOptions, false);
+    compressor = options.getClusterCompression() != ClusterCompression.NONE ? new BodyCompressor(options) : null;
+    maxQueueSize = options.getClusterMaxQueueSize();
+    overflowPolicy = options.getClusterOverflowPolicy();
+    remoteAddress = new SocketAddressImpl(serverID.port, serverID.host);
   }
 
   synchronized void connect() {
     if (connected) {
       throw new IllegalStateException("Already connected");
     }
+    if (eventBus.options().getClusterConnectionsPerPeer() > 1) {
+      // The connection is bound to the event loop of the context it is created from, use a new one
+      // so the connections of a peer are spread over the event loops
+      ContextImpl context = eventBus.vertx().createEventLoopContext(null, null, new JsonObject(),
+        Thread.currentThread().getContextClassLoader());
+      context.runOnContext(v -> doConnect());
+    } else {
+      doConnect();
+    }
+  }
+
+  private void doConnect() {
     client.connect(serverID.port, serverID.host, res -> {
       if (res.succeeded()) {
         connected(res.result());
@@ -62,22 +134,71 @@ class ConnectionHolder {
     });
   }
 
-  // TODO optimise this (contention on monitor)
-  synchronized void writeMessage(ClusteredMessage message) {
-    if (connected) {
-      Buffer data = message.encodeToWire();
-      if (metrics != null) {
-        metrics.messageWritten(message.address(), data.length());
-      }
-      socket.write(data);
-    } else {
-      if (pending == null) {
-        if (log.isDebugEnabled()) {
-          log.debug("Not connected to server " + serverID + " - starting queuing");
-        }
-        pending = new ArrayDeque<>();
-      }
-      pending.add(message);
+  Key key() {
+    return key;
+  }
+
+  /**
+   * Queue a message to be written to the connection.
+   * <p>
+   * With the {@link ClusterOverflowPolicy#BLOCK} policy only the messages of the producers, which stop writing
+   * while the queue is full, are queued beyond the maximum size: the other messages are rejected as with
+   * {@link ClusterOverflowPolicy#FAIL}.
+   *
+   * @param fromProducer whether the message is sent by a {@link io.vertx.core.eventbus.MessageProducer}
+   * @return {@code false} when the message is rejected because the queue is full
+   */
+  boolean writeMessage(ClusteredMessage message, boolean fromProducer) {
+    int size = queued.incrementAndGet();
+    if (maxQueueSize > 0 && size > maxQueueSize && (overflowPolicy == ClusterOverflowPolicy.FAIL ||
+      overflowPolicy == ClusterOverflowPolicy.BLOCK && !fromProducer)) {
+      queued.decrementAndGet();
+      return false;
+    }
+    try {
+      message.prepareWrite();
+    } catch (RuntimeException e) {
+      queued.decrementAndGet();
+      throw e;
+    }
+    pending.add(message);
+    if (metrics != null) {
+      metrics.clusterQueueSize(remoteAddress, size);
+    }
+    // Messages queued before the connection is established are drained by connected(...)
+    if (connected || closed) {
+      scheduleDrain();
+    }
+    return true;
+  }
+
+  /**
+   * @return whether the queue has reached {@link EventBusOptions#getClusterMaxQueueSize()}
+   */
+  boolean isQueueFull() {
+    return maxQueueSize > 0 && queued.get() >= maxQueueSize;
+  }
+
+  /**
+   * Set a one-shot handler called when the queue is drained below half of its maximum size or when the
+   * connection is closed. The handler can be called from any thread.
+   */
+  void addDrainHandler(Handler<Void> handler) {
+    drainHandlers.add(handler);
+    // The queue may have drained before the handler was added
+    if (isQueueDrained()) {
+      callDrainHandlers();
+    }
+  }
+
+  private boolean isQueueDrained() {
+    return maxQueueSize <= 0 || queued.get() <= maxQueueSize / 2;
+  }
+
+  private void callDrainHandlers() {
+    Handler<Void> handler;
+    while ((handler = drainHandlers.poll()) != null) {
+      handler.handle(null);
     }
   }
 
@@ -94,11 +215,16 @@ class ConnectionHolder {
     }
     // The holder can be null or different if the target server is restarted with same serverid
     // before the cleanup for the previous one has been processed
-    if (eventBus.connections().remove(serverID, this)) {
+    if (eventBus.connections().remove(key, this)) {
       if (log.isDebugEnabled()) {
         log.debug("Cluster connection closed for server " + serverID);
       }
     }
+    // The producers waiting for the queue to drain must not wait forever
+    callDrainHandlers();
+    closed = true;
+    // Fail the messages still queued
+    scheduleDrain();
   }
 
   private void schedulePing() {
@@ -119,29 +245,253 @@ class ConnectionHolder {
 
   private synchronized void connected(NetSocket socket) {
     this.socket = socket;
-    connected = true;
+    this.executor = ((NetSocketInternal) socket).channelHandlerContext().executor();
     socket.exceptionHandler(t -> close());
     socket.closeHandler(v -> close());
+    // Resume writing the queued messages when the socket becomes writable again
+    socket.drainHandler(v -> scheduleDrain());
     socket.handler(data -> {
-      // Got a pong back
-      vertx.cancelTimer(timeoutID);
-      schedulePing();
+      int pos = 0;
+      if (negotiating) {
+        // The reply to the first ping is the wire protocol version to use
+        negotiating = false;
+        if (data.getByte(0) >= ClusteredMessage.WIRE_PROTOCOL_VERSION_2) {
+          protocolVersion = ClusteredMessage.WIRE_PROTOCOL_VERSION_2;
+        }
+        pos++;
+      }
+      if (pos < data.length()) {
+        // Got a pong back
+        vertx.cancelTimer(timeoutID);
+        schedulePing();
+      }
     });
+    negotiate();
     // Start a pinger
     schedulePing();
-    if (pending != null) {
-      if (log.isDebugEnabled()) {
-        log.debug("Draining the queue for server " + serverID);
+    connected = true;
+    if (log.isDebugEnabled() && !pending.isEmpty()) {
+      log.debug("Draining the queue for server " + serverID);
+    }
+    scheduleDrain();
+  }
+
+  private void negotiate() {
+    negotiating = true;
+    MultiMap headers = new CaseInsensitiveHeaders().add(ClusteredEventBus.WIRE_PROTOCOL_HEADER,
+      String.valueOf(ClusteredMessage.WIRE_PROTOCOL_VERSION_2));
+    ClusteredMessage pingMessage =
+      new ClusteredMessage<>(serverID, PING_ADDRESS, null, headers, null, new PingMessageCodec(), true, eventBus);
+    socket.write(pingMessage.encodeToWire());
+  }
+
+  private void scheduleDrain() {
+    // Only the first producer of a drain cycle submits the drain task
+    if (wip.getAndIncrement() == 0) {
+      Executor exec = executor;
+      if (exec != null) {
+        exec.execute(drainTask);
+      } else {
+        // Closed before being connected, the messages are failed by the current thread
+        drain();
+      }
+    }
+  }
+
+  /**
+   * Runs on the connection event loop: writes the queued messages while the socket is writable, this loops until
+   * no producer has signalled new messages during the drain.
+   */
+  private void drain() {
+    int missed = 1;
+    while (true) {
+      try {
+        if (closed) {
+          failQueued();
+        } else {
+          if (overflowPolicy == ClusterOverflowPolicy.DROP_OLDEST && maxQueueSize > 0) {
+            dropOldest();
+          }
+          while (!socket.writeQueueFull() && writeBatch()) {
+            // Loop until the queue is empty or the socket is full
+          }
+        }
+        if (metrics != null) {
+          metrics.clusterQueueSize(remoteAddress, queued.get());
+        }
+        if (!drainHandlers.isEmpty() && (closed || isQueueDrained())) {
+          callDrainHandlers();
+        }
+      } catch (Throwable t) {
+        // The drain must account the signals of the producers, otherwise no drain is scheduled anymore
+        log.error("Failed to write to server " + serverID, t);
+      }
+      missed = wip.addAndGet(-missed);
+      if (missed == 0) {
+        break;
       }
-      for (ClusteredMessage message : pending) {
-        Buffer data = message.encodeToWire();
+    }
+  }
+
+  private void failQueued() {
+    ClusteredMessage message;
+    while ((message = pending.poll()) != null) {
+      queued.decrementAndGet();
+      eventBus.failReply(message, "Connection to server " + serverID + " closed");
+    }
+  }
+
+  private void dropOldest() {
+    while (queued.get() > maxQueueSize) {
+      ClusteredMessage message = pending.poll();
+      if (message == null) {
+        // The message of a producer is counted but not yet queued
+        break;
+      }
+      queued.decrementAndGet();
+      if (metrics != null) {
+        metrics.messageDropped(message.address());
+      }
+    }
+  }
+
+  /**
+   * Writes a batch of queued messages in a single buffer.
+   * <p>
+   * Small frames are copied in a contiguous buffer, large frames are shared with the other connections they
+   * are written to and are added as components of the batch without being copied.
+   *
+   * @return {@code true} when the batch is full and more messages may be queued
+   */
+  private boolean writeBatch() {
+    Buffer batch = null;
+    CompositeByteBuf composite = null;
+    int written = 0;
+    ClusteredMessage message;
+    boolean broken = false;
+    while (written < MAX_BATCH_SIZE && (message = pending.poll()) != null) {
+      queued.decrementAndGet();
+      if (protocolVersion == ClusteredMessage.WIRE_PROTOCOL_VERSION_2) {
+        // The envelope is specific to the connection, only the body can be shared
+        Buffer body;
+        try {
+          body = message.compressedWireBody(compressor);
+        } catch (Throwable t) {
+          failMessage(message, t);
+          continue;
+        }
+        ClusterCompression compression = message.compressedWireBodyCompression();
+        if (batch == null) {
+          batch = Buffer.buffer(BATCH_BUFFER_SIZE);
+        }
+        if (wireTable == null) {
+          wireTable = new WireTable();
+        }
+        int start = batch.length();
+        try {
+          message.encodeEnvelopeV2(batch, wireTable, body.length(), compression);
+        } catch (Throwable t) {
+          // The strings interned by the partial envelope are unknown to the server, the connection cannot be used
+          // anymore: the frames of the batch are written and the connection is closed
+          batch = batch.slice(0, start);
+          failMessage(message, t);
+          broken = true;
+          break;
+        }
+        int length = batch.length() - start + body.length();
+        written += length;
         if (metrics != null) {
-          metrics.messageWritten(message.address(), data.length());
+          metrics.messageWritten(message.address(), length);
+        }
+        if (body.length() < SHARED_FRAME_THRESHOLD) {
+          batch.appendBuffer(body);
+        } else {
+          if (composite == null) {
+            composite = Unpooled.compositeBuffer(Integer.MAX_VALUE);
+          }
+          composite.addComponent(true, batch.getByteBuf());
+          composite.addComponent(true, body.getByteBuf());
+          batch = null;
         }
-        socket.write(data);
+        continue;
       }
+      Buffer frame;
+      try {
+        frame = message.wireFrame();
+      } catch (Throwable t) {
+        failMessage(message, t);
+        continue;
+      }
+      written += frame.length();
+      if (metrics != null) {
+        metrics.messageWritten(message.address(), frame.length());
+      }
+      if (frame.length() < SHARED_FRAME_THRESHOLD) {
+        if (batch == null) {
+          batch = Buffer.buffer(BATCH_BUFFER_SIZE);
+        }
+        batch.appendBuffer(frame);
+      } else {
+        if (composite == null) {
+          composite = Unpooled.compositeBuffer(Integer.MAX_VALUE);
+        }
+        if (batch != null) {
+          composite.addComponent(true, batch.getByteBuf());
+          batch = null;
+        }
+        composite.addComponent(true, frame.getByteBuf());
+      }
+    }
+    if (composite != null) {
+      if (batch != null) {
+        composite.addComponent(true, batch.getByteBuf());
+      }
+      socket.write(Buffer.buffer(composite));
+    } else if (batch != null && batch.length() > 0) {
+      socket.write(batch);
+    }
+    if (broken) {
+      socket.close();
+      return false;
     }
-    pending = null;
+    return written >= MAX_BATCH_SIZE;
   }
 
+  private void failMessage(ClusteredMessage message, Throwable cause) {
+    log.error("Failed to write message to server " + serverID + ", address: " + message.address(), cause);
+    eventBus.failReply(message, "Failed to write message to server " + serverID + ": " + cause.getMessage());
+  }
+
+  /**
+   * Identifies a connection to a cluster node, a node has {@link EventBusOptions#getClusterConnectionsPerPeer()}
+   * connections.
+   */
+  static final class Key {
+
+    final ServerID serverID;
+    final int stripe;
+
+    Key(ServerID serverID, int stripe) {
+      this.serverID = serverID;
+      this.stripe = stripe;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      Key that = (Key) o;
+      return stripe == that.stripe && serverID.equals(that.serverID);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * serverID.hashCode() + stripe;
+    }
+
+    @Override
+    public String toString() {
+      return serverID + "#" + stripe;
+    }
+  }
 }
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.spi.cluster.AsyncMultiMap;
+import io.vertx.core.spi.cluster.ChoosableIterable;
+import io.vertx.core.spi.metrics.EventBusMetrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A node-local view of the cluster subscription map, keyed by address.
+ * <p>
+ * A route is looked up in the cluster subscription map the first time an address is used and is then resolved
+ * synchronously. Routes are updated when this node registers or unregisters an address and when nodes join or
+ * leave the cluster. Routes older than the max age are still used but refreshed asynchronously from the cluster
+ * subscription map to observe the subscription changes of the other nodes. An address without subscribers is not
+ * cached, so the first subscription of another node is observed by the next message.
+ * <p>
+ * When the table is full the stale routes are evicted, and some of the other routes when none is stale.
+ * <p>
+ * Senders that miss the cache wait for a single lookup per address, so messages sent by the same thread are
+ * routed in order.
+ */
+class RoutingTable {
+
+  private static final int MAX_ROUTES = 64 * 1024;
+
+  // Number of routes evicted at once when the table is full and no route is stale
+  private static final int EVICTION_BATCH = MAX_ROUTES / 16;
+
+  private final AsyncMultiMap<String, ClusterNodeInfo> subs;
+  private final EventBusMetrics metrics;
+  private final long maxAge;
+  private final ConcurrentMap<String, Route> routes = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Lookup> lookups = new ConcurrentHashMap<>();
+  private final AtomicInteger generation = new AtomicInteger();
+
+  RoutingTable(AsyncMultiMap<String, ClusterNodeInfo> subs, EventBusMetrics metrics, long maxAge) {
+    this.subs = subs;
+    this.metrics = metrics;
+    this.maxAge = maxAge;
+  }
+
+  /**
+   * Resolve the route of an address from the cache.
+   *
+   * @return the route or {@code null} when the address is not cached
+   */
+  ChoosableIterable<ClusterNodeInfo> route(String address) {
+    Route route = routes.get(address);
+    if (route != null) {
+      if (isStale(route, System.currentTimeMillis())) {
+        if (metrics != null) {
+          metrics.routingCacheStale(address);
+        }
+        refresh(address, route);
+      } else if (metrics != null) {
+        metrics.routingCacheHit(address);
+      }
+    }
+    return route;
+  }
+
+  /**
+   * Lookup the route of an address from the cluster subscription map, the handler is called after the
+   * handlers of the previous lookups of the same address.
+   */
+  void lookup(String address, Handler<AsyncResult<ChoosableIterable<ClusterNodeInfo>>> handler) {
+    if (metrics != null) {
+      metrics.routingCacheMiss(address);
+    }
+    while (true) {
+      Lookup lookup = new Lookup();
+      Lookup existing = lookups.putIfAbsent(address, lookup);
+      if (existing != null) {
+        if (existing.await(handler)) {
+          return;
+        }
+        // The lookup has completed and the route is cached
+        lookups.remove(address, existing);
+      } else {
+        lookup.await(handler);
+        Route route = routes.get(address);
+        if (route != null) {
+          // Installed by a lookup that completed in the meantime
+          complete(address, lookup, Future.succeededFuture(route));
+        } else {
+          int gen = generation.get();
+          subs.get(address, ar -> {
+            if (ar.succeeded()) {
+              Route resolved = new Route(ar.result(), gen);
+              // The waiters are called before the route is installed, so a message cannot be routed before the
+              // messages waiting for this lookup
+              lookup.complete(Future.succeededFuture(resolved));
+              install(address, resolved);
+              lookups.remove(address, lookup);
+            } else {
+              complete(address, lookup, Future.failedFuture(ar.cause()));
+            }
+          });
+        }
+        return;
+      }
+    }
+  }
+
+  /**
+   * This node has registered an address.
+   */
+  void addLocal(String address, ClusterNodeInfo node) {
+    routes.computeIfPresent(address, (addr, route) -> route.add(node));
+  }
+
+  /**
+   * This node has unregistered an address.
+   */
+  void removeLocal(String address, ClusterNodeInfo node) {
+    routes.computeIfPresent(address, (addr, route) -> nonEmpty(route.remove(node)));
+  }
+
+  /**
+   * A node joined the cluster: it might have subscriptions for any address, so all the routes must be refreshed.
+   */
+  void nodeAdded(String nodeID) {
+    generation.incrementAndGet();
+  }
+
+  /**
+   * A node left the cluster: remove it from all the routes.
+   */
+  void nodeLeft(String nodeID) {
+    for (String address : routes.keySet()) {
+      routes.computeIfPresent(address, (addr, route) -> nonEmpty(route.removeNode(nodeID)));
+    }
+  }
+
+  private void complete(String address, Lookup lookup, AsyncResult<ChoosableIterable<ClusterNodeInfo>> result) {
+    lookup.complete(result);
+    lookups.remove(address, lookup);
+  }
+
+  private void refresh(String address, Route route) {
+    if (route.refreshing.compareAndSet(false, true)) {
+      int gen = generation.get();
+      subs.get(address, ar -> {
+        if (ar.succeeded()) {
+          Route refreshed = new Route(ar.result(), gen);
+          // A route changed meanwhile by a local registration is refreshed again by the next message
+          if (refreshed.isEmpty()) {
+            routes.remove(address, route);
+          } else {
+            routes.replace(address, route, refreshed);
+          }
+        } else {
+          route.refreshing.set(false);
+        }
+      });
+    }
+  }
+
+  private boolean isStale(Route route, long now) {
+    return route.generation != generation.get() || now - route.timestamp > maxAge;
+  }
+
+  private static Route nonEmpty(Route route) {
+    return route.isEmpty() ? null : route;
+  }
+
+  private void install(String address, Route route) {
+    if (route.isEmpty()) {
+      // Not cached, so the subscriptions of the other nodes are observed as soon as they are added
+      return;
+    }
+    if (routes.size() >= MAX_ROUTES) {
+      evict();
+    }
+    routes.put(address, route);
+  }
+
+  private void evict() {
+    long now = System.currentTimeMillis();
+    routes.values().removeIf(route -> isStale(route, now));
+    Iterator<Route> it = routes.values().iterator();
+    while (routes.size() > MAX_ROUTES - EVICTION_BATCH && it.hasNext()) {
+      it.next();
+      it.remove();
+    }
+  }
+
+  private static class Lookup {
+
+    private List<Handler<AsyncResult<ChoosableIterable<ClusterNodeInfo>>>> waiters = new ArrayList<>(1);
+
+    synchronized boolean await(Handler<AsyncResult<ChoosableIterable<ClusterNodeInfo>>> handler) {
+      if (waiters == null) {
+        return false;
+      }
+      waiters.add(handler);
+      return true;
+    }
+
+    void complete(AsyncResult<ChoosableIterable<ClusterNodeInfo>> result) {
+      // The handlers are called without the lock held. The lookup accepts waiters until all of them have been
+      // called, so a sender cannot route a message before its previous messages
+      while (true) {
+        List<Handler<AsyncResult<ChoosableIterable<ClusterNodeInfo>>>> list;
+        synchronized (this) {
+          list = waiters;
+          if (list.isEmpty()) {
+            waiters = null;
+            return;
+          }
+          waiters = new ArrayList<>(1);
+        }
+        for (Handler<AsyncResult<ChoosableIterable<ClusterNodeInfo>>> waiter : list) {
+          waiter.handle(result);
+        }
+      }
+    }
+  }
+
+  private static class Route implements ChoosableIterable<ClusterNodeInfo> {
+
+    private static final ClusterNodeInfo[] EMPTY = new ClusterNodeInfo[0];
+
+    private final ClusterNodeInfo[] nodes;
+    private final int generation;
+    private final long timestamp;
+    private final AtomicInteger pos = new AtomicInteger();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    Route(Iterable<ClusterNodeInfo> iterable, int generation) {
+      List<ClusterNodeInfo> list = new ArrayList<>();
+      if (iterable != null) {
+        for (ClusterNodeInfo node : iterable) {
+          list.add(node);
+        }
+      }
+      this.nodes = list.toArray(EMPTY);
+      this.generation = generation;
+      this.timestamp = System.currentTimeMillis();
+    }
+
+    private Route(ClusterNodeInfo[] nodes, Route other) {
+      this.nodes = nodes;
+      this.generation = other.generation;
+      this.timestamp = other.timestamp;
+    }
+
+    Route add(ClusterNodeInfo node) {
+      for (ClusterNodeInfo n : nodes) {
+        if (n.equals(node)) {
+          return this;
+        }
+      }
+      ClusterNodeInfo[] copy = Arrays.copyOf(nodes, nodes.length + 1);
+      copy[nodes.length] = node;
+      return new Route(copy, this);
+    }
+
+    Route remove(ClusterNodeInfo node) {
+      List<ClusterNodeInfo> list = new ArrayList<>(nodes.length);
+      for (ClusterNodeInfo n : nodes) {
+        if (!n.equals(node)) {
+          list.add(n);
+        }
+      }
+      return list.size() == nodes.length ? this : new Route(list.toArray(EMPTY), this);
+    }
+
+    Route removeNode(String nodeID) {
+      List<ClusterNodeInfo> list = new ArrayList<>(nodes.length);
+      for (ClusterNodeInfo n : nodes) {
+        if (!nodeID.equals(n.nodeId)) {
+          list.add(n);
+        }
+      }
+      return list.size() == nodes.length ? this : new Route(list.toArray(EMPTY), this);
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return nodes.length == 0;
+    }
+
+    @Override
+    public ClusterNodeInfo choose() {
+      if (nodes.length == 0) {
+        return null;
+      }
+      return nodes[(pos.getAndIncrement() & Integer.MAX_VALUE) % nodes.length];
+    }
+
+    @Override
+    public Iterator<ClusterNodeInfo> iterator() {
+      return Arrays.asList(nodes).iterator();
+    }
+  }
+}
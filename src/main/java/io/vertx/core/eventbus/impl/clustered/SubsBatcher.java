@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.spi.cluster.AsyncMultiMap;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Batches the updates of the subscriptions of this node in the cluster subscription map.
+ * <p>
+ * An update is sent right away when no other update is in progress, otherwise it is queued until the update in
+ * progress completes. The queued updates are then sent in batches: consecutive registrations are sent with a single
+ * {@link AsyncMultiMap#addAll} and consecutive unregistrations with a single {@link AsyncMultiMap#removeAll}, so the
+ * updates of an address are applied in order.
+ */
+class SubsBatcher {
+
+  // Maximum number of addresses sent in a single cluster map operation
+  private static final int MAX_BATCH_SIZE = 1024;
+
+  private final AsyncMultiMap<String, ClusterNodeInfo> subs;
+  private final ClusterNodeInfo nodeInfo;
+  private final ArrayDeque<Update> queue = new ArrayDeque<>();
+  private boolean sending;
+
+  SubsBatcher(AsyncMultiMap<String, ClusterNodeInfo> subs, ClusterNodeInfo nodeInfo) {
+    this.subs = subs;
+    this.nodeInfo = nodeInfo;
+  }
+
+  void add(String address, Handler<AsyncResult<Void>> completionHandler) {
+    enqueue(new Update(true, address, ar -> completionHandler.handle(ar.mapEmpty())));
+  }
+
+  /**
+   * @param completionHandler called with {@code true} when the subscription was found and removed
+   */
+  void remove(String address, Handler<AsyncResult<Boolean>> completionHandler) {
+    enqueue(new Update(false, address, completionHandler));
+  }
+
+  private void enqueue(Update update) {
+    synchronized (this) {
+      queue.add(update);
+      if (sending) {
+        return;
+      }
+      sending = true;
+    }
+    sendNext();
+  }
+
+  private void sendNext() {
+    List<Update> batch = new ArrayList<>();
+    synchronized (this) {
+      Update first = queue.peek();
+      if (first == null) {
+        sending = false;
+        return;
+      }
+      while (batch.size() < MAX_BATCH_SIZE && !queue.isEmpty() && queue.peek().add == first.add) {
+        batch.add(queue.poll());
+      }
+    }
+    Update first = batch.get(0);
+    if (batch.size() == 1) {
+      if (first.add) {
+        subs.add(first.address, nodeInfo, ar -> completed(batch, ar.map(true)));
+      } else {
+        subs.remove(first.address, nodeInfo, ar -> completed(batch, ar));
+      }
+    } else {
+      List<String> addresses = new ArrayList<>(batch.size());
+      for (Update update : batch) {
+        addresses.add(update.address);
+      }
+      if (first.add) {
+        subs.addAll(addresses, nodeInfo, ar -> completed(batch, ar.map(true)));
+      } else {
+        subs.removeAll(addresses, nodeInfo, ar -> {
+          if (ar.succeeded()) {
+            // Each unregistration is told whether its own subscription was found
+            for (Update update : batch) {
+              update.completionHandler.handle(Future.succeededFuture(ar.result().contains(update.address)));
+            }
+            sendNext();
+          } else {
+            completed(batch, Future.failedFuture(ar.cause()));
+          }
+        });
+      }
+    }
+  }
+
+  private void completed(List<Update> batch, AsyncResult<Boolean> result) {
+    for (Update update : batch) {
+      update.completionHandler.handle(result);
+    }
+    sendNext();
+  }
+
+  private static class Update {
+
+    final boolean add;
+    final String address;
+    final Handler<AsyncResult<Boolean>> completionHandler;
+
+    Update(boolean add, String address, Handler<AsyncResult<Boolean>> completionHandler) {
+      this.add = add;
+      this.address = address;
+      this.completionHandler = completionHandler;
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.vertx.core.net.impl.ServerID;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The strings interned by one side of a cluster connection with the version 2 of the wire protocol.
+ * <p>
+ * The first time a string is written it is sent with its value and both sides assign it the next index, afterwards
+ * it is sent as its index. The indexes are assigned in the order of the stream, so both sides agree on them without
+ * any other exchange. When the table is full, new strings are sent with their value and are not interned.
+ * <p>
+ * A table is modified only by the event loop of its connection. The strings of the decoding side are never replaced
+ * and the array is never resized, so a message decoding its headers lazily on another thread sees the strings
+ * that were interned before the message was handed over.
+ */
+class WireTable {
+
+  static final int CAPACITY = 1024;
+
+  // Encoding side
+  private Map<String, Integer> indexes;
+
+  // Decoding side
+  private String[] strings;
+  private ServerID lastSender;
+
+  private int size;
+
+  /**
+   * @return the index of the {@code string} or {@code -1} when it is not interned
+   */
+  int indexOf(String string) {
+    if (indexes == null) {
+      return -1;
+    }
+    Integer index = indexes.get(string);
+    return index != null ? index : -1;
+  }
+
+  /**
+   * Intern a string, this must be called in the same order on both sides of the connection.
+   *
+   * @return {@code true} when the string has been interned, {@code false} when the table is full
+   */
+  boolean add(String string) {
+    if (size == CAPACITY) {
+      return false;
+    }
+    if (indexes == null) {
+      indexes = new HashMap<>();
+    }
+    indexes.put(string, size++);
+    return true;
+  }
+
+  /**
+   * Intern a string read from the wire.
+   */
+  void addDecoded(String string) {
+    if (size == CAPACITY) {
+      throw new IllegalStateException("Wire table is full");
+    }
+    if (strings == null) {
+      strings = new String[CAPACITY];
+    }
+    strings[size++] = string;
+  }
+
+  String get(int index) {
+    String string = strings != null && index < CAPACITY ? strings[index] : null;
+    if (string == null) {
+      throw new IllegalStateException("Invalid wire table index " + index);
+    }
+    return string;
+  }
+
+  /**
+   * @return the sender with the given port and host, reusing the previous one when it is the same
+   */
+  ServerID sender(int port, String host) {
+    ServerID sender = lastSender;
+    if (sender == null || sender.port != port || !sender.host.equals(host)) {
+      sender = new ServerID(port, host);
+      lastSender = sender;
+    }
+    return sender;
+  }
+}
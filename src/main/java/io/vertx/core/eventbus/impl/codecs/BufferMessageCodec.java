@@ -39,7 +39,8 @@ public class BufferMessageCodec implements MessageCodec<Buffer, Buffer> {
 
   @Override
   public Buffer transform(Buffer b) {
-    return b.copy();
+    // Read-only buffers are handed as is to the handlers
+    return b.isReadOnly() ? b : b.copy();
   }
 
   @Override
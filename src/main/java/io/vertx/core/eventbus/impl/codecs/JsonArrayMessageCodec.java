@@ -41,7 +41,8 @@ public class JsonArrayMessageCodec implements MessageCodec<JsonArray, JsonArray>
 
   @Override
   public JsonArray transform(JsonArray jsonArray) {
-    return jsonArray.copy();
+    // Read-only arrays are handed as is to the handlers
+    return jsonArray.isReadOnly() ? jsonArray : jsonArray.copy();
   }
 
   @Override
@@ -41,7 +41,8 @@ public class JsonObjectMessageCodec implements MessageCodec<JsonObject, JsonObje
 
   @Override
   public JsonObject transform(JsonObject jsonObject) {
-    return jsonObject.copy();
+    // Read-only objects are handed as is to the handlers
+    return jsonObject.isReadOnly() ? jsonObject : jsonObject.copy();
   }
 
   @Override
@@ -91,6 +91,11 @@
  * The event bus is very flexible and also supports sending arbitrary objects over the event bus.
  * You do this by defining a {@link io.vertx.core.eventbus.MessageCodec codec} for the objects you want to send.
  *
+ * JSON objects, JSON arrays and buffers sent locally are copied for each handler receiving them. A read-only copy
+ * obtained with {@link io.vertx.core.json.JsonObject#readOnlyCopy}, {@link io.vertx.core.json.JsonArray#readOnlyCopy}
+ * or {@link io.vertx.core.buffer.Buffer#readOnlyCopy} is copied once and then handed as is to every handler, which is
+ * cheaper when a message is published to many handlers. The handlers cannot modify it.
+ *
  * === The Event Bus API
  *
  * Let's jump into the API
@@ -170,6 +175,10 @@
  * Sending a message will result in only one handler registered at the address receiving the message.
  * This is the point to point messaging pattern. The handler is chosen in a non-strict round-robin fashion.
  *
+ * When {@link io.vertx.core.eventbus.EventBusOptions#setEventLoopAffinity} is enabled, a message sent from an event
+ * loop is handled in priority by a handler running on the same event loop, unless that handler has many messages
+ * waiting already.
+ *
  * You can send a message with {@link io.vertx.core.eventbus.EventBus#send}
  *
  * [source,$lang]
@@ -183,6 +192,10 @@
  *
  * Vert.x will deliver messages to any particular handler in the same order they were sent from any particular sender.
  *
+ * A consumer partitioned with {@link io.vertx.core.eventbus.MessageConsumer#partitionBy} handles its messages on
+ * several lanes running in parallel on worker threads, even when the consumer is registered from an event loop context.
+ * The messages with the same key are handled in order on the same lane, so the ordering is only guaranteed per key.
+ *
  * ==== The Message object
  *
  * The object you receive in a message handler is a {@link io.vertx.core.eventbus.Message}.
@@ -275,6 +288,33 @@
  *
  *  vertx run my-verticle.js -cluster
  *
+ * ==== Forwarding clustered messages
+ *
+ * A message received from another node can be sent again by passing the message itself as the body. Its body is
+ * then forwarded as it was received, without being decoded and encoded again:
+ *
+ * [source,java]
+ * ----
+ * eventBus.consumer("gateway", message -> eventBus.send("backend", message));
+ * ----
+ *
+ * The headers of the message are forwarded too, unless other headers are set in the delivery options.
+ * Changes made to the decoded body are not forwarded.
+ *
+ * ==== Bounding the cluster connection queues
+ *
+ * The messages sent to another node are queued until the connection to the node can write them. When a node does
+ * not read its messages fast enough, the queue of its connection grows. The queue size can be bounded with
+ * {@link io.vertx.core.eventbus.EventBusOptions#setClusterMaxQueueSize(int)}, the
+ * {@link io.vertx.core.eventbus.EventBusOptions#setClusterOverflowPolicy} then decides what happens to the messages
+ * sent when it is full:
+ *
+ * * `FAIL`: the message is not sent and the reply handler gets a {@link io.vertx.core.eventbus.ReplyFailure#QUEUE_FULL}
+ * failure
+ * * `DROP_OLDEST`: the oldest queued message is discarded
+ * * `BLOCK`: the message of a message producer is queued anyway and the producers sending to the node report their
+ * write queue as full until the queue is drained, the other messages are handled as with `FAIL`
+ *
  * === Automatic clean-up in verticles
  *
  * If you're registering event bus handlers from inside verticles, those handlers will be automatically unregistered
@@ -668,6 +668,11 @@ public class HttpServerOptions extends NetServerOptions {
     return (HttpServerOptions) super.setSni(sni);
   }
 
+  @Override
+  public HttpServerOptions setListenerPerEventLoop(boolean listenerPerEventLoop) {
+    return (HttpServerOptions) super.setListenerPerEventLoop(listenerPerEventLoop);
+  }
+
   /**
    * @return true if the server supports decompression
    */
@@ -136,6 +136,7 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
   private AsyncResolveConnectHelper bindFuture;
   private ServerID id;
   private HttpServerImpl actualServer;
+  private boolean listenerPerEventLoop;
   private volatile int actualPort;
   private ContextImpl listenContext;
   private HttpServerMetrics metrics;
@@ -240,6 +241,8 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
     }
     listenContext = vertx.getOrCreateContext();
     listening = true;
+    // Each server binds its own socket with SO_REUSEPORT and is not shared
+    listenerPerEventLoop = options.isListenerPerEventLoop() && vertx.transport().supportsReusePortBalancing();
     serverOrigin = (options.isSsl() ? "https" : "http") + "://" + host + ":" + port;
     List<HttpVersion> applicationProtocols = options.getAlpnVersions();
     if (listenContext.isWorkerContext()) {
@@ -249,11 +252,16 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
     synchronized (vertx.sharedHttpServers()) {
       this.actualPort = port; // Will be updated on bind for a wildcard port
       id = new ServerID(port, host);
-      HttpServerImpl shared = vertx.sharedHttpServers().get(id);
+      HttpServerImpl shared = listenerPerEventLoop ? null : vertx.sharedHttpServers().get(id);
       if (shared == null || port == 0) {
         serverChannelGroup = new DefaultChannelGroup("vertx-acceptor-channels", GlobalEventExecutor.INSTANCE);
         ServerBootstrap bootstrap = new ServerBootstrap();
-        bootstrap.group(vertx.getAcceptorEventLoopGroup(), availableWorkers);
+        if (listenerPerEventLoop) {
+          // The connections are accepted and handled by the event loop of the listen context
+          bootstrap.group(listenContext.nettyEventLoop());
+        } else {
+          bootstrap.group(vertx.getAcceptorEventLoopGroup(), availableWorkers);
+        }
         applyConnectionOptions(bootstrap);
         sslHelper.validate(vertx);
         bootstrap.childHandler(new ChannelInitializer<Channel>() {
@@ -344,7 +352,9 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
           bindFuture = AsyncResolveConnectHelper.doBind(vertx, SocketAddress.inetSocketAddress(port, host), bootstrap);
           bindFuture.addListener(res -> {
             if (res.failed()) {
-              vertx.sharedHttpServers().remove(id);
+              if (!listenerPerEventLoop) {
+                vertx.sharedHttpServers().remove(id);
+              }
             } else {
               Channel serverChannel = res.result();
               HttpServerImpl.this.actualPort = ((InetSocketAddress)serverChannel.localAddress()).getPort();
@@ -364,7 +374,9 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
           listening = false;
           return this;
         }
-        vertx.sharedHttpServers().put(id, this);
+        if (!listenerPerEventLoop) {
+          vertx.sharedHttpServers().put(id, this);
+        }
         actualServer = this;
       } else {
         // Server already exists with that host/port - we will use that
@@ -564,7 +576,7 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
   }
 
   private void applyConnectionOptions(ServerBootstrap bootstrap) {
-    vertx.transport().configure(options, bootstrap);
+    vertx.transport().configure(options, false, bootstrap);
   }
 
 
@@ -579,7 +591,7 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
   }
 
   private void actualClose(final ContextImpl closeContext, final Handler<AsyncResult<Void>> done) {
-    if (id != null) {
+    if (id != null && !listenerPerEventLoop) {
       vertx.sharedHttpServers().remove(id);
     }
 
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.impl;
+
+import io.vertx.core.spi.metrics.PoolStatistics;
+
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A worker thread pool sized between a minimum and a maximum number of threads from the time the tasks wait in its
+ * queue.
+ * <p>
+ * The wait time of the oldest queued task is checked when a task is submitted to a busy pool and when a thread takes
+ * a task while others are queued: when it is longer than {@code targetWaitTime}, a thread is added for each queued
+ * task, up to the maximum size. When no thread takes the queued tasks, a one-shot check fires when the oldest
+ * of them reaches {@code targetWaitTime}. When a thread becomes idle, a one-shot check removes a thread after
+ * {@code keepAliveTime} without queued task, down to the minimum size. An idle pool does not schedule any check.
+ * <p>
+ * The wait time of each task is recorded in a histogram of power of two buckets, exposed with {@link PoolStatistics}.
+ * <p>
+ * The submitted tasks are wrapped to record their submission time, {@link #remove(Runnable)} and {@link #shutdownNow()}
+ * unwrap them, {@link #getQueue()} returns the wrappers.
+ */
+class AdaptiveWorkerExecutor extends ThreadPoolExecutor implements PoolStatistics {
+
+  private final int minSize;
+  private final int maxSize;
+  private final long targetWaitTime;
+  private final long keepAliveTime;
+  private final ScheduledExecutorService scheduler;
+  private final TimeHistogram waitTimes = new TimeHistogram();
+  private final AtomicInteger active = new AtomicInteger();
+
+  // The last time a task waited for a thread
+  private volatile long lastBusy;
+
+  // @protectedby this
+  private ScheduledFuture<?> growCheck;
+  private ScheduledFuture<?> shrinkCheck;
+
+  AdaptiveWorkerExecutor(int minSize, int maxSize, long targetWaitTime, long keepAliveTime,
+                         ThreadFactory threadFactory, ScheduledExecutorService scheduler) {
+    super(minSize, maxSize, keepAliveTime, TimeUnit.NANOSECONDS, new LinkedBlockingQueue<>(), threadFactory);
+    this.minSize = minSize;
+    this.maxSize = maxSize;
+    this.targetWaitTime = targetWaitTime;
+    this.keepAliveTime = keepAliveTime;
+    this.scheduler = scheduler;
+    this.lastBusy = System.nanoTime();
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    Task task = new Task(command);
+    super.execute(task);
+    if (active.get() >= getCorePoolSize()) {
+      // The task waits for a thread
+      lastBusy = task.submitted;
+      checkWaitTime(task.submitted);
+    }
+  }
+
+  @Override
+  protected void beforeExecute(Thread t, Runnable r) {
+    active.incrementAndGet();
+    long now = System.nanoTime();
+    waitTimes.record(now - ((Task) r).submitted);
+    if (!getQueue().isEmpty()) {
+      lastBusy = now;
+      checkWaitTime(now);
+    }
+  }
+
+  @Override
+  protected void afterExecute(Runnable r, Throwable t) {
+    if (active.decrementAndGet() < getCorePoolSize() && getCorePoolSize() > minSize && getQueue().isEmpty()) {
+      // The thread becomes idle
+      scheduleShrinkCheck(keepAliveTime);
+    }
+  }
+
+  @Override
+  public boolean remove(Runnable task) {
+    for (Runnable queued : getQueue()) {
+      if (((Task) queued).runnable == task) {
+        return super.remove(queued);
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    List<Runnable> tasks = super.shutdownNow();
+    tasks.replaceAll(task -> ((Task) task).runnable);
+    return tasks;
+  }
+
+  @Override
+  protected synchronized void terminated() {
+    if (growCheck != null) {
+      growCheck.cancel(false);
+      growCheck = null;
+    }
+    if (shrinkCheck != null) {
+      shrinkCheck.cancel(false);
+      shrinkCheck = null;
+    }
+  }
+
+  /**
+   * Grow the pool when the oldest queued task waited longer than the target, otherwise check it again when it
+   * reaches the target.
+   */
+  private void checkWaitTime(long now) {
+    Task oldest = (Task) getQueue().peek();
+    if (oldest == null) {
+      return;
+    }
+    long waited = now - oldest.submitted;
+    if (waited > targetWaitTime) {
+      grow();
+    } else {
+      scheduleGrowCheck(targetWaitTime - waited + 1);
+    }
+  }
+
+  private synchronized void grow() {
+    int size = getCorePoolSize();
+    if (size < maxSize) {
+      // Starts the threads executing the queued tasks
+      setCorePoolSize(Math.min(maxSize, size + getQueue().size()));
+    }
+  }
+
+  private synchronized void scheduleGrowCheck(long delay) {
+    if (growCheck == null && !isShutdown()) {
+      try {
+        growCheck = scheduler.schedule(() -> {
+          synchronized (this) {
+            growCheck = null;
+          }
+          checkWaitTime(System.nanoTime());
+        }, delay, TimeUnit.NANOSECONDS);
+      } catch (RejectedExecutionException ignore) {
+        // Vert.x is closed
+      }
+    }
+  }
+
+  private synchronized void scheduleShrinkCheck(long delay) {
+    if (shrinkCheck == null && !isShutdown()) {
+      try {
+        shrinkCheck = scheduler.schedule(this::shrink, delay, TimeUnit.NANOSECONDS);
+      } catch (RejectedExecutionException ignore) {
+        // Vert.x is closed
+      }
+    }
+  }
+
+  private synchronized void shrink() {
+    shrinkCheck = null;
+    int size = getCorePoolSize();
+    if (size <= minSize || active.get() >= size) {
+      // The next thread becoming idle checks again
+      return;
+    }
+    long idle = System.nanoTime() - lastBusy;
+    if (idle < keepAliveTime) {
+      scheduleShrinkCheck(keepAliveTime - idle);
+      return;
+    }
+    // The idle thread terminates when it polls the queue
+    setCorePoolSize(size - 1);
+    lastBusy = System.nanoTime();
+    if (size - 1 > minSize) {
+      scheduleShrinkCheck(keepAliveTime);
+    }
+  }
+  @Override
+  public int size() {
+    return getPoolSize();
+  }
+
+  @Override
+  public int minSize() {
+    return minSize;
+  }
+
+  @Override
+  public int maxSize() {
+    return maxSize;
+  }
+
+  @Override
+  public long waitTimePercentile(double percentile) {
+    return waitTimes.percentile(percentile);
+  }
+
+  private static class Task implements Runnable {
+
+    private final Runnable runnable;
+    private final long submitted = System.nanoTime();
+
+    Task(Runnable runnable) {
+      this.runnable = runnable;
+    }
+
+    @Override
+    public void run() {
+      runnable.run();
+    }
+  }
+}
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -34,6 +35,8 @@ public class BlockedThreadChecker {
 
   private static final Object O = new Object();
   private final Map<VertxThread, Object> threads = new WeakHashMap<>();
+  // Virtual threads are registered only while they run a task
+  private final Map<Thread, ContextThread> virtualThreads = new ConcurrentHashMap<>();
   private final Timer timer; // Need to use our own timer - can't use event loop for this
 
   BlockedThreadChecker(long interval, long warningExceptionTime) {
@@ -41,32 +44,45 @@ public class BlockedThreadChecker {
     timer.schedule(new TimerTask() {
       @Override
       public void run() {
+        long now = System.nanoTime();
         synchronized (BlockedThreadChecker.this) {
-          long now = System.nanoTime();
           for (VertxThread thread : threads.keySet()) {
-            long execStart = thread.startTime();
-            long dur = now - execStart;
-            final long timeLimit = thread.getMaxExecTime();
-            if (execStart != 0 && dur > timeLimit) {
-              final String message = "Thread " + thread + " has been blocked for " + (dur / 1000000) + " ms, time limit is " + (timeLimit / 1000000);
-              if (dur <= warningExceptionTime) {
-                log.warn(message);
-              } else {
-                VertxException stackTrace = new VertxException("Thread blocked");
-                stackTrace.setStackTrace(thread.getStackTrace());
-                log.warn(message, stackTrace);
-              }
-            }
+            check(thread, thread, now, warningExceptionTime);
           }
         }
+        virtualThreads.forEach((thread, state) -> check(thread, state, now, warningExceptionTime));
       }
     }, interval, interval);
   }
 
+  private static void check(Thread thread, ContextThread state, long now, long warningExceptionTime) {
+    long execStart = state.startTime();
+    long dur = now - execStart;
+    final long timeLimit = state.getMaxExecTime();
+    if (execStart != 0 && dur > timeLimit) {
+      final String message = "Thread " + thread + " has been blocked for " + (dur / 1000000) + " ms, time limit is " + (timeLimit / 1000000);
+      if (dur <= warningExceptionTime) {
+        log.warn(message);
+      } else {
+        VertxException stackTrace = new VertxException("Thread blocked");
+        stackTrace.setStackTrace(thread.getStackTrace());
+        log.warn(message, stackTrace);
+      }
+    }
+  }
+
   public synchronized void registerThread(VertxThread thread) {
     threads.put(thread, O);
   }
 
+  void registerVirtualThread(Thread thread, ContextThread state) {
+    virtualThreads.put(thread, state);
+  }
+
+  void unregisterVirtualThread(Thread thread) {
+    virtualThreads.remove(thread);
+  }
+
   public void close() {
     timer.cancel();
   }
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.BlockingTask;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.spi.metrics.PoolMetrics;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The blocking code submitted to a worker pool by {@link ContextImpl}, it is the command handed to the pool executor.
+ * <p>
+ * A task that is cancelled or whose deadline has passed before it starts is skipped: its code is not run and
+ * the {@link PoolMetrics#skipped} is signaled instead of {@link PoolMetrics#begin} / {@link PoolMetrics#end}.
+ * The deadline is enforced by a timer on the context event loop, so a task waiting behind a long ordered task
+ * is failed when its deadline passes rather than when it is dequeued.
+ */
+class BlockingTaskImpl<T> implements BlockingTask, Runnable {
+
+  private static final int PENDING = 0, RUNNING = 1, DONE = 2, CANCELLED = 3, SKIPPED = 4;
+
+  private final ContextImpl context;
+  private final Action<T> action;
+  private final Handler<Future<T>> blockingCodeHandler;
+  private final Handler<AsyncResult<T>> resultHandler;
+  private final PoolMetrics metrics;
+  private final Object queueMetric;
+  private final long timeout;
+  private final long deadline;
+  private ScheduledFuture<?> expiry;
+  private int status;
+  private Thread runner;
+  private boolean interrupted;
+
+  /**
+   * @param timeout the time in ms the task can wait before it starts, a value {@code <= 0} means no deadline
+   */
+  BlockingTaskImpl(ContextImpl context, Action<T> action, Handler<Future<T>> blockingCodeHandler,
+                   Handler<AsyncResult<T>> resultHandler, PoolMetrics metrics, long timeout) {
+    this.context = context;
+    this.action = action;
+    this.blockingCodeHandler = blockingCodeHandler;
+    this.resultHandler = resultHandler;
+    this.metrics = metrics;
+    this.queueMetric = metrics != null ? metrics.submitted() : null;
+    this.timeout = timeout;
+    this.deadline = timeout > 0 ? System.nanoTime() + timeout * 1000000 : 0;
+  }
+
+  /**
+   * Schedule the expiry of the task, this must be called before the task is handed to the executor.
+   */
+  void scheduleExpiry() {
+    if (timeout > 0) {
+      try {
+        expiry = context.nettyEventLoop().schedule(this::expire, timeout, TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException ignore) {
+        // Vert.x is closed, the deadline is still checked when the task is dequeued
+      }
+    }
+  }
+
+  /**
+   * The task could not be handed to the executor.
+   */
+  void rejected() {
+    cancelExpiry();
+    if (metrics != null) {
+      metrics.rejected(queueMetric);
+    }
+  }
+
+  @Override
+  public boolean cancel(boolean interrupt) {
+    synchronized (this) {
+      switch (status) {
+        case PENDING:
+          status = CANCELLED;
+          cancelExpiry();
+          break;
+        case RUNNING:
+          status = CANCELLED;
+          if (interrupt) {
+            interrupted = true;
+            runner.interrupt();
+          }
+          return true;
+        default:
+          return false;
+      }
+    }
+    skip(new CancellationException());
+    return true;
+  }
+
+  @Override
+  public synchronized boolean isCancelled() {
+    return status == CANCELLED;
+  }
+
+  @Override
+  public void run() {
+    boolean expired;
+    synchronized (this) {
+      if (status != PENDING) {
+        // Cancelled before it started
+        return;
+      }
+      expired = deadline != 0 && System.nanoTime() - deadline > 0;
+      if (expired) {
+        status = SKIPPED;
+      } else {
+        status = RUNNING;
+        runner = Thread.currentThread();
+        cancelExpiry();
+      }
+    }
+    if (expired) {
+      skip(timeoutException());
+      return;
+    }
+    ContextThread current = ContextThread.current();
+    Object execMetric = null;
+    if (metrics != null) {
+      execMetric = metrics.begin(queueMetric);
+    }
+    if (!ContextImpl.DISABLE_TIMINGS) {
+      current.executeStart();
+    }
+    Future<T> res = Future.future();
+    try {
+      if (blockingCodeHandler != null) {
+        ContextImpl.setContext(context);
+        blockingCodeHandler.handle(res);
+      } else {
+        T result = action.perform();
+        res.complete(result);
+      }
+    } catch (Throwable e) {
+      res.fail(e);
+    } finally {
+      if (!ContextImpl.DISABLE_TIMINGS) {
+        current.executeEnd();
+      }
+    }
+    boolean cancelled;
+    synchronized (this) {
+      runner = null;
+      cancelled = status == CANCELLED;
+      if (!cancelled) {
+        status = DONE;
+      }
+      if (interrupted) {
+        // Don't leak the interrupt to the next task run by this thread
+        Thread.interrupted();
+      }
+    }
+    if (metrics != null) {
+      metrics.end(execMetric, res.succeeded());
+    }
+    if (resultHandler != null) {
+      if (cancelled) {
+        context.runOnContext(v -> resultHandler.handle(Future.failedFuture(new CancellationException())));
+      } else {
+        context.runOnContext(v -> res.setHandler(resultHandler));
+      }
+    }
+  }
+
+  private void expire() {
+    synchronized (this) {
+      if (status != PENDING) {
+        return;
+      }
+      status = SKIPPED;
+    }
+    skip(timeoutException());
+  }
+
+  private void cancelExpiry() {
+    if (expiry != null) {
+      expiry.cancel(false);
+      expiry = null;
+    }
+  }
+
+  private TimeoutException timeoutException() {
+    return new TimeoutException("Blocking task not started within " + timeout + " ms");
+  }
+
+  private void skip(Throwable cause) {
+    if (metrics != null) {
+      metrics.skipped(queueMetric);
+    }
+    if (resultHandler != null) {
+      context.runOnContext(v -> resultHandler.handle(Future.failedFuture(cause)));
+    }
+  }
+}
@@ -21,7 +21,12 @@ import io.vertx.core.Future;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Handler;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.stream.Collector;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -29,6 +34,7 @@ import java.util.function.Function;
 public class CompositeFutureImpl implements CompositeFuture, Handler<AsyncResult<CompositeFuture>> {
 
   private static final Handler<AsyncResult<CompositeFuture>> NO_HANDLER = c -> {};
+  private static final AtomicIntegerFieldUpdater<CompositeFutureImpl> COUNT = AtomicIntegerFieldUpdater.newUpdater(CompositeFutureImpl.class, "count");
 
   public static CompositeFuture all(Future<?>... results) {
     CompositeFutureImpl composite = new CompositeFutureImpl(results);
@@ -37,18 +43,11 @@ public class CompositeFutureImpl implements CompositeFuture, Handler<AsyncResult
       results[i].setHandler(ar -> {
         Handler<AsyncResult<CompositeFuture>> handler = null;
         if (ar.succeeded()) {
-          synchronized (composite) {
-            composite.count++;
-            if (!composite.isComplete() && composite.count == len) {
-              handler = composite.setCompleted(null);
-            }
+          if (COUNT.incrementAndGet(composite) == len) {
+            handler = composite.setCompleted(null);
           }
         } else {
-          synchronized (composite) {
-            if (!composite.isComplete()) {
-              handler = composite.setCompleted(ar.cause());
-            }
-          }
+          handler = composite.setCompleted(ar.cause());
         }
         if (handler != null) {
           handler.handle(composite);
@@ -68,17 +67,10 @@ public class CompositeFutureImpl implements CompositeFuture, Handler<AsyncResult
       results[i].setHandler(ar -> {
         Handler<AsyncResult<CompositeFuture>> handler = null;
         if (ar.succeeded()) {
-          synchronized (composite) {
-            if (!composite.isComplete()) {
-              handler = composite.setCompleted(null);
-            }
-          }
+          handler = composite.setCompleted(null);
         } else {
-          synchronized (composite) {
-            composite.count++;
-            if (!composite.isComplete() && composite.count == len) {
-              handler = composite.setCompleted(ar.cause());
-            }
+          if (COUNT.incrementAndGet(composite) == len) {
+            handler = composite.setCompleted(ar.cause());
           }
         }
         if (handler != null) {
@@ -112,13 +104,10 @@ public class CompositeFutureImpl implements CompositeFuture, Handler<AsyncResult
     for (int i = 0; i < len; i++) {
       results[i].setHandler(ar -> {
         Handler<AsyncResult<CompositeFuture>> handler = null;
-        synchronized (composite) {
-          composite.count++;
-          if (!composite.isComplete() && composite.count == len) {
-            // Take decision here
-            Throwable failure = pred.apply(composite);
-            handler = composite.setCompleted(failure);
-          }
+        if (COUNT.incrementAndGet(composite) == len) {
+          // Take decision here
+          Throwable failure = pred.apply(composite);
+          handler = composite.setCompleted(failure);
         }
         if (handler != null) {
           handler.handle(composite);
@@ -131,8 +120,79 @@ public class CompositeFutureImpl implements CompositeFuture, Handler<AsyncResult
     return composite;
   }
 
+  /**
+   * Join the {@code futures} and collect their results with the {@code collector}.
+   * <p>
+   * Each result is stored at the index of its future when the future succeeds, the thread completing the last future
+   * folds them in the collector. The results are kept until then by design: accumulating them as they arrive would
+   * lose the order of the list the collector relies on. No lock is taken and the futures themselves are not retained.
+   */
+  public static <T, A, R> Future<R> join(List<Future<T>> futures, Collector<T, A, R> collector) {
+    Join<T, A, R> join = new Join<>(futures.size(), collector);
+    int index = 0;
+    for (Future<T> future : futures) {
+      int i = index++;
+      future.setHandler(ar -> join.onCompletion(i, ar));
+    }
+    if (index == 0) {
+      join.collect();
+    }
+    return join;
+  }
+
+  private static class Join<T, A, R> extends FutureImpl<R> {
+
+    private static final AtomicIntegerFieldUpdater<Join> REMAINING = AtomicIntegerFieldUpdater.newUpdater(Join.class, "remaining");
+    private static final AtomicReferenceFieldUpdater<Join, Throwable> FAILURE = AtomicReferenceFieldUpdater.newUpdater(Join.class, Throwable.class, "failure");
+
+    private final Collector<T, A, R> collector;
+    private final Object[] results;
+    private volatile int remaining;
+    private volatile Throwable failure;
+
+    Join(int size, Collector<T, A, R> collector) {
+      this.collector = collector;
+      this.results = new Object[size];
+      this.remaining = size;
+    }
+
+    void onCompletion(int index, AsyncResult<T> ar) {
+      if (ar.succeeded()) {
+        results[index] = ar.result();
+      } else {
+        // Keep the first failure
+        FAILURE.compareAndSet(this, null, ar.cause() != null ? ar.cause() : new NoStackTraceThrowable(null));
+      }
+      // The decrement publishes the result to the thread completing the last future
+      if (REMAINING.decrementAndGet(this) == 0) {
+        collect();
+      }
+    }
+
+    private void collect() {
+      Throwable cause = failure;
+      if (cause != null) {
+        fail(cause);
+        return;
+      }
+      R value;
+      try {
+        A container = collector.supplier().get();
+        BiConsumer<A, T> accumulator = collector.accumulator();
+        for (Object result : results) {
+          accumulator.accept(container, (T) result);
+        }
+        value = collector.finisher().apply(container);
+      } catch (Throwable e) {
+        fail(e);
+        return;
+      }
+      complete(value);
+    }
+  }
+
   private final Future[] results;
-  private int count;
+  private volatile int count;
   private boolean completed;
   private Throwable cause;
   private Handler<AsyncResult<CompositeFuture>> handler;
@@ -19,8 +19,10 @@ package io.vertx.core.impl;
 import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.BlockingTask;
 import io.vertx.core.Closeable;
 import io.vertx.core.Context;
+import io.vertx.core.ContextLocal;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Starter;
@@ -35,6 +37,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -56,7 +59,7 @@ public abstract class ContextImpl implements ContextInternal {
   private static final String DISABLE_TIMINGS_PROP_NAME = "vertx.disableContextTimings";
   private static final String DISABLE_TCCL_PROP_NAME = "vertx.disableTCCL";
   private static final boolean THREAD_CHECKS = Boolean.getBoolean(THREAD_CHECKS_PROP_NAME);
-  private static final boolean DISABLE_TIMINGS = Boolean.getBoolean(DISABLE_TIMINGS_PROP_NAME);
+  static final boolean DISABLE_TIMINGS = Boolean.getBoolean(DISABLE_TIMINGS_PROP_NAME);
   private static final boolean DISABLE_TCCL = Boolean.getBoolean(DISABLE_TCCL_PROP_NAME);
 
   protected final VertxInternal owner;
@@ -68,6 +71,7 @@ public abstract class ContextImpl implements ContextInternal {
   private final EventLoop eventLoop;
   protected VertxThread contextThread;
   private ConcurrentMap<Object, Object> contextData;
+  private volatile AtomicReferenceArray<Object> locals;
   private volatile Handler<Throwable> exceptionHandler;
   protected final WorkerPool workerPool;
   protected final WorkerPool internalBlockingPool;
@@ -97,15 +101,15 @@ public abstract class ContextImpl implements ContextInternal {
   }
 
   public static void setContext(ContextImpl context) {
-    Thread current = Thread.currentThread();
-    if (current instanceof VertxThread) {
-      setContext((VertxThread) current, context);
+    ContextThread current = ContextThread.current();
+    if (current != null) {
+      setContext(current, context);
     } else {
       throw new IllegalStateException("Attempt to setContext on non Vert.x thread " + Thread.currentThread());
     }
   }
 
-  private static void setContext(VertxThread thread, ContextImpl context) {
+  private static void setContext(ContextThread thread, ContextImpl context) {
     thread.setContext(context);
     if (!DISABLE_TCCL) {
       if (context != null) {
@@ -162,6 +166,38 @@ public abstract class ContextImpl implements ContextInternal {
     return contextData().remove(key) != null;
   }
 
+  @Override
+  public <T> T getLocal(ContextLocal<T> local) {
+    AtomicReferenceArray<Object> array = locals;
+    int index = local.index();
+    if (array != null && index < array.length()) {
+      return (T) array.get(index);
+    }
+    return null;
+  }
+
+  @Override
+  public synchronized <T> void putLocal(ContextLocal<T> local, T value) {
+    // The writes are serialized so a value is not lost when the array grows
+    AtomicReferenceArray<Object> array = locals;
+    int index = local.index();
+    if (array == null || index >= array.length()) {
+      AtomicReferenceArray<Object> copy = new AtomicReferenceArray<>(Math.max(index + 1, ContextLocal.size()));
+      for (int i = 0;array != null && i < array.length();i++) {
+        copy.set(i, array.get(i));
+      }
+      locals = array = copy;
+    }
+    array.set(index, value);
+  }
+
+  @Override
+  public synchronized <T> boolean removeLocal(ContextLocal<T> local) {
+    AtomicReferenceArray<Object> array = locals;
+    int index = local.index();
+    return array != null && index < array.length() && array.getAndSet(index, null) != null;
+  }
+
   @Override
   public boolean isWorkerContext() {
     return !isEventLoopContext();
@@ -176,15 +212,13 @@ public abstract class ContextImpl implements ContextInternal {
   }
 
   public static boolean isOnVertxThread() {
-    Thread t = Thread.currentThread();
-    return (t instanceof VertxThread);
+    return ContextThread.current() != null;
   }
 
   private static boolean isOnVertxThread(boolean worker) {
-    Thread t = Thread.currentThread();
-    if (t instanceof VertxThread) {
-      VertxThread vt = (VertxThread) t;
-      return vt.isWorker() == worker;
+    ContextThread t = ContextThread.current();
+    if (t != null) {
+      return t.isWorker() == worker;
     }
     return false;
   }
@@ -252,48 +286,40 @@ public abstract class ContextImpl implements ContextInternal {
     executeBlocking(blockingCodeHandler, true, resultHandler);
   }
 
+  @Override
+  public <T> BlockingTask submitBlocking(Handler<Future<T>> blockingCodeHandler, boolean ordered, long timeout, Handler<AsyncResult<T>> resultHandler) {
+    return executeBlocking(null, blockingCodeHandler, resultHandler, workerPool.executor(), ordered ? orderedTasks : null, workerPool.metrics(), timeout);
+  }
+
   @Override
   public <T> void executeBlocking(Handler<Future<T>> blockingCodeHandler, TaskQueue queue, Handler<AsyncResult<T>> resultHandler) {
     executeBlocking(null, blockingCodeHandler, resultHandler, workerPool.executor(), queue, workerPool.metrics());
   }
 
+  @Override
+  public void executeOnWorker(TaskQueue queue, Handler<Void> task) {
+    try {
+      queue.execute(wrapTask(null, task, false, workerPool.metrics()), workerPool.executor());
+    } catch (RejectedExecutionException ignore) {
+      // Pool is already shut down
+    }
+  }
+
   <T> void executeBlocking(Action<T> action, Handler<Future<T>> blockingCodeHandler,
       Handler<AsyncResult<T>> resultHandler,
       Executor exec, TaskQueue queue, PoolMetrics metrics) {
-    Object queueMetric = metrics != null ? metrics.submitted() : null;
+    executeBlocking(action, blockingCodeHandler, resultHandler, exec, queue, metrics, 0);
+  }
+
+  /**
+   * @param timeout the time in ms the task can wait before it starts, a value {@code <= 0} means no deadline
+   */
+  <T> BlockingTask executeBlocking(Action<T> action, Handler<Future<T>> blockingCodeHandler,
+      Handler<AsyncResult<T>> resultHandler,
+      Executor exec, TaskQueue queue, PoolMetrics metrics, long timeout) {
+    BlockingTaskImpl<T> command = new BlockingTaskImpl<>(this, action, blockingCodeHandler, resultHandler, metrics, timeout);
+    command.scheduleExpiry();
     try {
-      Runnable command = () -> {
-        VertxThread current = (VertxThread) Thread.currentThread();
-        Object execMetric = null;
-        if (metrics != null) {
-          execMetric = metrics.begin(queueMetric);
-        }
-        if (!DISABLE_TIMINGS) {
-          current.executeStart();
-        }
-        Future<T> res = Future.future();
-        try {
-          if (blockingCodeHandler != null) {
-            ContextImpl.setContext(this);
-            blockingCodeHandler.handle(res);
-          } else {
-            T result = action.perform();
-            res.complete(result);
-          }
-        } catch (Throwable e) {
-          res.fail(e);
-        } finally {
-          if (!DISABLE_TIMINGS) {
-            current.executeEnd();
-          }
-        }
-        if (metrics != null) {
-          metrics.end(execMetric, res.succeeded());
-        }
-        if (resultHandler != null) {
-          runOnContext(v -> res.setHandler(resultHandler));
-        }
-      };
       if (queue != null) {
         queue.execute(command, exec);
       } else {
@@ -301,11 +327,10 @@ public abstract class ContextImpl implements ContextInternal {
       }
     } catch (RejectedExecutionException e) {
       // Pool is already shut down
-      if (metrics != null) {
-        metrics.rejected(queueMetric);
-      }
+      command.rejected();
       throw e;
     }
+    return command;
   }
 
   public synchronized ConcurrentMap<Object, Object> contextData() {
@@ -317,55 +342,75 @@ public abstract class ContextImpl implements ContextInternal {
 
   protected Runnable wrapTask(ContextTask cTask, Handler<Void> hTask, boolean checkThread, PoolMetrics metrics) {
     Object metric = metrics != null ? metrics.submitted() : null;
-    return () -> {
-      Thread th = Thread.currentThread();
-      if (!(th instanceof VertxThread)) {
-        throw new IllegalStateException("Uh oh! Event loop context executing with wrong thread! Expected " + contextThread + " got " + th);
+    return () -> execute(cTask, hTask, checkThread, metrics, metric);
+  }
+
+  /**
+   * Execute a task on this context from the current thread.
+   */
+  void execute(ContextTask cTask, Handler<Void> hTask, boolean checkThread, PoolMetrics metrics, Object metric) {
+    Thread th = Thread.currentThread();
+    ContextThread current = ContextThread.current();
+    if (current == null) {
+      throw new IllegalStateException("Uh oh! Event loop context executing with wrong thread! Expected " + contextThread + " got " + th);
+    }
+    // Virtual threads only run worker tasks which are not bound to a thread
+    if (THREAD_CHECKS && checkThread && current instanceof VertxThread) {
+      if (contextThread == null) {
+        contextThread = (VertxThread) current;
+      } else if (contextThread != current && !contextThread.isWorker()) {
+        throw new IllegalStateException("Uh oh! Event loop context executing with wrong thread! Expected " + contextThread + " got " + current);
+      }
+    }
+    if (metrics != null) {
+      metrics.begin(metric);
+    }
+    if (!DISABLE_TIMINGS) {
+      current.executeStart();
+    }
+    beginTask();
+    try {
+      setContext(current, ContextImpl.this);
+      if (cTask != null) {
+        cTask.run();
+      } else {
+        hTask.handle(null);
+      }
+      if (metrics != null) {
+        metrics.end(metric, true);
+      }
+    } catch (Throwable t) {
+      log.error("Unhandled exception", t);
+      Handler<Throwable> handler = this.exceptionHandler;
+      if (handler == null) {
+        handler = owner.exceptionHandler();
       }
-      VertxThread current = (VertxThread) th;
-      if (THREAD_CHECKS && checkThread) {
-        if (contextThread == null) {
-          contextThread = current;
-        } else if (contextThread != current && !contextThread.isWorker()) {
-          throw new IllegalStateException("Uh oh! Event loop context executing with wrong thread! Expected " + contextThread + " got " + current);
-        }
+      if (handler != null) {
+        handler.handle(t);
       }
       if (metrics != null) {
-        metrics.begin(metric);
+        metrics.end(metric, false);
       }
+    } finally {
+      // We don't unset the context after execution - this is done later when the context is closed via
+      // VertxThreadFactory
       if (!DISABLE_TIMINGS) {
-        current.executeStart();
-      }
-      try {
-        setContext(current, ContextImpl.this);
-        if (cTask != null) {
-          cTask.run();
-        } else {
-          hTask.handle(null);
-        }
-        if (metrics != null) {
-          metrics.end(metric, true);
-        }
-      } catch (Throwable t) {
-        log.error("Unhandled exception", t);
-        Handler<Throwable> handler = this.exceptionHandler;
-        if (handler == null) {
-          handler = owner.exceptionHandler();
-        }
-        if (handler != null) {
-          handler.handle(t);
-        }
-        if (metrics != null) {
-          metrics.end(metric, false);
-        }
-      } finally {
-        // We don't unset the context after execution - this is done later when the context is closed via
-        // VertxThreadFactory
-        if (!DISABLE_TIMINGS) {
-          current.executeEnd();
-        }
+        current.executeEnd();
       }
-    };
+      endTask();
+    }
+  }
+
+  /**
+   * Called by the thread executing a task of this context before the task runs.
+   */
+  protected void beginTask() {
+  }
+
+  /**
+   * Called by the thread executing a task of this context after the task has run.
+   */
+  protected void endTask() {
   }
 
   private void setTCCL() {
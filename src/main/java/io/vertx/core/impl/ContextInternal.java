@@ -46,6 +46,17 @@ public interface ContextInternal extends Context {
    */
   <T> void executeBlocking(Handler<Future<T>> blockingCodeHandler, TaskQueue queue, Handler<AsyncResult<T>> resultHandler);
 
+  /**
+   * Execute the {@code task} on this context with a thread of the worker pool, the tasks of the {@code queue} are
+   * executed in order.<p/>
+   *
+   * Any exception thrown from the {@literal task} will be reported on this context.
+   *
+   * @param queue the queue ordering the task
+   * @param task the task to execute
+   */
+  void executeOnWorker(TaskQueue queue, Handler<Void> task);
+
   /**
    * Execute the context task and switch on this context if necessary, this also associates the
    * current thread with the current context so {@link Vertx#currentContext()} returns this context.<p/>
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.core.impl;
+
+/**
+ * A thread running Vert.x context tasks: either a {@link VertxThread} or a virtual thread running a
+ * {@link VirtualWorker} task.
+ */
+interface ContextThread {
+
+  /**
+   * @return the current context thread or {@code null} when the current thread does not run Vert.x tasks
+   */
+  static ContextThread current() {
+    Thread thread = Thread.currentThread();
+    if (thread instanceof VertxThread) {
+      return (VertxThread) thread;
+    }
+    return VirtualWorker.current();
+  }
+
+  ContextImpl getContext();
+
+  void setContext(ContextImpl context);
+
+  void executeStart();
+
+  void executeEnd();
+
+  long startTime();
+
+  long getMaxExecTime();
+
+  boolean isWorker();
+
+}
@@ -86,9 +86,7 @@ public class DeploymentManager {
     if (options.getInstances() < 1) {
       throw new IllegalArgumentException("Can't specify < 1 instances to deploy");
     }
-    if (options.isMultiThreaded() && !options.isWorker()) {
-      throw new IllegalArgumentException("If multi-threaded then must be worker too");
-    }
+    checkThreadingOptions(options);
     if (options.getExtraClasspath() != null) {
       throw new IllegalArgumentException("Can't specify extraClasspath for already created verticle");
     }
@@ -125,12 +123,19 @@ public class DeploymentManager {
     doDeploy("java:" + verticleClass, generateDeploymentID(), options, currentContext, currentContext, completionHandler, cl, verticlesArray);
   }
 
-  public void deployVerticle(String identifier,
-                             DeploymentOptions options,
-                             Handler<AsyncResult<String>> completionHandler) {
+  private void checkThreadingOptions(DeploymentOptions options) {
     if (options.isMultiThreaded() && !options.isWorker()) {
       throw new IllegalArgumentException("If multi-threaded then must be worker too");
     }
+    if (options.isVirtualThreads() && options.getWorkerPoolName() != null) {
+      throw new IllegalArgumentException("Can't specify workerPoolName for a verticle running on virtual threads");
+    }
+  }
+
+  public void deployVerticle(String identifier,
+                             DeploymentOptions options,
+                             Handler<AsyncResult<String>> completionHandler) {
+    checkThreadingOptions(options);
     ContextImpl callingContext = vertx.getOrCreateContext();
     ClassLoader cl = getClassLoader(options, callingContext);
     doDeployVerticle(identifier, generateDeploymentID(), options, callingContext, callingContext, cl, completionHandler);
@@ -464,9 +469,16 @@ public class DeploymentManager {
 
     AtomicInteger deployCount = new AtomicInteger();
     AtomicBoolean failureReported = new AtomicBoolean();
+    WorkerPool virtualPool = null;
+    if (options.isVirtualThreads()) {
+      virtualPool = vertx.virtualWorkerPool();
+      if (virtualPool == null) {
+        log.warn("Virtual threads are not supported by this JVM, " + identifier + " will use the worker pool");
+      }
+    }
     for (Verticle verticle: verticles) {
       WorkerExecutorImpl workerExec = poolName != null ? vertx.createSharedWorkerExecutor(poolName, options.getWorkerPoolSize(), options.getMaxWorkerExecuteTime()) : null;
-      WorkerPool pool = workerExec != null ? workerExec.getPool() : null;
+      WorkerPool pool = workerExec != null ? workerExec.getPool() : virtualPool;
       ContextImpl context = options.isWorker() ? vertx.createWorkerContext(options.isMultiThreaded(), deploymentID, pool, conf, tccl) :
         vertx.createEventLoopContext(deploymentID, pool, conf, tccl);
       if (workerExec != null) {
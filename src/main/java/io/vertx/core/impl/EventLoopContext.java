@@ -22,6 +22,8 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
+import java.util.ArrayDeque;
+
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
@@ -29,19 +31,108 @@ public class EventLoopContext extends ContextImpl {
 
   private static final Logger log = LoggerFactory.getLogger(EventLoopContext.class);
 
+  private static final boolean DISABLE_NEXT_TICK = Boolean.getBoolean("vertx.disableNextTick");
+
+  // The max number of next tick tasks run before yielding to the event loop
+  private static final int MAX_NEXT_TICKS = 1024;
+
+  private final EventLoopStatisticsImpl statistics;
+
+  // @protectedby the event loop thread
+  private final ArrayDeque<Handler<Void>> nextTicks = new ArrayDeque<>();
+  private int depth;
+  private boolean draining;
+
   public EventLoopContext(VertxInternal vertx, WorkerPool internalBlockingPool, WorkerPool workerPool, String deploymentID, JsonObject config,
                           ClassLoader tccl) {
     super(vertx, internalBlockingPool, workerPool, deploymentID, config, tccl);
+    this.statistics = vertx.eventLoopStatistics(nettyEventLoop());
   }
 
   public EventLoopContext(VertxInternal vertx, EventLoop eventLoop, WorkerPool internalBlockingPool, WorkerPool workerPool, String deploymentID, JsonObject config,
                           ClassLoader tccl) {
     super(vertx, eventLoop, internalBlockingPool, workerPool, deploymentID, config, tccl);
+    this.statistics = vertx.eventLoopStatistics(eventLoop);
   }
 
   public void executeAsync(Handler<Void> task) {
+    EventLoop eventLoop = nettyEventLoop();
+    VertxThread thread = null;
+    if (!DISABLE_NEXT_TICK && eventLoop.inEventLoop()) {
+      Thread current = Thread.currentThread();
+      if (current instanceof VertxThread) {
+        thread = (VertxThread) current;
+        if (depth > 0 && thread.pendingTasks() == 0) {
+          // Run at the end of the current task, unless a task submitted earlier by this thread to any context
+          // of the event loop is still in the event loop queue as it must run first
+          nextTicks.add(task);
+          return;
+        }
+      }
+    }
     // No metrics, we are on the event loop.
-    nettyEventLoop().execute(wrapTask(null, task, true, null));
+    Runnable runnable = wrapTask(null, task, true, null);
+    if (statistics != null) {
+      runnable = statistics.task(runnable);
+    }
+    if (thread != null) {
+      submit(thread, runnable);
+    } else {
+      eventLoop.execute(runnable);
+    }
+  }
+
+  private void submit(VertxThread thread, Runnable runnable) {
+    thread.taskSubmitted();
+    nettyEventLoop().execute(() -> {
+      thread.taskStarted();
+      runnable.run();
+    });
+  }
+
+  @Override
+  protected void beginTask() {
+    if (nettyEventLoop().inEventLoop()) {
+      depth++;
+    }
+  }
+
+  @Override
+  protected void endTask() {
+    if (nettyEventLoop().inEventLoop() && --depth == 0 && !draining && !nextTicks.isEmpty()) {
+      drainNextTicks();
+    }
+  }
+
+  private void drainNextTicks() {
+    draining = true;
+    try {
+      Handler<Void> task;
+      int count = 0;
+      while (count++ < MAX_NEXT_TICKS && (task = nextTicks.poll()) != null) {
+        execute(null, task, true, null, null);
+      }
+    } finally {
+      draining = false;
+    }
+    if (!nextTicks.isEmpty()) {
+      // Let the event loop process the IO and the other tasks before running the remaining ones
+      submit((VertxThread) Thread.currentThread(), this::drainNextTicks);
+    }
+  }
+
+  @Override
+  public void executeFromIO(ContextTask task) {
+    if (statistics == null || statistics.isExecuting()) {
+      super.executeFromIO(task);
+    } else {
+      long start = statistics.ioStart();
+      try {
+        super.executeFromIO(task);
+      } finally {
+        statistics.ioEnd(start);
+      }
+    }
   }
 
   @Override
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.impl;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import io.vertx.core.spi.metrics.EventLoopStatistics;
+
+/**
+ * Records the {@link EventLoopStatistics} of an event loop, the {@link EventLoopContext} of the event loop report
+ * the tasks and the IO events they execute.
+ * <p>
+ * The statistics are only updated by the event loop thread.
+ */
+class EventLoopStatisticsImpl implements EventLoopStatistics {
+
+  private final EventExecutor eventLoop;
+  private final TimeHistogram dispatchLatencies = new TimeHistogram();
+  private final TimeHistogram executionTimes = new TimeHistogram();
+  private volatile String name;
+  private volatile long ioTime;
+  private volatile long taskTime;
+  private volatile long ioCount;
+  private volatile long taskCount;
+
+  // Whether a handler is executing, an IO event can be handled synchronously by a task or another IO event,
+  // e.g a socket closed by a task, it is then accounted by the outer execution
+  private boolean executing;
+
+  EventLoopStatisticsImpl(EventExecutor eventLoop) {
+    this.eventLoop = eventLoop;
+  }
+
+  /**
+   * Start the recording, this starts the event loop thread.
+   */
+  void init() {
+    eventLoop.execute(() -> name = Thread.currentThread().getName());
+  }
+
+  /**
+   * Wrap a task to record its dispatch latency and its execution.
+   */
+  Runnable task(Runnable task) {
+    long submitted = System.nanoTime();
+    return () -> {
+      long start = System.nanoTime();
+      dispatchLatencies.record(start - submitted);
+      if (executing) {
+        task.run();
+        return;
+      }
+      executing = true;
+      try {
+        task.run();
+      } finally {
+        executing = false;
+        long time = System.nanoTime() - start;
+        executionTimes.record(time);
+        taskTime += time;
+        taskCount++;
+      }
+    };
+  }
+
+  /**
+   * @return whether a handler is executing, an IO event handled now is accounted by this handler
+   */
+  boolean isExecuting() {
+    return executing;
+  }
+
+  /**
+   * Start the handling of an IO event.
+   *
+   * @return the start time
+   */
+  long ioStart() {
+    executing = true;
+    return System.nanoTime();
+  }
+
+  /**
+   * End the handling of an IO event.
+   *
+   * @param start the start time returned by {@link #ioStart()}
+   */
+  void ioEnd(long start) {
+    executing = false;
+    long time = System.nanoTime() - start;
+    executionTimes.record(time);
+    ioTime += time;
+    ioCount++;
+  }
+
+  @Override
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public long busyTime() {
+    return ioTime + taskTime;
+  }
+
+  @Override
+  public long ioTime() {
+    return ioTime;
+  }
+
+  @Override
+  public long taskTime() {
+    return taskTime;
+  }
+
+  @Override
+  public long ioCount() {
+    return ioCount;
+  }
+
+  @Override
+  public long taskCount() {
+    return taskCount;
+  }
+
+  @Override
+  public int pendingTasks() {
+    if (eventLoop instanceof SingleThreadEventExecutor) {
+      return ((SingleThreadEventExecutor) eventLoop).pendingTasks();
+    }
+    return 0;
+  }
+
+  @Override
+  public long dispatchLatencyPercentile(double percentile) {
+    return dispatchLatencies.percentile(percentile);
+  }
+
+  @Override
+  public long executionTimePercentile(double percentile) {
+    return executionTimes.percentile(percentile);
+  }
+}
@@ -19,6 +19,8 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 
+import java.util.function.Function;
+
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -118,6 +120,48 @@ public class FailedFuture<T> implements Future<T> {
     throw new IllegalStateException("Result is already complete: failed");
   }
 
+  @Override
+  public <U> Future<U> compose(Function<T, Future<U>> mapper) {
+    if (mapper == null) {
+      throw new NullPointerException();
+    }
+    return (Future<U>) this;
+  }
+
+  @Override
+  public <U> Future<U> map(Function<T, U> mapper) {
+    if (mapper == null) {
+      throw new NullPointerException();
+    }
+    return (Future<U>) this;
+  }
+
+  @Override
+  public <V> Future<V> map(V value) {
+    return (Future<V>) this;
+  }
+
+  @Override
+  public Future<T> recover(Function<Throwable, Future<T>> mapper) {
+    if (mapper == null) {
+      throw new NullPointerException();
+    }
+    return FutureImpl.recoverFailed(cause, mapper);
+  }
+
+  @Override
+  public Future<T> otherwise(Function<Throwable, T> mapper) {
+    if (mapper == null) {
+      throw new NullPointerException();
+    }
+    return FutureImpl.otherwiseFailed(cause, mapper);
+  }
+
+  @Override
+  public Future<T> otherwise(T value) {
+    return new SucceededFuture<>(value);
+  }
+
   @Override
   public String toString() {
     return "Future{cause=" + cause.getMessage() + "}";
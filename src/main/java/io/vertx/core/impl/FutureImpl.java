@@ -20,10 +20,14 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 
+import java.util.function.Function;
+
 class FutureImpl<T> implements Future<T>, Handler<AsyncResult<T>> {
   private boolean failed;
   private boolean succeeded;
   private Handler<AsyncResult<T>> handler;
+  // The stage installed by a combinator, it replaces the handler
+  private Listener<T> listener;
   private T result;
   private Throwable throwable;
 
@@ -75,6 +79,7 @@ class FutureImpl<T> implements Future<T>, Handler<AsyncResult<T>> {
     boolean callHandler;
     synchronized (this) {
       this.handler = handler;
+      this.listener = null;
       callHandler = isComplete();
     }
     if (callHandler) {
@@ -114,6 +119,7 @@ class FutureImpl<T> implements Future<T>, Handler<AsyncResult<T>> {
   @Override
   public boolean tryComplete(T result) {
     Handler<AsyncResult<T>> h;
+    Listener<T> l;
     synchronized (this) {
       if (succeeded || failed) {
         return false;
@@ -121,8 +127,11 @@ class FutureImpl<T> implements Future<T>, Handler<AsyncResult<T>> {
       this.result = result;
       succeeded = true;
       h = handler;
+      l = listener;
     }
-    if (h != null) {
+    if (l != null) {
+      l.onSuccess(result);
+    } else if (h != null) {
       h.handle(this);
     }
     return true;
@@ -158,6 +167,7 @@ class FutureImpl<T> implements Future<T>, Handler<AsyncResult<T>> {
   @Override
   public boolean tryFail(Throwable cause) {
     Handler<AsyncResult<T>> h;
+    Listener<T> l;
     synchronized (this) {
       if (succeeded || failed) {
         return false;
@@ -165,8 +175,11 @@ class FutureImpl<T> implements Future<T>, Handler<AsyncResult<T>> {
       this.throwable = cause != null ? cause : new NoStackTraceThrowable(null);
       failed = true;
       h = handler;
+      l = listener;
     }
-    if (h != null) {
+    if (l != null) {
+      l.onFailure(throwable);
+    } else if (h != null) {
       h.handle(this);
     }
     return true;
@@ -177,6 +190,250 @@ class FutureImpl<T> implements Future<T>, Handler<AsyncResult<T>> {
     return tryFail(new NoStackTraceThrowable(failureMessage));
   }
 
+  // The combinators return a new future that replaces the handler of this future and listens to its completion, when
+  // this future is already completed they are applied immediately instead
+
+  @Override
+  public <U> Future<U> compose(Function<T, Future<U>> mapper) {
+    if (mapper == null) {
+      throw new NullPointerException();
+    }
+    synchronized (this) {
+      if (!succeeded && !failed) {
+        Composition<T, U> next = new Composition<>(mapper);
+        handler = null;
+        listener = next;
+        return next;
+      }
+    }
+    return succeeded ? composeSucceeded(result, mapper) : new FailedFuture<>(throwable);
+  }
+
+  @Override
+  public <U> Future<U> map(Function<T, U> mapper) {
+    if (mapper == null) {
+      throw new NullPointerException();
+    }
+    synchronized (this) {
+      if (!succeeded && !failed) {
+        Mapping<T, U> next = new Mapping<>(mapper);
+        handler = null;
+        listener = next;
+        return next;
+      }
+    }
+    return succeeded ? mapSucceeded(result, mapper) : new FailedFuture<>(throwable);
+  }
+
+  @Override
+  public <V> Future<V> map(V value) {
+    if (isComplete()) {
+      return succeeded() ? new SucceededFuture<>(value) : new FailedFuture<>(throwable);
+    }
+    return map((Function<T, V>) v -> value);
+  }
+
+  @Override
+  public Future<T> recover(Function<Throwable, Future<T>> mapper) {
+    if (mapper == null) {
+      throw new NullPointerException();
+    }
+    synchronized (this) {
+      if (!succeeded && !failed) {
+        Recovery<T> next = new Recovery<>(mapper);
+        handler = null;
+        listener = next;
+        return next;
+      }
+    }
+    return succeeded ? new SucceededFuture<>(result) : recoverFailed(throwable, mapper);
+  }
+
+  @Override
+  public Future<T> otherwise(Function<Throwable, T> mapper) {
+    if (mapper == null) {
+      throw new NullPointerException();
+    }
+    synchronized (this) {
+      if (!succeeded && !failed) {
+        Otherwise<T> next = new Otherwise<>(mapper);
+        handler = null;
+        listener = next;
+        return next;
+      }
+    }
+    return succeeded ? new SucceededFuture<>(result) : otherwiseFailed(throwable, mapper);
+  }
+
+  @Override
+  public Future<T> otherwise(T value) {
+    if (isComplete()) {
+      return new SucceededFuture<>(succeeded() ? result : value);
+    }
+    return otherwise(err -> value);
+  }
+
+  static <T, U> Future<U> composeSucceeded(T value, Function<T, Future<U>> mapper) {
+    Future<U> next;
+    try {
+      next = mapper.apply(value);
+    } catch (Throwable e) {
+      return new FailedFuture<>(e);
+    }
+    // The future of the mapper is not returned, a handler set on it would replace the handlers of its other users
+    FutureImpl<U> ret = new FutureImpl<>();
+    next.setHandler(ret);
+    return ret;
+  }
+
+  static <T, U> Future<U> mapSucceeded(T value, Function<T, U> mapper) {
+    U mapped;
+    try {
+      mapped = mapper.apply(value);
+    } catch (Throwable e) {
+      return new FailedFuture<>(e);
+    }
+    return new SucceededFuture<>(mapped);
+  }
+
+  static <T> Future<T> recoverFailed(Throwable cause, Function<Throwable, Future<T>> mapper) {
+    Future<T> next;
+    try {
+      next = mapper.apply(cause);
+    } catch (Throwable e) {
+      return new FailedFuture<>(e);
+    }
+    FutureImpl<T> ret = new FutureImpl<>();
+    next.setHandler(ret);
+    return ret;
+  }
+
+  static <T> Future<T> otherwiseFailed(Throwable cause, Function<Throwable, T> mapper) {
+    T value;
+    try {
+      value = mapper.apply(cause);
+    } catch (Throwable e) {
+      return new FailedFuture<>(e);
+    }
+    return new SucceededFuture<>(value);
+  }
+
+  /**
+   * Notified of the completion of a future instead of a handler, it avoids the allocation of a handler and the
+   * {@link AsyncResult} dispatch.
+   */
+  interface Listener<T> {
+
+    void onSuccess(T value);
+
+    void onFailure(Throwable failure);
+
+  }
+
+  private static class Composition<T, U> extends FutureImpl<U> implements Listener<T> {
+
+    private final Function<T, Future<U>> mapper;
+
+    Composition(Function<T, Future<U>> mapper) {
+      this.mapper = mapper;
+    }
+
+    @Override
+    public void onSuccess(T value) {
+      Future<U> next;
+      try {
+        next = mapper.apply(value);
+      } catch (Throwable e) {
+        fail(e);
+        return;
+      }
+      next.setHandler(this);
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+      fail(failure);
+    }
+  }
+
+  private static class Mapping<T, U> extends FutureImpl<U> implements Listener<T> {
+
+    private final Function<T, U> mapper;
+
+    Mapping(Function<T, U> mapper) {
+      this.mapper = mapper;
+    }
+
+    @Override
+    public void onSuccess(T value) {
+      U mapped;
+      try {
+        mapped = mapper.apply(value);
+      } catch (Throwable e) {
+        fail(e);
+        return;
+      }
+      complete(mapped);
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+      fail(failure);
+    }
+  }
+
+  private static class Recovery<T> extends FutureImpl<T> implements Listener<T> {
+
+    private final Function<Throwable, Future<T>> mapper;
+
+    Recovery(Function<Throwable, Future<T>> mapper) {
+      this.mapper = mapper;
+    }
+
+    @Override
+    public void onSuccess(T value) {
+      complete(value);
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+      Future<T> next;
+      try {
+        next = mapper.apply(failure);
+      } catch (Throwable e) {
+        fail(e);
+        return;
+      }
+      next.setHandler(this);
+    }
+  }
+
+  private static class Otherwise<T> extends FutureImpl<T> implements Listener<T> {
+
+    private final Function<Throwable, T> mapper;
+
+    Otherwise(Function<Throwable, T> mapper) {
+      this.mapper = mapper;
+    }
+
+    @Override
+    public void onSuccess(T value) {
+      complete(value);
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+      T value;
+      try {
+        value = mapper.apply(failure);
+      } catch (Throwable e) {
+        fail(e);
+        return;
+      }
+      complete(value);
+    }
+  }
+
   @Override
   public String toString() {
     synchronized (this) {
@@ -38,7 +38,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Consumer;
+import java.util.function.BiConsumer;
 
 import static java.util.concurrent.TimeUnit.*;
 
@@ -128,7 +128,8 @@ public class HAManager {
   private volatile boolean failDuringFailover;
   private volatile boolean stopped;
   private volatile boolean killed;
-  private Consumer<Set<String>> clusterViewChangedHandler;
+  private BiConsumer<String, Set<String>> clusterViewChangedHandler;
+  private volatile NodeListener membershipListener;
 
   public HAManager(VertxInternal vertx, DeploymentManager deploymentManager,
                    ClusterManager clusterManager, int quorumSize, String group, boolean enabled) {
@@ -149,11 +150,19 @@ public class HAManager {
     clusterManager.nodeListener(new NodeListener() {
       @Override
       public void nodeAdded(String nodeID) {
+        NodeListener listener = membershipListener;
+        if (listener != null) {
+          listener.nodeAdded(nodeID);
+        }
         HAManager.this.nodeAdded(nodeID);
       }
 
       @Override
       public void nodeLeft(String leftNodeID) {
+        NodeListener listener = membershipListener;
+        if (listener != null) {
+          listener.nodeLeft(leftNodeID);
+        }
         HAManager.this.nodeLeft(leftNodeID);
       }
     });
@@ -253,10 +262,22 @@ public class HAManager {
     this.failoverCompleteHandler = failoverCompleteHandler;
   }
 
-  public void setClusterViewChangedHandler(Consumer<Set<String>> handler) {
+  /**
+   * Set the handler called on the node chosen to update the subscriptions when a node joins or leaves the cluster,
+   * with the ID of the node and the nodes of the cluster.
+   */
+  public void setClusterViewChangedHandler(BiConsumer<String, Set<String>> handler) {
     this.clusterViewChangedHandler = handler;
   }
 
+  /**
+   * Set a listener notified on every node when a node joins or leaves the cluster, unlike the cluster view changed
+   * handler which is only called on the node chosen to update the subscriptions.
+   */
+  public void setMembershipListener(NodeListener listener) {
+    this.membershipListener = listener;
+  }
+
   public boolean isKilled() {
     return killed;
   }
@@ -512,13 +533,13 @@ public class HAManager {
     }
   }
 
-  private void checkSubs(String failedNodeID) {
+  private void checkSubs(String changedNodeID) {
     if (clusterViewChangedHandler == null) {
       return;
     }
-    String chosen = chooseHashedNode(null, failedNodeID.hashCode());
+    String chosen = chooseHashedNode(null, changedNodeID.hashCode());
     if (chosen != null && chosen.equals(this.nodeID)) {
-      runOnContextAndWait(() -> clusterViewChangedHandler.accept(new HashSet<>(clusterManager.getNodes())));
+      runOnContextAndWait(() -> clusterViewChangedHandler.accept(changedNodeID, new HashSet<>(clusterManager.getNodes())));
     }
   }
 
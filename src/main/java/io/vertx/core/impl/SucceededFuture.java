@@ -19,6 +19,8 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 
+import java.util.function.Function;
+
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -110,6 +112,48 @@ class SucceededFuture<T> implements Future<T> {
     throw new IllegalStateException("Result is already complete: succeeded");
   }
 
+  @Override
+  public <U> Future<U> compose(Function<T, Future<U>> mapper) {
+    if (mapper == null) {
+      throw new NullPointerException();
+    }
+    return FutureImpl.composeSucceeded(result, mapper);
+  }
+
+  @Override
+  public <U> Future<U> map(Function<T, U> mapper) {
+    if (mapper == null) {
+      throw new NullPointerException();
+    }
+    return FutureImpl.mapSucceeded(result, mapper);
+  }
+
+  @Override
+  public <V> Future<V> map(V value) {
+    return new SucceededFuture<>(value);
+  }
+
+  @Override
+  public Future<T> recover(Function<Throwable, Future<T>> mapper) {
+    if (mapper == null) {
+      throw new NullPointerException();
+    }
+    return this;
+  }
+
+  @Override
+  public Future<T> otherwise(Function<Throwable, T> mapper) {
+    if (mapper == null) {
+      throw new NullPointerException();
+    }
+    return this;
+  }
+
+  @Override
+  public Future<T> otherwise(T value) {
+    return this;
+  }
+
   @Override
   public String toString() {
     return "Future{result=" + result + "}";
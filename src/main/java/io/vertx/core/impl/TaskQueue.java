@@ -18,8 +18,9 @@ package io.vertx.core.impl;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
-import java.util.LinkedList;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * A task queue that always run all tasks in order. The executor to run the tasks is passed when
@@ -29,6 +30,12 @@ import java.util.concurrent.Executor;
  * More specifically, any call B to the {@link #execute(Runnable, Executor)} method that happens-after another call A to the
  * same method, will result in B's task running after A's.
  *
+ * The queue is a lock-free multi-producer single-consumer linked list whose nodes are the tasks themselves. The
+ * submitters append tasks with an atomic swap of the tail and the thread running the tasks (the owner) polls them from
+ * the head. The number of submitted tasks not yet accounted by the owner decides which submitter schedules the owner:
+ * the submitter that increments it from {@code 0}. The owner accounts the tasks it ran when the queue looks empty and
+ * stops when no task remains, so a submission costs a single allocation and two atomic operations.
+ *
  * @author <a href="david.lloyd@jboss.com">David Lloyd</a>
  * @author <a href="mailto:tim.fox@jboss.com">Tim Fox</a>
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -39,8 +46,9 @@ public class TaskQueue {
 
   private static class Task {
 
-    private final Runnable runnable;
+    private Runnable runnable;
     private final Executor exec;
+    private volatile Task next;
 
     public Task(Runnable runnable, Executor exec) {
       this.runnable = runnable;
@@ -48,41 +56,74 @@ public class TaskQueue {
     }
   }
 
-  // @protectedby tasks
-  private final LinkedList<Task> tasks = new LinkedList<>();
+  private final AtomicReference<Task> tail;
+  private final AtomicInteger size = new AtomicInteger();
+
+  // @protectedby owner
+  private Task head;
+
+  // @protectedby owner, the task that must run on another executor than the current one
+  private Task pending;
+
+  // @protectedby owner, the number of tasks run and not yet substracted from size
+  private int handled;
 
-  // @protectedby tasks
+  // @protectedby owner
   private Executor current;
 
   private final Runnable runner;
 
   public TaskQueue() {
+    head = new Task(null, null);
+    tail = new AtomicReference<>(head);
     runner = this::run;
   }
 
   private void run() {
     for (; ; ) {
-      final Task task;
-      synchronized (tasks) {
-        task = tasks.poll();
-        if (task == null) {
-          current = null;
-          return;
-        }
-        if (task.exec != current) {
-          tasks.addFirst(task);
-          task.exec.execute(runner);
-          current = task.exec;
+      Task task = poll();
+      if (task == null) {
+        // Reset before the subtraction, when it drops the size to 0 a submitter can become the owner on another thread
+        int h = handled;
+        handled = 0;
+        int remaining = size.addAndGet(-h);
+        if (remaining <= 0) {
+          // A negative size means that tasks were run before their submitter incremented the size
           return;
         }
+        // A submitted task is not yet linked to the queue
+        continue;
+      }
+      if (task.exec != current) {
+        pending = task;
+        current = task.exec;
+        task.exec.execute(runner);
+        return;
       }
+      Runnable runnable = task.runnable;
+      task.runnable = null;
+      handled++;
       try {
-        task.runnable.run();
+        runnable.run();
       } catch (Throwable t) {
         log.error("Caught unexpected Throwable", t);
       }
     }
-  };
+  }
+
+  private Task poll() {
+    Task task = pending;
+    if (task != null) {
+      pending = null;
+      return task;
+    }
+    Task next = head.next;
+    if (next != null) {
+      // The task becomes the new sentinel of the queue
+      head = next;
+    }
+    return next;
+  }
 
   /**
    * Run a task.
@@ -90,12 +131,11 @@ public class TaskQueue {
    * @param task the task to run.
    */
   public void execute(Runnable task, Executor executor) {
-    synchronized (tasks) {
-      tasks.add(new Task(task, executor));
-      if (current == null) {
-        current = executor;
-        executor.execute(runner);
-      }
+    Task t = new Task(task, executor);
+    tail.getAndSet(t).next = t;
+    if (size.getAndIncrement() == 0) {
+      current = executor;
+      executor.execute(runner);
     }
   }
 }
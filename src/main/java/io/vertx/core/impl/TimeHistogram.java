@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.impl;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of durations in ns with power of two buckets: recording is a single atomic increment and the
+ * percentiles are upper bounds accurate within a factor of two.
+ */
+class TimeHistogram {
+
+  private final AtomicLongArray counts = new AtomicLongArray(64);
+
+  void record(long time) {
+    // Bucket i counts the times of i bits
+    counts.incrementAndGet(time <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(time));
+  }
+
+  /**
+   * @param percentile the percentile between {@code 0} and {@code 100}, e.g {@code 99.9}
+   * @return the upper bound of the bucket of the percentile or {@code 0} when nothing has been recorded
+   */
+  long percentile(double percentile) {
+    long[] snapshot = new long[counts.length()];
+    long total = 0;
+    for (int i = 0;i < snapshot.length;i++) {
+      snapshot[i] = counts.get(i);
+      total += snapshot[i];
+    }
+    long rank = (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100);
+    long count = 0;
+    for (int i = 0;i < snapshot.length;i++) {
+      count += snapshot[i];
+      if (count >= rank && count > 0) {
+        // The upper bound of the bucket
+        return (1L << i) - 1;
+      }
+    }
+    return 0;
+  }
+}
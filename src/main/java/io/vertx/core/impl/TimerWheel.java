@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.impl;
+
+import io.netty.util.concurrent.EventExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A hashed timer wheel driven by an event loop.
+ * <p>
+ * The time is divided in ticks, a timeout is linked in the bucket of the tick of its deadline: arming and cancelling a
+ * timeout is a constant time operation. The event loop advances the wheel every tick and runs the expired timeouts of
+ * the buckets of the elapsed ticks, the timeouts of the next rounds stay in their bucket. The tick task is only
+ * scheduled while the wheel has timeouts.
+ * <p>
+ * The wheel state is only accessed by the event loop thread, a timeout armed or cancelled by another thread is
+ * handed to the event loop.
+ * <p>
+ * Each event loop has a wheel, it times out the event bus replies and schedules the Vert.x timers when
+ * {@link io.vertx.core.VertxOptions#setTimerWheelEnabled(boolean)} is set.
+ */
+public class TimerWheel {
+
+  private static final int WHEEL_SIZE = 512;
+  private static final int MASK = WHEEL_SIZE - 1;
+
+  private final EventExecutor eventLoop;
+  private final long tickDuration;
+  private final long startTime;
+  private final Timeout[] buckets = new Timeout[WHEEL_SIZE];
+
+  // @protectedby the event loop thread
+  private long tick;
+  private int size;
+  private ScheduledFuture<?> tickTask;
+
+  /**
+   * @param tickDuration the tick duration in ms
+   */
+  TimerWheel(EventExecutor eventLoop, long tickDuration) {
+    this.eventLoop = eventLoop;
+    this.tickDuration = TimeUnit.MILLISECONDS.toNanos(tickDuration);
+    this.startTime = System.nanoTime();
+  }
+
+  /**
+   * Arm a timeout.
+   *
+   * @param task the task run by the event loop when the timeout fires
+   * @param delay the delay in ms
+   * @param periodic whether the timeout fires every {@code delay}
+   * @return the timeout
+   */
+  public Timeout schedule(Runnable task, long delay, boolean periodic) {
+    long delayNanos = TimeUnit.MILLISECONDS.toNanos(delay);
+    Timeout timeout = new Timeout(task, System.nanoTime() + delayNanos, periodic ? delayNanos : 0);
+    if (eventLoop.inEventLoop()) {
+      add(timeout);
+    } else {
+      eventLoop.execute(() -> add(timeout));
+    }
+    return timeout;
+  }
+
+  private void add(Timeout timeout) {
+    if (timeout.cancelled) {
+      return;
+    }
+    if (size == 0 && tickTask == null) {
+      // The wheel has not been advanced while it was empty
+      tick = (System.nanoTime() - startTime) / tickDuration;
+    }
+    long deadlineTick = (timeout.deadline - startTime + tickDuration - 1) / tickDuration;
+    timeout.deadlineTick = Math.max(deadlineTick, tick + 1);
+    int index = (int) (timeout.deadlineTick & MASK);
+    Timeout head = buckets[index];
+    timeout.bucket = index;
+    timeout.prev = null;
+    timeout.next = head;
+    if (head != null) {
+      head.prev = timeout;
+    }
+    buckets[index] = timeout;
+    size++;
+    if (tickTask == null) {
+      tickTask = eventLoop.scheduleAtFixedRate(this::advance, tickDuration, tickDuration, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void remove(Timeout timeout) {
+    if (timeout.bucket < 0) {
+      return;
+    }
+    if (timeout.prev != null) {
+      timeout.prev.next = timeout.next;
+    } else {
+      buckets[timeout.bucket] = timeout.next;
+    }
+    if (timeout.next != null) {
+      timeout.next.prev = timeout.prev;
+    }
+    timeout.bucket = -1;
+    timeout.prev = null;
+    timeout.next = null;
+    size--;
+  }
+
+  private void advance() {
+    long target = (System.nanoTime() - startTime) / tickDuration;
+    if (target <= tick) {
+      return;
+    }
+    // Unlink the expired timeouts first, a periodic timeout rearmed when it fires must not be found again
+    Timeout expired = null;
+    long last = Math.min(target, tick + WHEEL_SIZE);
+    for (long t = tick + 1; t <= last; t++) {
+      Timeout timeout = buckets[(int) (t & MASK)];
+      while (timeout != null) {
+        Timeout next = timeout.next;
+        if (timeout.deadlineTick <= target) {
+          remove(timeout);
+          timeout.next = expired;
+          expired = timeout;
+        }
+        timeout = next;
+      }
+    }
+    tick = target;
+    while (expired != null) {
+      Timeout timeout = expired;
+      expired = timeout.next;
+      timeout.next = null;
+      if (!timeout.cancelled) {
+        if (timeout.period > 0) {
+          timeout.rearm();
+        }
+        timeout.task.run();
+      }
+    }
+    if (size == 0) {
+      tickTask.cancel(false);
+      tickTask = null;
+    }
+  }
+
+  /**
+   * A timeout of the wheel.
+   */
+  public class Timeout {
+
+    private final Runnable task;
+    private final long period;
+    private long deadline;
+    private volatile boolean cancelled;
+
+    // @protectedby the event loop thread
+    private long deadlineTick;
+    private int bucket = -1;
+    private Timeout prev;
+    private Timeout next;
+
+    private Timeout(Runnable task, long deadline, long period) {
+      this.task = task;
+      this.deadline = deadline;
+      this.period = period;
+    }
+
+    private void rearm() {
+      // The next deadline is computed from the previous one so the timeout does not drift, the periods
+      // missed when the event loop was late are skipped
+      deadline += period;
+      long late = System.nanoTime() - deadline;
+      if (late > 0) {
+        deadline += (late / period + 1) * period;
+      }
+      add(this);
+    }
+
+    /**
+     * Cancel the timeout, it can be called from any thread.
+     */
+    public void cancel() {
+      cancelled = true;
+      if (eventLoop.inEventLoop()) {
+        remove(this);
+      } else {
+        try {
+          eventLoop.execute(() -> remove(this));
+        } catch (RejectedExecutionException ignore) {
+          // The event loop is shut down
+        }
+      }
+    }
+  }
+}
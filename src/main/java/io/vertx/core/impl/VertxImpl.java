@@ -20,8 +20,10 @@ import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.resolver.AddressResolverGroup;
 import io.netty.util.ResourceLeakDetector;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.BlockingTask;
 import io.vertx.core.Closeable;
 import io.vertx.core.Context;
 import io.vertx.core.DeploymentOptions;
@@ -66,6 +68,7 @@ import io.vertx.core.net.impl.transport.Transport;
 import io.vertx.core.spi.VerticleFactory;
 import io.vertx.core.spi.VertxMetricsFactory;
 import io.vertx.core.spi.cluster.ClusterManager;
+import io.vertx.core.spi.metrics.EventLoopStatistics;
 import io.vertx.core.spi.metrics.Metrics;
 import io.vertx.core.spi.metrics.MetricsProvider;
 import io.vertx.core.spi.metrics.PoolMetrics;
@@ -75,8 +78,10 @@ import java.io.File;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -120,9 +125,13 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private final Map<ServerID, NetServerImpl> sharedNetServers = new HashMap<>();
   final WorkerPool workerPool;
   final WorkerPool internalBlockingPool;
+  private volatile WorkerPool virtualWorkerPool;
   private final ThreadFactory eventLoopThreadFactory;
   private final EventLoopGroup eventLoopGroup;
   private final EventLoopGroup acceptorEventLoopGroup;
+  private final Map<EventExecutor, EventLoopStatisticsImpl> eventLoopStatistics;
+  private final Map<EventExecutor, TimerWheel> timerWheels;
+  private final boolean timerWheelEnabled;
   private final BlockedThreadChecker checker;
   private final boolean haEnabled;
   private final AddressResolver addressResolver;
@@ -133,6 +142,10 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private final Map<String, SharedWorkerPool> namedWorkerPools;
   private final int defaultWorkerPoolSize;
   private final long defaultWorkerMaxExecTime;
+  private final boolean workerPoolAdaptive;
+  private final int workerPoolMinSize;
+  private final long workerPoolTargetWaitTime;
+  private final long workerPoolKeepAliveTime;
   private final CloseHooks closeHooks;
   private final Transport transport;
 
@@ -169,8 +182,15 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     acceptorEventLoopGroup = transport.eventLoopGroup(1, acceptorEventLoopThreadFactory, 100);
 
     metrics = initialiseMetrics(options);
-
-    ExecutorService workerExec = Executors.newFixedThreadPool(options.getWorkerPoolSize(),
+    eventLoopStatistics = initialiseEventLoopStatistics();
+    timerWheels = initialiseTimerWheels(options);
+    timerWheelEnabled = options.isTimerWheelEnabled();
+
+    workerPoolAdaptive = options.isWorkerPoolAdaptive();
+    workerPoolMinSize = options.getWorkerPoolMinSize();
+    workerPoolTargetWaitTime = options.getWorkerPoolTargetWaitTime();
+    workerPoolKeepAliveTime = options.getWorkerPoolKeepAliveTime();
+    ExecutorService workerExec = createWorkerExecutor(options.getWorkerPoolSize(),
         new VertxThreadFactory("vert.x-worker-thread-", checker, true, options.getMaxWorkerExecuteTime()));
     PoolMetrics workerPoolMetrics = metrics != null ? metrics.createMetrics(workerExec, "worker", "vert.x-worker-thread", options.getWorkerPoolSize()) : null;
     ExecutorService internalBlockingExec = Executors.newFixedThreadPool(options.getInternalBlockingPoolSize(),
@@ -213,7 +233,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     if (options.isClustered()) {
       eventBus = new ClusteredEventBus(this, options, clusterManager, haManager);
     } else {
-      eventBus = new EventBusImpl(this);
+      eventBus = new EventBusImpl(this, options.getEventBusOptions());
     }
     eventBus.start(ar -> {
       if (ar.succeeded()) {
@@ -348,6 +368,16 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return acceptorEventLoopGroup;
   }
 
+  @Override
+  public EventLoopStatisticsImpl eventLoopStatistics(EventLoop eventLoop) {
+    return eventLoopStatistics.get(eventLoop);
+  }
+
+  @Override
+  public TimerWheel timerWheel(EventLoop eventLoop) {
+    return timerWheels.get(eventLoop);
+  }
+
   public ContextImpl getOrCreateContext() {
     ContextImpl ctx = getContext();
     if (ctx == null) {
@@ -389,6 +419,25 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return new EventLoopContext(this, internalBlockingPool, workerPool != null ? workerPool : this.workerPool, deploymentID, config, tccl);
   }
 
+  @Override
+  public WorkerPool virtualWorkerPool() {
+    WorkerPool pool = virtualWorkerPool;
+    if (pool == null) {
+      synchronized (this) {
+        pool = virtualWorkerPool;
+        if (pool == null) {
+          ExecutorService virtualExec = VirtualWorker.createExecutor("vert.x-virtual-worker-thread-", checker, defaultWorkerMaxExecTime);
+          if (virtualExec == null) {
+            return null;
+          }
+          PoolMetrics virtualPoolMetrics = metrics != null ? metrics.createMetrics(virtualExec, "worker", "vert.x-virtual-worker-thread", -1) : null;
+          virtualWorkerPool = pool = new WorkerPool(virtualExec, virtualPoolMetrics);
+        }
+      }
+    }
+    return pool;
+  }
+
   public ContextImpl createWorkerContext(boolean multiThreaded, String deploymentID, WorkerPool workerPool, JsonObject config,
                                          ClassLoader tccl) {
     if (workerPool == null) {
@@ -429,6 +478,32 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return null;
   }
 
+  private Map<EventExecutor, EventLoopStatisticsImpl> initialiseEventLoopStatistics() {
+    if (metrics != null) {
+      Map<EventExecutor, EventLoopStatisticsImpl> map = new HashMap<>();
+      List<EventLoopStatistics> list = new ArrayList<>();
+      for (EventExecutor eventLoop : eventLoopGroup) {
+        EventLoopStatisticsImpl statistics = new EventLoopStatisticsImpl(eventLoop);
+        map.put(eventLoop, statistics);
+        list.add(statistics);
+      }
+      if (metrics.eventLoopsCreated(list)) {
+        map.values().forEach(EventLoopStatisticsImpl::init);
+        return map;
+      }
+    }
+    return Collections.emptyMap();
+  }
+
+  private Map<EventExecutor, TimerWheel> initialiseTimerWheels(VertxOptions options) {
+    // The wheels are always created for the event bus reply timeouts, an idle wheel does not schedule any task
+    Map<EventExecutor, TimerWheel> map = new HashMap<>();
+    for (EventExecutor eventLoop : eventLoopGroup) {
+      map.put(eventLoop, new TimerWheel(eventLoop, options.getTimerWheelTickDuration()));
+    }
+    return map;
+  }
+
   private ClusterManager getClusterManager(VertxOptions options) {
     if (options.isClustered()) {
       if (options.getClusterManager() != null) {
@@ -469,9 +544,9 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   }
 
   public static Context context() {
-    Thread current = Thread.currentThread();
-    if (current instanceof VertxThread) {
-      return ((VertxThread) current).getContext();
+    ContextThread current = ContextThread.current();
+    if (current != null) {
+      return current.getContext();
     }
     return null;
   }
@@ -710,6 +785,13 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     executeBlocking(blockingCodeHandler, true, asyncResultHandler);
   }
 
+  @Override
+  public <T> BlockingTask submitBlocking(Handler<Future<T>> blockingCodeHandler, boolean ordered, long timeout,
+                                         Handler<AsyncResult<T>> asyncResultHandler) {
+    ContextImpl context = getOrCreateContext();
+    return context.submitBlocking(blockingCodeHandler, ordered, timeout, asyncResultHandler);
+  }
+
   @Override
   public boolean isClustered() {
     return clusterManager != null;
@@ -782,6 +864,10 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
 
       workerPool.close();
       internalBlockingPool.close();
+      WorkerPool virtualPool = virtualWorkerPool;
+      if (virtualPool != null) {
+        virtualPool.close();
+      }
       new ArrayList<>(namedWorkerPools.values()).forEach(WorkerPool::close);
 
       acceptorEventLoopGroup.shutdownGracefully(0, 10, TimeUnit.SECONDS).addListener(new GenericFutureListener() {
@@ -832,6 +918,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     final long timerID;
     final ContextImpl context;
     final java.util.concurrent.Future<?> future;
+    final TimerWheel.Timeout timeout;
     final AtomicBoolean cancelled;
 
     boolean cancel() {
@@ -839,7 +926,11 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
         if (metrics != null) {
           metrics.timerEnded(timerID, true);
         }
-        future.cancel(false);
+        if (timeout != null) {
+          timeout.cancel();
+        } else {
+          future.cancel(false);
+        }
         return true;
       } else {
         return false;
@@ -854,10 +945,16 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
       this.cancelled = new AtomicBoolean();
       EventLoop el = context.nettyEventLoop();
       Runnable toRun = () -> context.runOnContext(this);
-      if (periodic) {
-        future = el.scheduleAtFixedRate(toRun, delay, delay, TimeUnit.MILLISECONDS);
+      if (timerWheelEnabled) {
+        future = null;
+        timeout = timerWheels.get(el).schedule(toRun, delay, periodic);
       } else {
-        future = el.schedule(toRun, delay, TimeUnit.MILLISECONDS);
+        timeout = null;
+        if (periodic) {
+          future = el.scheduleAtFixedRate(toRun, delay, delay, TimeUnit.MILLISECONDS);
+        } else {
+          future = el.schedule(toRun, delay, TimeUnit.MILLISECONDS);
+        }
       }
       if (metrics != null) {
         metrics.timerCreated(timerID);
@@ -1029,7 +1126,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     }
     SharedWorkerPool sharedWorkerPool = namedWorkerPools.get(name);
     if (sharedWorkerPool == null) {
-      ExecutorService workerExec = Executors.newFixedThreadPool(poolSize, new VertxThreadFactory(name + "-", checker, true, maxExecuteTime));
+      ExecutorService workerExec = createWorkerExecutor(poolSize, new VertxThreadFactory(name + "-", checker, true, maxExecuteTime));
       PoolMetrics workerMetrics = metrics != null ? metrics.createMetrics(workerExec, "worker", name, poolSize) : null;
       namedWorkerPools.put(name, sharedWorkerPool = new SharedWorkerPool(name, workerExec, workerMetrics));
     } else {
@@ -1041,6 +1138,14 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return namedExec;
   }
 
+  private ExecutorService createWorkerExecutor(int poolSize, ThreadFactory threadFactory) {
+    if (workerPoolAdaptive && poolSize > workerPoolMinSize) {
+      return new AdaptiveWorkerExecutor(workerPoolMinSize, poolSize, workerPoolTargetWaitTime, workerPoolKeepAliveTime,
+        threadFactory, eventLoopGroup.next());
+    }
+    return Executors.newFixedThreadPool(poolSize, threadFactory);
+  }
+
   synchronized void releaseWorkerExecutor(String name) {
     namedWorkerPools.remove(name);
   }
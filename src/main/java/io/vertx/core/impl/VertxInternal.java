@@ -17,6 +17,7 @@
 package io.vertx.core.impl;
 
 
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.resolver.AddressResolverGroup;
 import io.vertx.codegen.annotations.GenIgnore;
@@ -54,6 +55,16 @@ public interface VertxInternal extends Vertx {
 
   EventLoopGroup getAcceptorEventLoopGroup();
 
+  /**
+   * @return the statistics to record for the {@code eventLoop} or {@code null} when they are not recorded
+   */
+  EventLoopStatisticsImpl eventLoopStatistics(EventLoop eventLoop);
+
+  /**
+   * @return the timer wheel of the {@code eventLoop}
+   */
+  TimerWheel timerWheel(EventLoop eventLoop);
+
   ExecutorService getWorkerPool();
 
   Map<ServerID, HttpServerImpl> sharedHttpServers();
@@ -75,6 +86,12 @@ public interface VertxInternal extends Vertx {
    */
   EventLoopContext createEventLoopContext(String deploymentID, WorkerPool workerPool, JsonObject config, ClassLoader tccl);
 
+  /**
+   * @return the worker pool running each task on a new virtual thread, or {@code null} when the JVM does not support
+   *         virtual threads
+   */
+  WorkerPool virtualWorkerPool();
+
   /**
    * @return worker loop context
    */
@@ -21,12 +21,14 @@ import io.netty.util.concurrent.FastThreadLocalThread;
 /**
  * @author <a href="mailto:nmaurer@redhat.com">Norman Maurer</a>
  */
-public final class VertxThread extends FastThreadLocalThread {
+public final class VertxThread extends FastThreadLocalThread implements ContextThread {
 
   private final boolean worker;
   private final long maxExecTime;
   private long execStart;
   private ContextImpl context;
+  // The number of tasks submitted by this event loop thread to its own event loop that have not run yet
+  private int pendingTasks;
 
   public VertxThread(Runnable target, String name, boolean worker, long maxExecTime) {
     super(target, name);
@@ -34,11 +36,11 @@ public final class VertxThread extends FastThreadLocalThread {
     this.maxExecTime = maxExecTime;
   }
 
-  ContextImpl getContext() {
+  public ContextImpl getContext() {
     return context;
   }
 
-  void setContext(ContextImpl context) {
+  public void setContext(ContextImpl context) {
     this.context = context;
   }
 
@@ -54,6 +56,18 @@ public final class VertxThread extends FastThreadLocalThread {
     return execStart;
   }
 
+  int pendingTasks() {
+    return pendingTasks;
+  }
+
+  void taskSubmitted() {
+    pendingTasks++;
+  }
+
+  void taskStarted() {
+    pendingTasks--;
+  }
+
   public boolean isWorker() {
     return worker;
   }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.core.impl;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The state of a worker task running on a virtual thread.
+ * <p>
+ * Virtual threads cannot be {@link VertxThread}s, so the state a {@link VertxThread} carries is kept in a thread local
+ * of the virtual thread for the duration of the task and the virtual thread is registered in the
+ * {@link BlockedThreadChecker} meanwhile.
+ * <p>
+ * Virtual threads are looked up with reflection so Vert.x still runs on JVMs that do not support them, in which
+ * case {@link #createExecutor} returns {@code null}.
+ */
+final class VirtualWorker implements ContextThread {
+
+  private static final ThreadLocal<VirtualWorker> current = new ThreadLocal<>();
+
+  private static final Method ofVirtual;
+  private static final Method builderName;
+  private static final Method builderFactory;
+  private static final Method newThreadPerTaskExecutor;
+
+  static {
+    Method ofVirtualMethod = null;
+    Method builderNameMethod = null;
+    Method builderFactoryMethod = null;
+    Method newThreadPerTaskExecutorMethod = null;
+    try {
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+      builderNameMethod = builderClass.getMethod("name", String.class, long.class);
+      builderFactoryMethod = builderClass.getMethod("factory");
+      newThreadPerTaskExecutorMethod = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+    } catch (Exception ignore) {
+      // Virtual threads are not supported
+      ofVirtualMethod = null;
+    }
+    ofVirtual = ofVirtualMethod;
+    builderName = builderNameMethod;
+    builderFactory = builderFactoryMethod;
+    newThreadPerTaskExecutor = newThreadPerTaskExecutorMethod;
+  }
+
+  /**
+   * @return whether the JVM supports virtual threads
+   */
+  static boolean isSupported() {
+    return ofVirtual != null;
+  }
+
+  /**
+   * @return the state of the worker task running on the current thread or {@code null}
+   */
+  static VirtualWorker current() {
+    return current.get();
+  }
+
+  /**
+   * Create an executor running each task on a new virtual thread.
+   *
+   * @param prefix the prefix of the virtual thread names
+   * @param checker the checker warning about the tasks blocking longer than {@code maxExecTime}
+   * @param maxExecTime the maximum execution time of a task, in ns
+   * @return the executor or {@code null} when the JVM does not support virtual threads
+   */
+  static ExecutorService createExecutor(String prefix, BlockedThreadChecker checker, long maxExecTime) {
+    if (!isSupported()) {
+      return null;
+    }
+    try {
+      Object builder = builderName.invoke(ofVirtual.invoke(null), prefix, 0L);
+      ThreadFactory factory = (ThreadFactory) builderFactory.invoke(builder);
+      ThreadFactory workerFactory = task -> factory.newThread(() -> run(task, checker, maxExecTime));
+      return (ExecutorService) newThreadPerTaskExecutor.invoke(null, workerFactory);
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  private static void run(Runnable task, BlockedThreadChecker checker, long maxExecTime) {
+    Thread thread = Thread.currentThread();
+    VirtualWorker worker = new VirtualWorker(maxExecTime);
+    current.set(worker);
+    if (checker != null) {
+      checker.registerVirtualThread(thread, worker);
+    }
+    try {
+      task.run();
+    } finally {
+      if (checker != null) {
+        checker.unregisterVirtualThread(thread);
+      }
+      current.remove();
+    }
+  }
+
+  private final long maxExecTime;
+  private long execStart;
+  private ContextImpl context;
+
+  private VirtualWorker(long maxExecTime) {
+    this.maxExecTime = maxExecTime;
+  }
+
+  @Override
+  public ContextImpl getContext() {
+    return context;
+  }
+
+  @Override
+  public void setContext(ContextImpl context) {
+    this.context = context;
+  }
+
+  @Override
+  public void executeStart() {
+    execStart = System.nanoTime();
+  }
+
+  @Override
+  public void executeEnd() {
+    execStart = 0;
+  }
+
+  @Override
+  public long startTime() {
+    return execStart;
+  }
+
+  @Override
+  public long getMaxExecTime() {
+    return maxExecTime;
+  }
+
+  @Override
+  public boolean isWorker() {
+    return true;
+  }
+}
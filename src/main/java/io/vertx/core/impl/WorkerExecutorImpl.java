@@ -17,6 +17,7 @@
 package io.vertx.core.impl;
 
 import io.vertx.core.AsyncResult;
+import io.vertx.core.BlockingTask;
 import io.vertx.core.Closeable;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -69,6 +70,15 @@ class WorkerExecutorImpl implements Closeable, MetricsProvider, WorkerExecutorIn
     context.executeBlocking(null, blockingCodeHandler, asyncResultHandler, pool.executor(), ordered ? context.orderedTasks : null, pool.metrics());
   }
 
+  @Override
+  public synchronized <T> BlockingTask submitBlocking(Handler<Future<T>> blockingCodeHandler, boolean ordered, long timeout, Handler<AsyncResult<T>> asyncResultHandler) {
+    if (closed) {
+      throw new IllegalStateException("Worker executor closed");
+    }
+    ContextImpl context = (ContextImpl) vertx.getOrCreateContext();
+    return context.executeBlocking(null, blockingCodeHandler, asyncResultHandler, pool.executor(), ordered ? context.orderedTasks : null, pool.metrics(), timeout);
+  }
+
   @Override
   public void close() {
     synchronized (this) {
@@ -585,6 +585,27 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable {
     return new JsonArray(copiedList);
   }
 
+  /**
+   * Make a read-only copy of the JSON array.
+   * <p>
+   * The copy is a deep copy taken once, it rejects any modification with an {@link UnsupportedOperationException}
+   * and the objects and arrays it contains are read-only copies as well. Read-only arrays are not copied again
+   * when sent on the event bus, so they can be handed to several handlers as is. The copy of a read-only array is
+   * not read-only.
+   *
+   * @return the read-only copy, or this array when it is already read-only
+   */
+  public JsonArray readOnlyCopy() {
+    return isReadOnly() ? this : new JsonArray(new ReadOnlyList(list));
+  }
+
+  /**
+   * @return true if this array is a read-only copy
+   */
+  public boolean isReadOnly() {
+    return list instanceof ReadOnlyList;
+  }
+
   /**
    * Get a Stream over the entries in the JSON array
    *
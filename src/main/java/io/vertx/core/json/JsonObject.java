@@ -792,7 +792,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public JsonObject copy() {
     Map<String, Object> copiedMap;
-    if (map instanceof LinkedHashMap) {
+    if (map instanceof LinkedHashMap || map instanceof ReadOnlyMap) {
       copiedMap = new LinkedHashMap<>(map.size());
     } else {
       copiedMap = new HashMap<>(map.size());
@@ -805,6 +805,27 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
     return new JsonObject(copiedMap);
   }
 
+  /**
+   * Make a read-only copy of the JSON object.
+   * <p>
+   * The copy is a deep copy taken once, it rejects any modification with an {@link UnsupportedOperationException}
+   * and the objects and arrays it contains are read-only copies as well. Read-only objects are not copied again
+   * when sent on the event bus, so they can be handed to several handlers as is. The copy of a read-only object is
+   * not read-only.
+   *
+   * @return the read-only copy, or this object when it is already read-only
+   */
+  public JsonObject readOnlyCopy() {
+    return isReadOnly() ? this : new JsonObject(new ReadOnlyMap(map));
+  }
+
+  /**
+   * @return true if this object is a read-only copy
+   */
+  public boolean isReadOnly() {
+    return map instanceof ReadOnlyMap;
+  }
+
   /**
    * Get the underlying {@code Map} as is.
    *
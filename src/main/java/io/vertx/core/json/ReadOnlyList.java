@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.json;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The list of a read-only {@link JsonArray}. It holds a frozen copy of the elements of the array, taken once when
+ * the read-only array is created, and rejects any modification with an {@link UnsupportedOperationException}.
+ * The nested objects and arrays are frozen as well, so they are returned as is.
+ */
+class ReadOnlyList extends AbstractList<Object> {
+
+  final List<Object> list;
+
+  ReadOnlyList(List<Object> source) {
+    List<Object> copy = new ArrayList<>(source.size());
+    for (Object val : source) {
+      copy.add(ReadOnlyMap.freeze(val));
+    }
+    this.list = copy;
+  }
+
+  @Override
+  public Object get(int index) {
+    return list.get(index);
+  }
+
+  @Override
+  public int size() {
+    return list.size();
+  }
+}
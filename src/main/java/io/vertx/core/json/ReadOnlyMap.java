@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.json;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The map of a read-only {@link JsonObject}. It holds a frozen copy of the entries of the object, taken once when
+ * the read-only object is created, and rejects any modification with an {@link UnsupportedOperationException}.
+ * The nested objects and arrays are frozen as well, so they are returned as is.
+ */
+class ReadOnlyMap extends AbstractMap<String, Object> {
+
+  final Map<String, Object> map;
+
+  ReadOnlyMap(Map<String, Object> source) {
+    Map<String, Object> copy = new LinkedHashMap<>(source.size());
+    for (Map.Entry<String, Object> entry : source.entrySet()) {
+      copy.put(entry.getKey(), freeze(entry.getValue()));
+    }
+    this.map = Collections.unmodifiableMap(copy);
+  }
+
+  /**
+   * @return a frozen copy of a JSON value
+   */
+  @SuppressWarnings("unchecked")
+  static Object freeze(Object val) {
+    if (val instanceof JsonObject) {
+      return ((JsonObject) val).readOnlyCopy();
+    } else if (val instanceof JsonArray) {
+      return ((JsonArray) val).readOnlyCopy();
+    } else if (val instanceof Map) {
+      return new JsonObject((Map<String, Object>) val).readOnlyCopy();
+    } else if (val instanceof List) {
+      return new JsonArray((List) val).readOnlyCopy();
+    }
+    return Json.checkAndCopy(val, false);
+  }
+
+  @Override
+  public Object get(Object key) {
+    return map.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return map.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return map.isEmpty();
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return map.entrySet();
+  }
+}
@@ -56,11 +56,17 @@ public class NetServerOptions extends TCPSSLOptions {
    */
   public static final boolean DEFAULT_SNI = false;
 
+  /**
+   * Default value of whether the server binds its own listening socket on its event loop = false
+   */
+  public static final boolean DEFAULT_LISTENER_PER_EVENT_LOOP = false;
+
   private int port;
   private String host;
   private int acceptBacklog;
   private ClientAuth clientAuth;
   private boolean sni;
+  private boolean listenerPerEventLoop;
 
   /**
    * Default constructor
@@ -82,6 +88,7 @@ public class NetServerOptions extends TCPSSLOptions {
     this.acceptBacklog = other.getAcceptBacklog();
     this.clientAuth = other.getClientAuth();
     this.sni = other.isSni();
+    this.listenerPerEventLoop = other.isListenerPerEventLoop();
   }
 
   /**
@@ -393,6 +400,29 @@ public class NetServerOptions extends TCPSSLOptions {
     return this;
   }
 
+  /**
+   * @return whether the server binds its own listening socket on its event loop
+   */
+  public boolean isListenerPerEventLoop() {
+    return listenerPerEventLoop;
+  }
+
+  /**
+   * Set whether the server binds its own listening socket on the event loop of its context with {@code SO_REUSEPORT}
+   * instead of sharing the listening socket of the first server bound to the same host and port.
+   * <p>
+   * The kernel balances the incoming connections between the listening sockets and a connection is handled by the
+   * event loop that accepted it, so the accepts are spread over the event loops of the servers. This requires the
+   * native epoll transport, the option is ignored by the other transports and by a server listening on a domain socket.
+   *
+   * @param listenerPerEventLoop true to bind a listening socket per event loop
+   * @return a reference to this, so the API can be used fluently
+   */
+  public NetServerOptions setListenerPerEventLoop(boolean listenerPerEventLoop) {
+    this.listenerPerEventLoop = listenerPerEventLoop;
+    return this;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -406,6 +436,7 @@ public class NetServerOptions extends TCPSSLOptions {
     if (port != that.port) return false;
     if (host != null ? !host.equals(that.host) : that.host != null) return false;
     if (sni != that.sni) return false;
+    if (listenerPerEventLoop != that.listenerPerEventLoop) return false;
 
     return true;
   }
@@ -418,6 +449,7 @@ public class NetServerOptions extends TCPSSLOptions {
     result = 31 * result + acceptBacklog;
     result = 31 * result + clientAuth.hashCode();
     result = 31 * result + (sni ? 1 : 0);
+    result = 31 * result + (listenerPerEventLoop ? 1 : 0);
     return result;
   }
 
@@ -427,5 +459,6 @@ public class NetServerOptions extends TCPSSLOptions {
     this.acceptBacklog = DEFAULT_ACCEPT_BACKLOG;
     this.clientAuth = DEFAULT_CLIENT_AUTH;
     this.sni = DEFAULT_SNI;
+    this.listenerPerEventLoop = DEFAULT_LISTENER_PER_EVENT_LOOP;
   }
 }
@@ -78,6 +78,7 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
   private Handler<NetSocket> registeredHandler;
   private volatile ServerID id;
   private NetServerImpl actualServer;
+  private boolean listenerPerEventLoop;
   private AsyncResolveConnectHelper bindFuture;
   private volatile int actualPort;
   private ContextImpl listenContext;
@@ -163,17 +164,24 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
 
     listenContext = vertx.getOrCreateContext();
     registeredHandler = handler;
+    // Each server binds its own socket with SO_REUSEPORT and is not shared, domain sockets are always shared
+    listenerPerEventLoop = options.isListenerPerEventLoop() && socketAddress.path() == null && vertx.transport().supportsReusePortBalancing();
 
     synchronized (vertx.sharedNetServers()) {
       this.actualPort = socketAddress.port(); // Will be updated on bind for a wildcard port
       String hostOrPath = socketAddress.host() != null ? socketAddress.host() : socketAddress.path();
       id = new ServerID(actualPort, hostOrPath);
-      NetServerImpl shared = vertx.sharedNetServers().get(id);
+      NetServerImpl shared = listenerPerEventLoop ? null : vertx.sharedNetServers().get(id);
       if (shared == null || actualPort == 0) { // Wildcard port will imply a new actual server each time
         serverChannelGroup = new DefaultChannelGroup("vertx-acceptor-channels", GlobalEventExecutor.INSTANCE);
 
         ServerBootstrap bootstrap = new ServerBootstrap();
-        bootstrap.group(availableWorkers);
+        if (listenerPerEventLoop) {
+          // The connections are accepted and handled by the event loop of the listen context
+          bootstrap.group(listenContext.nettyEventLoop());
+        } else {
+          bootstrap.group(availableWorkers);
+        }
         sslHelper.validate(vertx);
 
         bootstrap.childHandler(new ChannelInitializer<Channel>() {
@@ -217,7 +225,7 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
           }
         });
 
-        applyConnectionOptions(bootstrap);
+        applyConnectionOptions(socketAddress.path() != null, bootstrap);
 
         handlerManager.addHandler(new Handlers(handler, exceptionHandler), listenContext);
 
@@ -233,12 +241,14 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
               }
               NetServerImpl.this.id = new ServerID(NetServerImpl.this.actualPort, id.host);
               serverChannelGroup.add(ch);
-              vertx.sharedNetServers().put(id, NetServerImpl.this);
+              if (!listenerPerEventLoop) {
+                vertx.sharedNetServers().put(id, NetServerImpl.this);
+              }
               VertxMetrics metrics = vertx.metricsSPI();
               if (metrics != null) {
                 this.metrics = metrics.createMetrics(new SocketAddressImpl(id.port, id.host), options);
               }
-            } else {
+            } else if (!listenerPerEventLoop) {
               vertx.sharedNetServers().remove(id);
             }
           });
@@ -254,7 +264,7 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
           listening = false;
           return;
         }
-        if (actualPort != 0) {
+        if (actualPort != 0 && !listenerPerEventLoop) {
           vertx.sharedNetServers().put(id, this);
         }
         actualServer = this;
@@ -413,7 +423,7 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
   }
 
   private void actualClose(ContextImpl closeContext, Handler<AsyncResult<Void>> done) {
-    if (id != null) {
+    if (id != null && !listenerPerEventLoop) {
       vertx.sharedNetServers().remove(id);
     }
 
@@ -473,10 +483,11 @@ public class NetServerImpl implements Closeable, MetricsProvider, NetServer {
   /**
    * Apply the connection option to the server.
    *
+   * @param domainSocket whether the server listens on a domain socket
    * @param bootstrap the Netty server bootstrap
    */
-  protected void applyConnectionOptions(ServerBootstrap bootstrap) {
-    vertx.transport().configure(options, bootstrap);
+  protected void applyConnectionOptions(boolean domainSocket, ServerBootstrap bootstrap) {
+    vertx.transport().configure(options, domainSocket, bootstrap);
   }
 
   @Override
@@ -66,6 +66,11 @@ class EpollTransport extends Transport {
     return Epoll.unavailabilityCause();
   }
 
+  @Override
+  public boolean supportsReusePortBalancing() {
+    return true;
+  }
+
   @Override
   public EventLoopGroup eventLoopGroup(int nThreads, ThreadFactory threadFactory, int ioRatio) {
     EpollEventLoopGroup eventLoopGroup = new EpollEventLoopGroup(nThreads, threadFactory);
@@ -122,6 +122,14 @@ public class Transport {
     return null;
   }
 
+  /**
+   * @return whether the kernel balances the connections between server sockets bound to the same address with
+   *         {@code SO_REUSEPORT}
+   */
+  public boolean supportsReusePortBalancing() {
+    return false;
+  }
+
   /**
    * @return a new event loop group
    */
@@ -240,7 +248,7 @@ public class Transport {
     bootstrap.option(ChannelOption.SO_REUSEADDR, options.isReuseAddress());
   }
 
-  public void configure(NetServerOptions options, ServerBootstrap bootstrap) {
+  public void configure(NetServerOptions options, boolean domainSocket, ServerBootstrap bootstrap) {
     BiConsumer<ChannelOption<Object>, Object> setter = bootstrap::childOption;
     setOption("TCK_CORK", options.isTcpCork(), setter);
     setOption("TCK_QUICKACK", options.isTcpQuickAck(), setter);
@@ -266,5 +274,8 @@ public class Transport {
     if (options.getAcceptBacklog() != -1) {
       bootstrap.option(ChannelOption.SO_BACKLOG, options.getAcceptBacklog());
     }
+    if (options.isListenerPerEventLoop() && !domainSocket && supportsReusePortBalancing()) {
+      setOption("SO_REUSEPORT", true, bootstrap::option);
+    }
   }
 }
@@ -290,6 +290,12 @@
  * specifying `false` as the argument to `ordered`. In this case any executeBlocking may be executed in parallel
  * on the worker pool.
  *
+ * When the result of the blocking code is only useful for a limited time, e.g. to answer a request, you can call
+ * {@link io.vertx.core.Vertx#submitBlocking} instead. The blocking code is skipped when it has not started within
+ * the given timeout, and the returned {@link io.vertx.core.BlockingTask} cancels the blocking code, optionally
+ * interrupting it when it is already running. In both cases the result handler is failed. Under load this
+ * avoids spending worker threads on work nobody waits for anymore.
+ *
  * An alternative way to run blocking code is to use a <<worker_verticles, worker verticle>>
  *
  * A worker verticle is always executed with a thread from the worker pool.
@@ -325,6 +331,11 @@
  *
  * NOTE: the configuration is set when the worker pool is created
  *
+ * The size of a worker pool is fixed by default. With {@link io.vertx.core.VertxOptions#setWorkerPoolAdaptive(boolean)}
+ * the worker pools start with {@link io.vertx.core.VertxOptions#setWorkerPoolMinSize(int)} threads and add threads,
+ * up to their size, when the tasks wait longer than {@link io.vertx.core.VertxOptions#setWorkerPoolTargetWaitTime(long)}
+ * before they start. The threads are removed when they are idle.
+ *
  * == Async coordination
  *
  * Coordination of multiple asynchronous results can be achieved with Vert.x {@link io.vertx.core.Future futures}. It
@@ -387,6 +398,14 @@
  * {@link examples.CoreExamples#exampleFutureJoin2}
  * ----
  *
+ * When the results of the futures are needed, a {@link java.util.stream.Collector} can collect them in the order of
+ * the list instead of creating a composite future, this scales to a large number of futures:
+ *
+ * [source,java]
+ * ----
+ * {@link examples.CoreExamples#exampleFutureJoin3}
+ * ----
+ *
  * === Sequential composition
  *
  * While `all` and `any` are implementing concurrent composition, {@link io.vertx.core.Future#compose} can be used
@@ -488,6 +507,11 @@
  * Worker verticle instances are never executed concurrently by Vert.x by more than one thread, but can executed by
  * different threads at different times.
  *
+ * When the JVM supports virtual threads, {@link io.vertx.core.DeploymentOptions#setVirtualThreads} runs each task of
+ * a worker verticle, as well as the blocking code executed by a verticle, on a new virtual thread instead of a thread
+ * of the worker pool. Many tasks can then block concurrently without as many threads, the tasks of a verticle are still
+ * executed in order. When the JVM does not support virtual threads, the worker pool is used.
+ *
  * ==== Multi-threaded worker verticles
  *
  * A multi-threaded worker verticle is just like a normal worker verticle but it *can* be executed concurrently by
@@ -730,6 +754,10 @@
  * {@link examples.CoreExamples#runInContextWithData(io.vertx.core.Vertx)}
  * ----
  *
+ * Data accessed very often, e.g by a tracing library, can be stored in a {@link io.vertx.core.ContextLocal} instead.
+ * A context local is a key created once, its value is stored in a slot of the context and reading it is as cheap as
+ * reading an array. This API is only available in Java.
+ *
  * The context object also let you access verticle configuration using the {@link io.vertx.core.Context#config()}
  * method. Check the <<Passing configuration to a verticle>> section for more details about this configuration.
  *
@@ -789,6 +817,16 @@
  * If you're creating timers from inside verticles, those timers will be automatically closed
  * when the verticle is undeployed.
  *
+ * ==== Timer wheel
+ *
+ * Timers are scheduled by default with the scheduled tasks of the event loops. An application keeping a very large
+ * number of timers, typically timeouts that are mostly cancelled before they fire, can instead schedule them with
+ * a hashed timer wheel per event loop with {@link io.vertx.core.VertxOptions#setTimerWheelEnabled(boolean)}: arming and
+ * cancelling a timer then take a constant time. The timers fire with the precision of the wheel tick, configured with
+ * {@link io.vertx.core.VertxOptions#setTimerWheelTickDuration(long)}.
+ *
+ * The event bus reply timeouts are always scheduled with these wheels.
+ *
  * === Verticle worker pool
  *
  * Verticles use the Vert.x worker pool for executing blocking actions, i.e {@link io.vertx.core.Context#executeBlocking} or
@@ -1568,6 +1606,10 @@
  * {@link examples.CoreExamples#configureLinuxOptions}
  * ----
  *
+ * Servers listening on the same port can also bind a listening socket per event loop with SO_REUSEPORT instead of
+ * sharing a single socket: the kernel balances the incoming connections between the sockets and each connection is
+ * handled by the event loop that accepted it, see {@link io.vertx.core.net.NetServerOptions#setListenerPerEventLoop}.
+ *
  * === Native BSD Transport
  *
  * You need to add the following dependency in your classpath:
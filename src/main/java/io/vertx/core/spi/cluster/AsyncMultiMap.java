@@ -17,8 +17,15 @@
 package io.vertx.core.spi.cluster;
 
 import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 /**
@@ -44,6 +51,27 @@ public interface AsyncMultiMap<K, V> {
    */
   void add(K k, V v, Handler<AsyncResult<Void>> completionHandler);
 
+  /**
+   * Add a value to the values of several keys in the map.
+   * <p>
+   * The clustered event bus batches the registrations of its handlers with this method. The default implementation
+   * adds the value for each key with {@link #add}, so the batch still costs one cluster operation per key:
+   * implementations should override it to add all the entries in a single operation.
+   *
+   * @param keys The keys
+   * @param v The value
+   * @param completionHandler This will be called when all the entries have been added
+   */
+  default void addAll(Collection<K> keys, V v, Handler<AsyncResult<Void>> completionHandler) {
+    List<Future> futures = new ArrayList<>(keys.size());
+    for (K k : keys) {
+      Future<Void> future = Future.future();
+      add(k, v, future.completer());
+      futures.add(future);
+    }
+    CompositeFuture.all(futures).setHandler(ar -> completionHandler.handle(ar.mapEmpty()));
+  }
+
   /**
    * Get the values from the map for the key. If the key isn't in the map, an empty {@link ChoosableIterable} must
    * be returned.
@@ -62,6 +90,41 @@ public interface AsyncMultiMap<K, V> {
    */
   void remove(K k, V v, Handler<AsyncResult<Boolean>> completionHandler);
 
+  /**
+   * Remove a value from the values of several keys in the map.
+   * <p>
+   * The clustered event bus batches the unregistrations of its handlers with this method. The default
+   * implementation removes the value for each key with {@link #remove}, so the batch still costs one cluster
+   * operation per key: implementations should override it to remove all the entries in a single operation.
+   *
+   * @param keys The keys
+   * @param v The value
+   * @param completionHandler This will be called with the keys the value was found and removed for, when all the
+   *                          entries have been removed
+   */
+  default void removeAll(Collection<K> keys, V v, Handler<AsyncResult<Set<K>>> completionHandler) {
+    List<K> list = new ArrayList<>(keys);
+    List<Future> futures = new ArrayList<>(list.size());
+    for (K k : list) {
+      Future<Boolean> future = Future.future();
+      remove(k, v, future.completer());
+      futures.add(future);
+    }
+    CompositeFuture.all(futures).setHandler(ar -> {
+      if (ar.succeeded()) {
+        Set<K> removed = new HashSet<>();
+        for (int i = 0; i < list.size(); i++) {
+          if (ar.result().<Boolean>resultAt(i)) {
+            removed.add(list.get(i));
+          }
+        }
+        completionHandler.handle(Future.succeededFuture(removed));
+      } else {
+        completionHandler.handle(Future.failedFuture(ar.cause()));
+      }
+    });
+  }
+
   /**
    * Remove the specified value from all values found {@code equals} associated to all keys in the map.
    * @param v The value
@@ -17,6 +17,7 @@
 package io.vertx.core.spi.metrics;
 
 import io.vertx.core.eventbus.ReplyFailure;
+import io.vertx.core.net.SocketAddress;
 
 /**
  * The event bus metrics SPI which Vert.x will use to call when each event occurs.
@@ -144,4 +145,58 @@ public interface EventBusMetrics<H> extends Metrics {
    * @param failure the {@link io.vertx.core.eventbus.ReplyFailure}
    */
   void replyFailure(String address, ReplyFailure failure);
+
+  /**
+   * Called when the clustered event bus resolves the nodes of an address from its routing cache.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param address the address
+   */
+  default void routingCacheHit(String address) {
+  }
+
+  /**
+   * Called when the clustered event bus cannot resolve the nodes of an address from its routing cache and
+   * falls back to the cluster subscription map.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param address the address
+   */
+  default void routingCacheMiss(String address) {
+  }
+
+  /**
+   * Called when the clustered event bus resolves the nodes of an address from a routing cache entry that
+   * needs to be refreshed from the cluster subscription map.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param address the address
+   */
+  default void routingCacheStale(String address) {
+  }
+
+  /**
+   * Called when the number of messages queued for a cluster connection changes, after messages have been
+   * queued or written to the socket.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param remoteAddress the address of the cluster node
+   * @param size the number of queued messages
+   */
+  default void clusterQueueSize(SocketAddress remoteAddress, int size) {
+  }
+
+  /**
+   * Called when a message sent to a cluster node is discarded because the queue of the connection is full.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param address the address
+   */
+  default void messageDropped(String address) {
+  }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.spi.metrics;
+
+/**
+ * Statistics of a Vert.x event loop, provided to {@link VertxMetrics#eventLoopsCreated(java.util.List)}.
+ * <p>
+ * The event loop is busy when it runs the handlers of the Vert.x event loop contexts: the handlers of IO events, e.g
+ * a buffer received by a socket, and the tasks, e.g a {@link io.vertx.core.Context#runOnContext} action or a timer.
+ * The time spent in Netty itself, e.g decoding the HTTP protocol, is not accounted. The time values are cumulated since
+ * the creation of the event loop, the idle time between two samples is the elapsed time minus the busy time.
+ * <p>
+ * The values can be read from any thread.
+ */
+public interface EventLoopStatistics {
+
+  /**
+   * @return the name of the event loop thread
+   */
+  String name();
+
+  /**
+   * @return the time in ns spent running handlers, i.e {@code ioTime() + taskTime()}
+   */
+  long busyTime();
+
+  /**
+   * @return the time in ns spent running the handlers of IO events
+   */
+  long ioTime();
+
+  /**
+   * @return the time in ns spent running tasks
+   */
+  long taskTime();
+
+  /**
+   * @return the number of IO events handled
+   */
+  long ioCount();
+
+  /**
+   * @return the number of tasks run
+   */
+  long taskCount();
+
+  /**
+   * @return the number of tasks waiting in the queue of the event loop
+   */
+  int pendingTasks();
+
+  /**
+   * Returns a percentile of the time the tasks waited between their submission and their start. The value is an upper
+   * bound accurate within a factor of two.
+   *
+   * @param percentile the percentile between {@code 0} and {@code 100}, e.g {@code 99.9}
+   * @return the dispatch latency in ns
+   */
+  long dispatchLatencyPercentile(double percentile);
+
+  /**
+   * Returns a percentile of the time spent running a handler, either a task or an IO event. The value is an upper bound
+   * accurate within a factor of two.
+   *
+   * @param percentile the percentile between {@code 0} and {@code 100}, e.g {@code 99.9}
+   * @return the execution time in ns
+   */
+  long executionTimePercentile(double percentile);
+
+}
@@ -48,6 +48,15 @@ public interface PoolMetrics<T> extends Metrics {
    */
   void rejected(T t);
 
+  /**
+   * The submitted task has been skipped without using the resource, because it has been cancelled or its deadline
+   * has passed before it could start.
+   *
+   * @param t the timer measuring the task queuing returned by {@link #submitted()}
+   */
+  default void skipped(T t) {
+  }
+
   /**
    * The submitted tasks has completed its execution and release the resource.
    *
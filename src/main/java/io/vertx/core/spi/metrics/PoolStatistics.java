@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2011-2017 The original author or authors
+ *  ------------------------------------------------------
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *
+ *       The Eclipse Public License is available at
+ *       http://www.eclipse.org/legal/epl-v10.html
+ *
+ *       The Apache License v2.0 is available at
+ *       http://www.opensource.org/licenses/apache2.0.php
+ *
+ *  You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.spi.metrics;
+
+/**
+ * Statistics of a pool whose size changes over time, implemented by the {@code pool} passed to
+ * {@link VertxMetrics#createMetrics(Object, String, String, int)} for such pools, e.g the worker pools when
+ * {@link io.vertx.core.VertxOptions#setWorkerPoolAdaptive(boolean)} is set.
+ */
+public interface PoolStatistics {
+
+  /**
+   * @return the current size of the pool
+   */
+  int size();
+
+  /**
+   * @return the minimum size of the pool
+   */
+  int minSize();
+
+  /**
+   * @return the maximum size of the pool
+   */
+  int maxSize();
+
+  /**
+   * Returns a percentile of the time the tasks waited in the queue of the pool before they started since the pool was
+   * created. The value is an upper bound accurate within a factor of two.
+   *
+   * @param percentile the percentile between {@code 0} and {@code 100}, e.g {@code 99.9}
+   * @return the wait time in ns
+   */
+  long waitTimePercentile(double percentile);
+
+}
@@ -27,6 +27,8 @@ import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.metrics.Measured;
 import io.vertx.core.net.*;
 
+import java.util.List;
+
 /**
  * The main Vert.x metrics SPI which Vert.x will use internally. This interface serves two purposes, one
  * to be called by Vert.x itself for events like verticles deployed, timers created, etc. The other
@@ -164,10 +166,24 @@ public interface VertxMetrics extends Metrics, Measured {
     // Do nothing by default.
   }
 
+  /**
+   * Called when the Vert.x instance is created with the statistics of each event loop of the event loop pool.
+   * <p>
+   * The statistics are recorded only when this method returns {@code true}, the recording has a small cost on each
+   * task and IO event. By default, this method returns {@code false}.
+   *
+   * @param eventLoops the statistics of the event loops
+   * @return whether the statistics should be recorded
+   */
+  default boolean eventLoopsCreated(List<EventLoopStatistics> eventLoops) {
+    return false;
+  }
+
   /**
    * Provides the pool metrics SPI.
    *
-   * @param pool the pool of resource, it can be used by the metrics implementation to gather extra statistics
+   * @param pool the pool of resource, it can be used by the metrics implementation to gather extra statistics, a pool
+   *             whose size changes over time implements {@link PoolStatistics}
    * @param poolType the type of the pool e.g worker, datasource, etc..
    * @param poolName the name of the pool
    * @param maxPoolSize the pool max size, or -1 if the number cannot be determined
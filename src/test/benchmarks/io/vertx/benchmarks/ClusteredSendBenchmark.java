@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.eventbus.impl.clustered.BenchmarkClusterConnection;
+import io.vertx.core.net.NetServer;
+import io.vertx.test.fakecluster.FakeClusterManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of several threads sending messages to the same remote node.
+ */
+@State(Scope.Benchmark)
+public class ClusteredSendBenchmark extends BenchmarkBase {
+
+  private static final String ADDRESS = "benchmark-address";
+
+  Vertx vertx;
+  NetServer server;
+  BenchmarkClusterConnection connection;
+
+  @Setup
+  public void setup() throws Exception {
+    CompletableFuture<Vertx> vertxFuture = new CompletableFuture<>();
+    Vertx.clusteredVertx(new VertxOptions().setClusterManager(new FakeClusterManager()), ar -> {
+      if (ar.succeeded()) {
+        vertxFuture.complete(ar.result());
+      } else {
+        vertxFuture.completeExceptionally(ar.cause());
+      }
+    });
+    vertx = vertxFuture.get(20, TimeUnit.SECONDS);
+    // The remote node only drains the bytes it receives
+    CompletableFuture<NetServer> serverFuture = new CompletableFuture<>();
+    vertx.createNetServer().connectHandler(so -> so.handler(buff -> {})).listen(0, "localhost", ar -> {
+      if (ar.succeeded()) {
+        serverFuture.complete(ar.result());
+      } else {
+        serverFuture.completeExceptionally(ar.cause());
+      }
+    });
+    server = serverFuture.get(20, TimeUnit.SECONDS);
+    connection = BenchmarkClusterConnection.create(vertx, server.actualPort(), "localhost");
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    connection.close();
+    CompletableFuture<Void> closeFuture = new CompletableFuture<>();
+    vertx.close(ar -> closeFuture.complete(null));
+    closeFuture.get(20, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public void send() {
+    connection.send(ADDRESS, "the-body");
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void send8Threads() {
+    connection.send(ADDRESS, "the-body");
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.eventbus.EventBusOptions;
+import io.vertx.test.fakecluster.FakeClusterManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the request/reply throughput between two clustered nodes running in the same process, depending on
+ * the number of connections opened between the nodes.
+ */
+@State(Scope.Benchmark)
+public class ClusteredStripesBenchmark extends BenchmarkBase {
+
+  private static final int BATCH = 1000;
+  private static final String[] ADDRESSES = new String[64];
+
+  static {
+    for (int i = 0; i < ADDRESSES.length; i++) {
+      ADDRESSES[i] = "benchmark-address-" + i;
+    }
+  }
+
+  @Param({"1", "4"})
+  public int connections;
+
+  Vertx sender;
+  Vertx receiver;
+
+  @Setup
+  public void setup() throws Exception {
+    sender = clusteredVertx();
+    receiver = clusteredVertx();
+    CountDownLatch latch = new CountDownLatch(ADDRESSES.length);
+    for (String address : ADDRESSES) {
+      receiver.eventBus().<String>consumer(address, msg -> msg.reply(msg.body())).completionHandler(ar -> latch.countDown());
+    }
+    if (!latch.await(20, TimeUnit.SECONDS)) {
+      throw new IllegalStateException("Consumers not registered");
+    }
+  }
+
+  private Vertx clusteredVertx() throws Exception {
+    VertxOptions options = new VertxOptions()
+      .setClusterManager(new FakeClusterManager())
+      .setEventBusOptions(new EventBusOptions()
+        .setClustered(true)
+        .setClusterConnectionsPerPeer(connections)
+        .setClusterRoutingCache(true));
+    CompletableFuture<Vertx> future = new CompletableFuture<>();
+    Vertx.clusteredVertx(options, ar -> {
+      if (ar.succeeded()) {
+        future.complete(ar.result());
+      } else {
+        future.completeExceptionally(ar.cause());
+      }
+    });
+    return future.get(20, TimeUnit.SECONDS);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    CountDownLatch latch = new CountDownLatch(2);
+    sender.close(ar -> latch.countDown());
+    receiver.close(ar -> latch.countDown());
+    latch.await(20, TimeUnit.SECONDS);
+    FakeClusterManager.reset();
+  }
+
+  private void requests() throws Exception {
+    CountDownLatch latch = new CountDownLatch(BATCH);
+    for (int i = 0; i < BATCH; i++) {
+      sender.eventBus().send(ADDRESSES[i % ADDRESSES.length], "the-body", ar -> latch.countDown());
+    }
+    latch.await();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void requestReply() throws Exception {
+    requests();
+  }
+
+  @Benchmark
+  @Threads(8)
+  @OperationsPerInvocation(BATCH)
+  public void requestReply8Threads() throws Exception {
+    requests();
+  }
+}
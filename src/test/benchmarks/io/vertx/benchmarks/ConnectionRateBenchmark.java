@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.net.NetClient;
+import io.vertx.core.net.NetServerOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the rate of connections accepted by net server instances listening on the same port, with the
+ * connections dispatched by the shared server or accepted by a listener per event loop.
+ * <p>
+ * The listener per event loop mode needs the native epoll transport, otherwise both modes use the shared server.
+ */
+@State(Scope.Thread)
+public class ConnectionRateBenchmark extends BenchmarkBase {
+
+  private static final int PORT = 8080;
+  private static final int BATCH = 100;
+
+  @Param({"false", "true"})
+  public boolean listenerPerEventLoop;
+
+  @Param({"4"})
+  public int instances;
+
+  private Vertx vertx;
+  private Vertx clientVertx;
+  private NetClient client;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx(new VertxOptions().setPreferNativeTransport(true).setEventLoopPoolSize(instances));
+    clientVertx = Vertx.vertx(new VertxOptions().setPreferNativeTransport(true));
+    client = clientVertx.createNetClient();
+    CompletableFuture<String> deployed = new CompletableFuture<>();
+    vertx.deployVerticle(() -> new AbstractVerticle() {
+      @Override
+      public void start(Future<Void> startFuture) {
+        vertx.createNetServer(new NetServerOptions().setPort(PORT).setListenerPerEventLoop(listenerPerEventLoop))
+          .connectHandler(so -> so.close())
+          .listen(ar -> {
+            if (ar.succeeded()) {
+              startFuture.complete();
+            } else {
+              startFuture.fail(ar.cause());
+            }
+          });
+      }
+    }, new DeploymentOptions().setInstances(instances), ar -> {
+      if (ar.succeeded()) {
+        deployed.complete(ar.result());
+      } else {
+        deployed.completeExceptionally(ar.cause());
+      }
+    });
+    deployed.get(20, TimeUnit.SECONDS);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    CountDownLatch latch = new CountDownLatch(2);
+    clientVertx.close(ar -> latch.countDown());
+    vertx.close(ar -> latch.countDown());
+    latch.await(20, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void connect() throws Exception {
+    CountDownLatch latch = new CountDownLatch(BATCH);
+    for (int i = 0; i < BATCH; i++) {
+      client.connect(PORT, "localhost", ar -> {
+        if (ar.succeeded()) {
+          ar.result().closeHandler(v -> latch.countDown());
+        } else {
+          latch.countDown();
+        }
+      });
+    }
+    latch.await();
+  }
+}
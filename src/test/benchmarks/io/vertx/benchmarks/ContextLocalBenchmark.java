@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Context;
+import io.vertx.core.ContextLocal;
+import io.vertx.core.Vertx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the access to the data of a context with the {@link Context#get(String)} map and with a
+ * {@link ContextLocal}.
+ */
+@State(Scope.Thread)
+public class ContextLocalBenchmark extends BenchmarkBase {
+
+  private static final ContextLocal<Object> LOCAL = new ContextLocal<>();
+
+  private Vertx vertx;
+  private Context context;
+  private Object value;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx();
+    context = vertx.getOrCreateContext();
+    value = new Object();
+    context.put("key", value);
+    context.putLocal(LOCAL, value);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    vertx.close(ar -> latch.countDown());
+    latch.await(20, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public Object mapGet() {
+    return context.get("key");
+  }
+
+  @Benchmark
+  public Object localGet() {
+    return context.getLocal(LOCAL);
+  }
+
+  @Benchmark
+  public void mapPut() {
+    context.put("key", value);
+  }
+
+  @Benchmark
+  public void localPut() {
+    context.putLocal(LOCAL, value);
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.benchmarks;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of ordered and unordered {@link Context#executeBlocking} calls submitted to a single
+ * context, with a single submitter and with several submitters contending on the ordered task queue of the context.
+ */
+public class ExecuteBlockingBenchmark extends BenchmarkBase {
+
+  private static final int BATCH = 1000;
+
+  @State(Scope.Benchmark)
+  public static class ContextState {
+
+    Vertx vertx;
+    Context context;
+
+    @Setup
+    public void setup() {
+      vertx = Vertx.vertx();
+      context = vertx.getOrCreateContext();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+      CountDownLatch latch = new CountDownLatch(1);
+      vertx.close(ar -> latch.countDown());
+      latch.await(20, TimeUnit.SECONDS);
+    }
+  }
+
+  private static void executeBlocking(ContextState state, boolean ordered) throws Exception {
+    CountDownLatch latch = new CountDownLatch(BATCH);
+    for (int i = 0; i < BATCH; i++) {
+      state.context.executeBlocking(fut -> {
+        fut.complete();
+        latch.countDown();
+      }, ordered, null);
+    }
+    latch.await();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void ordered(ContextState state) throws Exception {
+    executeBlocking(state, true);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void unordered(ContextState state) throws Exception {
+    executeBlocking(state, false);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  @Threads(8)
+  public void orderedContended(ContextState state) throws Exception {
+    executeBlocking(state, true);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  @Threads(8)
+  public void unorderedContended(ContextState state) throws Exception {
+    executeBlocking(state, false);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Future;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.function.Function;
+
+/**
+ * Measures chains of {@code map} / {@code compose} stages applied on a future that is already completed or that
+ * is completed once the chain is built.
+ * <p>
+ * Run with {@code -prof gc}, the {@code gc.alloc.rate.norm} value is the memory allocated per chain.
+ */
+@State(Scope.Thread)
+public class FutureBenchmark extends BenchmarkBase {
+
+  private static final Function<Integer, Integer> MAPPER = i -> i + 1;
+  private static final Function<Integer, Future<Integer>> COMPOSER = Future::succeededFuture;
+
+  @Param({"1", "10", "100"})
+  public int stages;
+
+  @Benchmark
+  public Integer mapCompleted() {
+    Future<Integer> fut = Future.succeededFuture(0);
+    for (int i = 0; i < stages; i++) {
+      fut = fut.map(MAPPER);
+    }
+    return fut.result();
+  }
+
+  @Benchmark
+  public Integer mapPending() {
+    Future<Integer> first = Future.future();
+    Future<Integer> fut = first;
+    for (int i = 0; i < stages; i++) {
+      fut = fut.map(MAPPER);
+    }
+    first.complete(0);
+    return fut.result();
+  }
+
+  @Benchmark
+  public Integer composeCompleted() {
+    Future<Integer> fut = Future.succeededFuture(0);
+    for (int i = 0; i < stages; i++) {
+      fut = fut.compose(COMPOSER);
+    }
+    return fut.result();
+  }
+
+  @Benchmark
+  public Integer composePending() {
+    Future<Integer> first = Future.future();
+    Future<Integer> fut = first;
+    for (int i = 0; i < stages; i++) {
+      fut = fut.compose(COMPOSER);
+    }
+    first.complete(0);
+    return fut.result();
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Compares joining a list of futures with a {@link CompositeFuture} and collecting their results with
+ * {@link CompositeFuture#join(List, java.util.stream.Collector)}, the futures are completed after the join.
+ */
+@State(Scope.Thread)
+public class JoinBenchmark extends BenchmarkBase {
+
+  @Param({"10000"})
+  public int size;
+
+  @Benchmark
+  public List<Integer> composite() {
+    List<Future> futures = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      futures.add(Future.future());
+    }
+    CompositeFuture composite = CompositeFuture.join(futures);
+    for (int i = 0; i < size; i++) {
+      futures.get(i).complete(i);
+    }
+    return composite.list();
+  }
+
+  @Benchmark
+  public List<Integer> collector() {
+    List<Future<Integer>> futures = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      futures.add(Future.future());
+    }
+    Future<List<Integer>> join = CompositeFuture.join(futures, Collectors.toList());
+    for (int i = 0; i < size; i++) {
+      futures.get(i).complete(i);
+    }
+    return join.result();
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.MessageProducer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the messages sent or published to a local address with the event bus and with a producer bound to the
+ * address.
+ */
+@State(Scope.Benchmark)
+public class ProducerBenchmark extends BenchmarkBase {
+
+  private static final int BATCH = 1000;
+  private static final String ADDRESS = "benchmark-address";
+
+  Vertx vertx;
+  EventBus eventBus;
+  MessageProducer<String> sender;
+  MessageProducer<String> publisher;
+  volatile CountDownLatch latch;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    eventBus = vertx.eventBus();
+    sender = eventBus.<String>sender(ADDRESS).setWriteQueueMaxSize(BATCH);
+    publisher = eventBus.publisher(ADDRESS);
+    CountDownLatch registered = new CountDownLatch(1);
+    eventBus.<String>consumer(ADDRESS, msg -> latch.countDown()).completionHandler(ar -> registered.countDown());
+    registered.await(20, TimeUnit.SECONDS);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    sender.close();
+    publisher.close();
+    CountDownLatch closed = new CountDownLatch(1);
+    vertx.close(ar -> closed.countDown());
+    closed.await(20, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void eventBusSend() throws Exception {
+    CountDownLatch batch = latch = new CountDownLatch(BATCH);
+    for (int i = 0; i < BATCH; i++) {
+      eventBus.send(ADDRESS, "the-body");
+    }
+    batch.await();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void producerSend() throws Exception {
+    CountDownLatch batch = latch = new CountDownLatch(BATCH);
+    for (int i = 0; i < BATCH; i++) {
+      sender.write("the-body");
+    }
+    batch.await();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void eventBusPublish() throws Exception {
+    CountDownLatch batch = latch = new CountDownLatch(BATCH);
+    for (int i = 0; i < BATCH; i++) {
+      eventBus.publish(ADDRESS, "the-body");
+    }
+    batch.await();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void producerPublish() throws Exception {
+    CountDownLatch batch = latch = new CountDownLatch(BATCH);
+    for (int i = 0; i < BATCH; i++) {
+      publisher.write("the-body");
+    }
+    batch.await();
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the request/reply round-trips of the local event bus, each request registers a reply handler and
+ * schedules its timeout.
+ */
+@State(Scope.Benchmark)
+public class RequestReplyBenchmark extends BenchmarkBase {
+
+  private static final int BATCH = 1000;
+  private static final String ADDRESS = "benchmark-address";
+
+  Vertx vertx;
+  EventBus eventBus;
+  DeliveryOptions options;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    eventBus = vertx.eventBus();
+    options = new DeliveryOptions().setSendTimeout(30000);
+    CountDownLatch latch = new CountDownLatch(1);
+    eventBus.<String>consumer(ADDRESS, msg -> msg.reply(msg.body())).completionHandler(ar -> latch.countDown());
+    latch.await(20, TimeUnit.SECONDS);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    vertx.close(ar -> latch.countDown());
+    latch.await(20, TimeUnit.SECONDS);
+  }
+
+  private void requests() throws Exception {
+    CountDownLatch latch = new CountDownLatch(BATCH);
+    for (int i = 0; i < BATCH; i++) {
+      eventBus.send(ADDRESS, "the-body", options, ar -> latch.countDown());
+    }
+    latch.await();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void requestReply() throws Exception {
+    requests();
+  }
+
+  @Benchmark
+  @Threads(8)
+  @OperationsPerInvocation(BATCH)
+  public void requestReply8Threads() throws Exception {
+    requests();
+  }
+}
@@ -15,15 +15,22 @@
  */
 package io.vertx.benchmarks;
 
+import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
 import io.vertx.core.impl.BenchmarkContext;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.CompilerControl;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -60,4 +67,60 @@ public class RunOnContextBenchmark extends BenchmarkBase {
   public void noChecks(BaselineState state) {
     state.context.runDirect(state.task);
   }
+
+  private static final int BATCH = 1000;
+
+  @State(Scope.Thread)
+  public static class SameThreadState {
+
+    Vertx vertx;
+    Context context;
+    int count;
+    CountDownLatch latch;
+    Handler<Void> task;
+    Handler<Void> submitter;
+
+    @Setup
+    public void setup() {
+      vertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(1));
+      context = vertx.getOrCreateContext();
+      task = v -> {
+        if (++count == BATCH) {
+          latch.countDown();
+        }
+      };
+      submitter = v -> {
+        for (int i = 0; i < BATCH; i++) {
+          context.runOnContext(task);
+        }
+      };
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+      CountDownLatch closeLatch = new CountDownLatch(1);
+      vertx.close(ar -> closeLatch.countDown());
+      closeLatch.await(20, TimeUnit.SECONDS);
+    }
+
+    void run() throws Exception {
+      count = 0;
+      latch = new CountDownLatch(1);
+      context.runOnContext(submitter);
+      latch.await();
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void sameThread(SameThreadState state) throws Exception {
+    state.run();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  @Fork(jvmArgsAppend = { "-Dvertx.disableNextTick=true" })
+  public void sameThreadNoNextTick(SameThreadState state) throws Exception {
+    state.run();
+  }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of arming and cancelling timers from an event loop context, with the timers scheduled
+ * by the event loop or by the timer wheel, while the event loop holds a number of other live timers.
+ * <p>
+ * Run with {@code -prof gc}, the {@code gc.alloc.rate.norm} value is the memory allocated per timer.
+ */
+@State(Scope.Thread)
+public class TimerBenchmark extends BenchmarkBase {
+
+  private static final int BATCH = 1000;
+  private static final long DELAY = TimeUnit.HOURS.toMillis(1);
+
+  @Param({"false", "true"})
+  public boolean timerWheel;
+
+  @Param({"0", "100000"})
+  public int liveTimers;
+
+  private Vertx vertx;
+  private Context context;
+  private Handler<Long> handler;
+  private long[] ids;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(1).setTimerWheelEnabled(timerWheel));
+    context = vertx.getOrCreateContext();
+    handler = id -> {};
+    ids = new long[BATCH];
+    CountDownLatch latch = new CountDownLatch(1);
+    context.runOnContext(v -> {
+      for (int i = 0; i < liveTimers; i++) {
+        vertx.setTimer(DELAY + i, handler);
+      }
+      latch.countDown();
+    });
+    latch.await();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    vertx.close(ar -> latch.countDown());
+    latch.await(20, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void armAndCancel() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    context.runOnContext(v -> {
+      for (int i = 0; i < BATCH; i++) {
+        vertx.cancelTimer(vertx.setTimer(DELAY, handler));
+      }
+      latch.countDown();
+    });
+    latch.await();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void armAllThenCancelAll() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    context.runOnContext(v -> {
+      for (int i = 0; i < BATCH; i++) {
+        ids[i] = vertx.setTimer(DELAY + i, handler);
+      }
+      for (int i = 0; i < BATCH; i++) {
+        vertx.cancelTimer(ids[i]);
+      }
+      latch.countDown();
+    });
+    latch.await();
+  }
+}
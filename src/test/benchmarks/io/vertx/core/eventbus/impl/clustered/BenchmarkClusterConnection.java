@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.net.impl.ServerID;
+
+/**
+ * Exposes the outbound connection of a clustered event bus to a single peer.
+ */
+public class BenchmarkClusterConnection {
+
+  public static BenchmarkClusterConnection create(Vertx vertx, int port, String host) {
+    return new BenchmarkClusterConnection((ClusteredEventBus) vertx.eventBus(), new ServerID(port, host));
+  }
+
+  private final ClusteredEventBus eventBus;
+  private final ConnectionHolder holder;
+
+  public BenchmarkClusterConnection(ClusteredEventBus eventBus, ServerID serverID) {
+    this.eventBus = eventBus;
+    this.holder = new ConnectionHolder(eventBus, new ConnectionHolder.Key(serverID, 0), eventBus.options());
+    holder.connect();
+  }
+
+  public void send(String address, Object body) {
+    holder.writeMessage((ClusteredMessage) eventBus.createMessage(true, address, null, body, null), false);
+  }
+
+  public void close() {
+    holder.close();
+  }
+}
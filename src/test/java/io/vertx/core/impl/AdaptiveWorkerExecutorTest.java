@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.impl;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class AdaptiveWorkerExecutorTest {
+
+  private ScheduledThreadPoolExecutor scheduler;
+  private AdaptiveWorkerExecutor executor;
+
+  @Before
+  public void setUp() {
+    scheduler = new ScheduledThreadPoolExecutor(1);
+    scheduler.setRemoveOnCancelPolicy(true);
+    executor = new AdaptiveWorkerExecutor(1, 1, TimeUnit.SECONDS.toNanos(10), TimeUnit.SECONDS.toNanos(60),
+      Executors.defaultThreadFactory(), scheduler);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  public void testIdlePoolSchedulesNoCheck() throws Exception {
+    assertTrue(scheduler.getQueue().isEmpty());
+    CountDownLatch latch = new CountDownLatch(1);
+    executor.execute(latch::countDown);
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertTrue(scheduler.getQueue().isEmpty());
+  }
+
+  @Test
+  public void testRemoveAndShutdownNowUnwrapTasks() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch blocked = new CountDownLatch(1);
+    executor.execute(() -> {
+      started.countDown();
+      try {
+        blocked.await();
+      } catch (InterruptedException ignore) {
+      }
+    });
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    Runnable removed = () -> {};
+    Runnable queued = () -> {};
+    executor.execute(removed);
+    executor.execute(queued);
+    // The busy pool checks the wait time of the queued tasks
+    assertEquals(1, scheduler.getQueue().size());
+    assertTrue(executor.remove(removed));
+    assertFalse(executor.remove(removed));
+    List<Runnable> pending = executor.shutdownNow();
+    assertEquals(Collections.singletonList(queued), pending);
+  }
+}
@@ -985,6 +985,36 @@ public class BufferTest {
     //TODO toString with encoding
   }
 
+  @Test
+  public void testReadOnlyCopy() throws Exception {
+    Buffer buff = TestUtils.randomBuffer(100);
+    buff.setInt(0, 1);
+    Buffer view = buff.readOnlyCopy();
+    assertTrue(view.isReadOnly());
+    assertFalse(buff.isReadOnly());
+    assertSame(view, view.readOnlyCopy());
+    assertEquals(buff, view);
+    buff.setInt(0, 3);
+    assertEquals(1, view.getInt(0));
+    assertFalse(view.slice().isReadOnly());
+    try {
+      view.setInt(0, 2);
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // Ok
+    }
+    try {
+      view.appendBuffer(TestUtils.randomBuffer(100));
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // Ok
+    }
+    Buffer copy = view.copy();
+    assertFalse(copy.isReadOnly());
+    copy.setInt(0, 2);
+    assertEquals(1, view.getInt(0));
+  }
+
   @Test
   public void testCopy() throws Exception {
     Buffer buff = TestUtils.randomBuffer(100);
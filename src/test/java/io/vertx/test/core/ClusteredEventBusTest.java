@@ -20,13 +20,17 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.*;
 import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.spi.cluster.ClusterManager;
 import io.vertx.test.fakecluster.FakeClusterManager;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.CountDownLatch;
@@ -153,6 +157,386 @@ public class ClusteredEventBusTest extends ClusteredEventBusTestBase {
     await();
   }
 
+  @Test
+  public void testPublishEncodesBodyOnce() throws Exception {
+    int numNodes = 4;
+    startNodes(numNodes);
+    AtomicInteger encoded = new AtomicInteger();
+    MessageCodec<MyPOJO, String> codec = new MyPOJOEncoder1() {
+      @Override
+      public void encodeToWire(Buffer buffer, MyPOJO myPOJO) {
+        encoded.incrementAndGet();
+        super.encodeToWire(buffer, myPOJO);
+      }
+    };
+    for (Vertx vertx : vertices) {
+      vertx.eventBus().registerCodec(codec);
+    }
+    String str = TestUtils.randomAlphaString(100);
+    CountDownLatch regLatch = new CountDownLatch(numNodes - 1);
+    AtomicInteger received = new AtomicInteger();
+    for (int i = 1; i < numNodes; i++) {
+      vertices[i].eventBus().<String>consumer(ADDRESS1, msg -> {
+        assertEquals(str, msg.body());
+        if (received.incrementAndGet() == numNodes - 1) {
+          assertEquals(1, encoded.get());
+          testComplete();
+        }
+      }).completionHandler(onSuccess(v -> regLatch.countDown()));
+    }
+    awaitLatch(regLatch);
+    vertices[0].eventBus().publish(ADDRESS1, new MyPOJO(str), new DeliveryOptions().setCodecName(codec.name()));
+    await();
+  }
+
+  @Test
+  public void testBodyEncodedBySender() throws Exception {
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setClusterRoutingCache(true);
+    startNodes(2, options);
+    vertices[1].eventBus().<Buffer>consumer(ADDRESS1, msg -> {
+      if (msg.replyAddress() != null) {
+        msg.reply("ok");
+      } else {
+        // The connection writes the message after the send returned
+        assertEquals("original", msg.body().toString());
+        testComplete();
+      }
+    }).completionHandler(onSuccess(v -> {
+      // Resolve the route so the next send queues the message to the connection before it returns
+      vertices[0].eventBus().send(ADDRESS1, Buffer.buffer("warm-up"), onSuccess(reply -> {
+        Buffer buffer = Buffer.buffer("original");
+        vertices[0].eventBus().send(ADDRESS1, buffer);
+        buffer.setString(0, "modified");
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testInternedStringsOnWire() throws Exception {
+    startNodes(2);
+    int num = 10;
+    AtomicInteger count = new AtomicInteger();
+    vertices[1].eventBus().<String>consumer(ADDRESS1, msg -> {
+      int i = count.getAndIncrement();
+      assertEquals("body" + i, msg.body());
+      assertEquals(2, msg.headers().size());
+      assertEquals("bar", msg.headers().get("foo"));
+      assertEquals("value" + i, msg.headers().get("index"));
+      msg.reply("reply" + i);
+    }).completionHandler(onSuccess(v -> {
+      AtomicInteger replies = new AtomicInteger();
+      for (int i = 0; i < num; i++) {
+        // The address, the sender and the header names are written once then referenced by the next frames
+        DeliveryOptions options = new DeliveryOptions().addHeader("foo", "bar").addHeader("index", "value" + i);
+        int expected = i;
+        vertices[0].eventBus().<String>send(ADDRESS1, "body" + i, options, onSuccess(reply -> {
+          assertEquals("reply" + expected, reply.body());
+          assertTrue(reply.headers().isEmpty());
+          if (replies.incrementAndGet() == num) {
+            testComplete();
+          }
+        }));
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testForwardWithoutDecoding() throws Exception {
+    startNodes(3);
+    AtomicInteger decoded = new AtomicInteger();
+    AtomicInteger encoded = new AtomicInteger();
+    MessageCodec<MyPOJO, String> gatewayCodec = new MyPOJOEncoder1() {
+      @Override
+      public void encodeToWire(Buffer buffer, MyPOJO myPOJO) {
+        encoded.incrementAndGet();
+        super.encodeToWire(buffer, myPOJO);
+      }
+      @Override
+      public String decodeFromWire(int pos, Buffer buffer) {
+        decoded.incrementAndGet();
+        return super.decodeFromWire(pos, buffer);
+      }
+    };
+    vertices[0].eventBus().registerCodec(new MyPOJOEncoder1());
+    vertices[1].eventBus().registerCodec(gatewayCodec);
+    vertices[2].eventBus().registerCodec(new MyPOJOEncoder1());
+    String str = TestUtils.randomAlphaString(100);
+    CountDownLatch regLatch = new CountDownLatch(2);
+    vertices[1].eventBus().consumer(ADDRESS1, msg -> {
+      vertices[1].eventBus().send(ADDRESS2, msg);
+    }).completionHandler(onSuccess(v -> regLatch.countDown()));
+    vertices[2].eventBus().<String>consumer(ADDRESS2, msg -> {
+      assertEquals(str, msg.body());
+      assertEquals("bar", msg.headers().get("foo"));
+      assertEquals(0, decoded.get());
+      assertEquals(0, encoded.get());
+      testComplete();
+    }).completionHandler(onSuccess(v -> regLatch.countDown()));
+    awaitLatch(regLatch);
+    vertices[0].eventBus().send(ADDRESS1, new MyPOJO(str), new DeliveryOptions().setCodecName(gatewayCodec.name()).addHeader("foo", "bar"));
+    await();
+  }
+
+  @Test
+  public void testDeflateCompressedBody() throws Exception {
+    testCompressedBody(ClusterCompression.DEFLATE);
+  }
+
+  @Test
+  public void testGzipCompressedBody() throws Exception {
+    testCompressedBody(ClusterCompression.GZIP);
+  }
+
+  private void testCompressedBody(ClusterCompression compression) throws Exception {
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setClusterCompression(compression).setClusterCompressionThreshold(256);
+    startNodes(2, options);
+    JsonArray large = new JsonArray();
+    for (int i = 0; i < 1000; i++) {
+      large.add(new JsonObject().put("index", i).put("value", "the-value"));
+    }
+    String small = "small";
+    AtomicInteger count = new AtomicInteger();
+    int num = 10;
+    vertices[1].eventBus().consumer(ADDRESS1, msg -> {
+      if (count.incrementAndGet() <= num) {
+        assertEquals(large, msg.body());
+      } else {
+        assertEquals(small, msg.body());
+        testComplete();
+      }
+    }).completionHandler(onSuccess(v -> {
+      // Sent from a context of the sending node so the messages are routed in order
+      vertices[0].runOnContext(v2 -> {
+        // The first messages can be sent before the connection has negotiated the wire protocol version 2
+        for (int i = 0; i < num; i++) {
+          vertices[0].eventBus().send(ADDRESS1, large);
+        }
+        vertices[0].eventBus().send(ADDRESS1, small);
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testSendFailsWhenQueueFull() throws Exception {
+    testSendFailsWhenQueueFull(ClusterOverflowPolicy.FAIL);
+  }
+
+  @Test
+  public void testSendFailsWhenQueueFullWithBlockPolicy() throws Exception {
+    // Only the producers are blocked, the other senders are failed
+    testSendFailsWhenQueueFull(ClusterOverflowPolicy.BLOCK);
+  }
+
+  private void testSendFailsWhenQueueFull(ClusterOverflowPolicy policy) throws Exception {
+    VertxOptions options = getOptions();
+    options.getEventBusOptions()
+      .setClusterRoutingCache(true)
+      .setClusterMaxQueueSize(4)
+      .setClusterOverflowPolicy(policy);
+    startNodes(2, options);
+    Buffer large = TestUtils.randomBuffer(1024 * 1024);
+    int num = 100;
+    AtomicInteger replies = new AtomicInteger();
+    AtomicInteger failures = new AtomicInteger();
+    vertices[1].eventBus().<Buffer>consumer(ADDRESS1, msg -> msg.reply("ok")).completionHandler(onSuccess(v -> {
+      // Resolve the route and open the connection first so the messages are queued without waiting
+      vertices[0].eventBus().send(ADDRESS1, Buffer.buffer("warm-up"), onSuccess(warmUp -> {
+        for (int i = 0; i < num; i++) {
+          vertices[0].eventBus().send(ADDRESS1, large, ar -> {
+            if (ar.succeeded()) {
+              replies.incrementAndGet();
+            } else {
+              assertEquals(ReplyFailure.QUEUE_FULL, ((ReplyException) ar.cause()).failureType());
+              failures.incrementAndGet();
+            }
+            if (replies.get() + failures.get() == num) {
+              assertTrue(failures.get() > 0);
+              assertTrue(replies.get() > 0);
+              testComplete();
+            }
+          });
+        }
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testProducerBlockedWhenQueueFull() throws Exception {
+    VertxOptions options = getOptions();
+    options.getEventBusOptions()
+      .setClusterRoutingCache(true)
+      .setClusterMaxQueueSize(4)
+      .setClusterOverflowPolicy(ClusterOverflowPolicy.BLOCK);
+    startNodes(2, options);
+    Buffer large = TestUtils.randomBuffer(1024 * 1024);
+    int num = 50;
+    AtomicInteger received = new AtomicInteger();
+    AtomicBoolean blocked = new AtomicBoolean();
+    vertices[1].eventBus().<Buffer>consumer(ADDRESS1, msg -> {
+      if (msg.body().length() < large.length()) {
+        msg.reply("ok");
+      } else if (received.incrementAndGet() == num) {
+        assertTrue(blocked.get());
+        testComplete();
+      }
+    }).completionHandler(onSuccess(v -> {
+      vertices[0].runOnContext(v2 -> {
+        MessageProducer<Buffer> producer = vertices[0].eventBus().publisher(ADDRESS1);
+        // Resolve the route and open the connection first so the messages are queued without waiting
+        vertices[0].eventBus().send(ADDRESS1, Buffer.buffer("warm-up"), onSuccess(warmUp -> {
+          new Handler<Void>() {
+            int sent;
+            @Override
+            public void handle(Void v) {
+              while (sent < num) {
+                if (producer.writeQueueFull()) {
+                  blocked.set(true);
+                  producer.drainHandler(this);
+                  return;
+                }
+                producer.write(large);
+                sent++;
+              }
+            }
+          }.handle(null);
+        }));
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testBatchedRegistrations() throws Exception {
+    startNodes(2);
+    int num = 500;
+    List<MessageConsumer<String>> consumers = new ArrayList<>();
+    CountDownLatch regLatch = new CountDownLatch(num);
+    vertices[1].runOnContext(v -> {
+      // Registered in a burst, they are added to the cluster map in batches
+      for (int i = 0; i < num; i++) {
+        MessageConsumer<String> consumer = vertices[1].eventBus().consumer(ADDRESS1 + i, msg -> msg.reply(msg.body()));
+        consumer.completionHandler(onSuccess(v2 -> regLatch.countDown()));
+        consumers.add(consumer);
+      }
+    });
+    awaitLatch(regLatch);
+    CountDownLatch replyLatch = new CountDownLatch(num);
+    for (int i = 0; i < num; i++) {
+      vertices[0].eventBus().send(ADDRESS1 + i, "foo", onSuccess(reply -> replyLatch.countDown()));
+    }
+    awaitLatch(replyLatch);
+    CountDownLatch unregLatch = new CountDownLatch(num);
+    vertices[1].runOnContext(v -> {
+      for (MessageConsumer<String> consumer : consumers) {
+        consumer.unregister(onSuccess(v2 -> unregLatch.countDown()));
+      }
+    });
+    awaitLatch(unregLatch);
+    AtomicInteger failures = new AtomicInteger();
+    for (int i = 0; i < num; i++) {
+      vertices[0].eventBus().send(ADDRESS1 + i, "foo", onFailure(err -> {
+        assertEquals(ReplyFailure.NO_HANDLERS, ((ReplyException) err).failureType());
+        if (failures.incrementAndGet() == num) {
+          testComplete();
+        }
+      }));
+    }
+    await();
+  }
+
+  @Test
+  public void testSendInOrderWithRoutingCache() throws Exception {
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setClusterRoutingCache(true);
+    startNodes(2, options);
+    int num = 1000;
+    AtomicInteger expected = new AtomicInteger();
+    vertices[1].eventBus().<Integer>consumer(ADDRESS1, msg -> {
+      assertEquals(expected.getAndIncrement(), (int) msg.body());
+      if (expected.get() == num) {
+        testComplete();
+      }
+    }).completionHandler(onSuccess(v -> {
+      // The first messages are routed while the address is looked up
+      for (int i = 0; i < num; i++) {
+        vertices[0].eventBus().send(ADDRESS1, i);
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testSendInOrderWithStripedConnections() throws Exception {
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setClusterConnectionsPerPeer(4);
+    startNodes(2, options);
+    int numAddresses = 16;
+    int num = 100;
+    CountDownLatch regLatch = new CountDownLatch(numAddresses);
+    AtomicInteger done = new AtomicInteger();
+    for (int i = 0; i < numAddresses; i++) {
+      AtomicInteger expected = new AtomicInteger();
+      vertices[1].eventBus().<Integer>consumer(ADDRESS1 + i, msg -> {
+        assertEquals(expected.getAndIncrement(), (int) msg.body());
+        if (expected.get() == num && done.incrementAndGet() == numAddresses) {
+          testComplete();
+        }
+      }).completionHandler(onSuccess(v -> regLatch.countDown()));
+    }
+    awaitLatch(regLatch);
+    vertices[0].runOnContext(v -> {
+      for (int i = 0; i < num; i++) {
+        for (int j = 0; j < numAddresses; j++) {
+          vertices[0].eventBus().send(ADDRESS1 + j, i);
+        }
+      }
+    });
+    await();
+  }
+
+  @Test
+  public void testRoutingCacheLocalRegistration() throws Exception {
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setClusterRoutingCache(true).setClusterRoutingCacheMaxAge(60000);
+    startNodes(2, options);
+    vertices[1].eventBus().<String>consumer(ADDRESS1, msg -> {
+      if ("foo".equals(msg.body())) {
+        vertices[0].eventBus().<String>consumer(ADDRESS1, msg2 -> {
+          assertEquals("bar", msg2.body());
+          testComplete();
+        }).completionHandler(onSuccess(v -> {
+          // The route must include this node without waiting for the route to expire
+          vertices[0].eventBus().publish(ADDRESS1, "bar");
+        }));
+      }
+    }).completionHandler(onSuccess(v -> vertices[0].eventBus().send(ADDRESS1, "foo")));
+    await();
+  }
+
+  @Test
+  public void testRoutingCacheRemoteFirstRegistration() throws Exception {
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setClusterRoutingCache(true).setClusterRoutingCacheMaxAge(60000);
+    startNodes(2, options);
+    vertices[0].eventBus().send(ADDRESS1, "foo", onFailure(err -> {
+      assertEquals(ReplyFailure.NO_HANDLERS, ((ReplyException) err).failureType());
+      vertices[1].eventBus().<String>consumer(ADDRESS1, msg -> {
+        assertEquals("bar", msg.body());
+        testComplete();
+      }).completionHandler(onSuccess(v -> {
+        // The address had no subscriber so its route was not cached
+        vertices[0].eventBus().send(ADDRESS1, "bar");
+      }));
+    }));
+    await();
+  }
+
   // Make sure ping/pong works ok
   @Test
   public void testClusteredPong() throws Exception {
@@ -18,17 +18,26 @@ package io.vertx.test.core;
 
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Context;
+import io.vertx.core.ContextLocal;
 import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
 import io.vertx.core.WorkerExecutor;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.TaskQueue;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.json.JsonObject;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -92,6 +101,41 @@ public class ContextTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testPutGetRemoveLocal() throws Exception {
+    ContextLocal<SomeObject> local = new ContextLocal<>();
+    SomeObject obj = new SomeObject();
+    vertx.runOnContext(v -> {
+      Context ctx = Vertx.currentContext();
+      assertNull(ctx.getLocal(local));
+      assertFalse(ctx.removeLocal(local));
+      ctx.putLocal(local, obj);
+      ctx.executeBlocking(fut -> {
+        assertSame(obj, local.get(ctx));
+        fut.complete();
+      }, onSuccess(v2 -> {
+        assertTrue(local.remove(ctx));
+        assertNull(ctx.getLocal(local));
+        assertNull(vertx.getOrCreateContext().getLocal(new ContextLocal<>()));
+        testComplete();
+      }));
+    });
+    await();
+  }
+
+  @Test
+  public void testContextLocalCreatedAfterStorage() throws Exception {
+    ContextLocal<String> first = new ContextLocal<>();
+    Context ctx = vertx.getOrCreateContext();
+    ctx.putLocal(first, "first");
+    // The storage of the context grows for the locals created afterwards
+    ContextLocal<String> second = new ContextLocal<>();
+    ctx.putLocal(second, "second");
+    assertEquals("first", ctx.getLocal(first));
+    assertEquals("second", ctx.getLocal(second));
+    assertNull(vertx.getOrCreateContext().getLocal(second));
+  }
+
   @Test
   public void testGettingContextContextUnderContextAnotherInstanceShouldReturnDifferentContext() throws Exception {
     Vertx other = vertx();
@@ -335,6 +379,8 @@ public class ContextTest extends VertxTestBase {
       current[i] = new AtomicReference<>();
     }
     CyclicBarrier barrier = new CyclicBarrier(queues.length);
+    // The thread of a queue is kept while tasks are queued, the first tasks wait until all tasks are queued
+    CountDownLatch submitted = new CountDownLatch(1);
     int numTasks = 10;
     for (int i = 0;i < numTasks;i++) {
       int ival = i;
@@ -343,6 +389,11 @@ public class ContextTest extends VertxTestBase {
         context.executeBlocking(fut -> {
           if (ival == 0) {
             current[jval].set(Thread.currentThread());
+            try {
+              awaitLatch(submitted);
+            } catch (InterruptedException e) {
+              fail(e);
+            }
           } else {
             assertSame(Thread.currentThread(), current[jval].get());
           }
@@ -357,6 +408,110 @@ public class ContextTest extends VertxTestBase {
         }, queues[j], ar -> {});
       }
     }
+    submitted.countDown();
+    await();
+  }
+
+  @Test
+  public void testTaskQueueConcurrentSubmitters() throws Exception {
+    // The tasks run on plain executor threads
+    disableThreadChecks();
+    TaskQueue queue = new TaskQueue();
+    ExecutorService[] executors = { Executors.newFixedThreadPool(2), Executors.newFixedThreadPool(2) };
+    int numSubmitters = 4;
+    int numTasks = 10000;
+    int[] last = new int[numSubmitters];
+    AtomicBoolean running = new AtomicBoolean();
+    AtomicInteger count = new AtomicInteger();
+    CyclicBarrier start = new CyclicBarrier(numSubmitters);
+    try {
+      for (int i = 0;i < numSubmitters;i++) {
+        int submitter = i;
+        new Thread(() -> {
+          try {
+            start.await();
+          } catch (Exception e) {
+            fail(e);
+          }
+          for (int j = 1;j <= numTasks;j++) {
+            int val = j;
+            queue.execute(() -> {
+              // Tasks never run concurrently and the tasks of a submitter run in order
+              assertTrue(running.compareAndSet(false, true));
+              assertEquals(val - 1, last[submitter]);
+              last[submitter] = val;
+              running.set(false);
+              if (count.incrementAndGet() == numSubmitters * numTasks) {
+                testComplete();
+              }
+            }, executors[(j / 100) % executors.length]);
+          }
+        }).start();
+      }
+      await();
+    } finally {
+      for (ExecutorService executor : executors) {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  @Test
+  public void testRunOnContextFromContextThreadIsAsynchronousAndOrdered() {
+    Context ctx = vertx.getOrCreateContext();
+    List<Integer> order = new ArrayList<>();
+    ctx.runOnContext(v1 -> {
+      ctx.runOnContext(v2 -> order.add(1));
+      ctx.runOnContext(v2 -> {
+        order.add(2);
+        ctx.runOnContext(v3 -> {
+          order.add(4);
+          assertEquals(Arrays.asList(0, 1, 2, 3, 4), order);
+          testComplete();
+        });
+        order.add(3);
+      });
+      order.add(0);
+    });
+    await();
+  }
+
+  @Test
+  public void testRunOnContextFromContextThreadAfterOtherContext() {
+    // Both contexts share the event loop, the task submitted first must run first
+    VertxInternal vertx = (VertxInternal) vertx(new VertxOptions().setEventLoopPoolSize(1));
+    Context ctx1 = vertx.getOrCreateContext();
+    Context ctx2 = vertx.createEventLoopContext(null, null, new JsonObject(), Thread.currentThread().getContextClassLoader());
+    List<Integer> order = new ArrayList<>();
+    ctx1.runOnContext(v1 -> {
+      ctx1.runOnContext(v2 -> order.add(0));
+      ctx1.runOnContext(v2 -> ctx1.runOnContext(v3 -> {
+        order.add(2);
+        assertEquals(Arrays.asList(0, 1, 2), order);
+        testComplete();
+      }));
+      ctx2.runOnContext(v2 -> order.add(1));
+    });
+    await();
+  }
+
+  @Test
+  public void testRunOnContextFromContextThreadMany() {
+    Context ctx = vertx.getOrCreateContext();
+    int num = 10000;
+    AtomicInteger count = new AtomicInteger();
+    ctx.runOnContext(v1 -> {
+      for (int i = 0; i < num; i++) {
+        int val = i;
+        ctx.runOnContext(v2 -> {
+          assertSame(ctx, Vertx.currentContext());
+          assertEquals(val, count.getAndIncrement());
+          if (val == num - 1) {
+            testComplete();
+          }
+        });
+      }
+    });
     await();
   }
 }
@@ -33,6 +33,7 @@ import io.vertx.core.impl.verticle.CompilingClassLoader;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.test.core.sourceverticle.SourceVerticle;
+import org.junit.Assume;
 import org.junit.Test;
 
 import java.io.File;
@@ -101,6 +102,9 @@ public class DeploymentTest extends VertxTestBase {
     long maxWorkerExecuteTime = TestUtils.randomPositiveLong();
     assertEquals(options, options.setMaxWorkerExecuteTime(maxWorkerExecuteTime));
     assertEquals(maxWorkerExecuteTime, options.getMaxWorkerExecuteTime());
+    assertFalse(options.isVirtualThreads());
+    assertEquals(options, options.setVirtualThreads(true));
+    assertTrue(options.isVirtualThreads());
   }
 
   @Test
@@ -117,6 +121,7 @@ public class DeploymentTest extends VertxTestBase {
     String poolName = TestUtils.randomAlphaString(10);
     int poolSize = TestUtils.randomPositiveInt();
     long maxWorkerExecuteTime = TestUtils.randomPositiveLong();
+    boolean virtualThreads = rand.nextBoolean();
     options.setConfig(config);
     options.setWorker(worker);
     options.setMultiThreaded(multiThreaded);
@@ -127,6 +132,7 @@ public class DeploymentTest extends VertxTestBase {
     options.setWorkerPoolName(poolName);
     options.setWorkerPoolSize(poolSize);
     options.setMaxWorkerExecuteTime(maxWorkerExecuteTime);
+    options.setVirtualThreads(virtualThreads);
     DeploymentOptions copy = new DeploymentOptions(options);
     assertEquals(worker, copy.isWorker());
     assertEquals(multiThreaded, copy.isMultiThreaded());
@@ -141,6 +147,16 @@ public class DeploymentTest extends VertxTestBase {
     assertEquals(poolName, copy.getWorkerPoolName());
     assertEquals(poolSize, copy.getWorkerPoolSize());
     assertEquals(maxWorkerExecuteTime, copy.getMaxWorkerExecuteTime());
+    assertEquals(virtualThreads, copy.isVirtualThreads());
+  }
+
+  @Test
+  public void testOptionsEqualityWithVirtualThreads() {
+    DeploymentOptions options = new DeploymentOptions().setWorker(true);
+    DeploymentOptions virtual = new DeploymentOptions(options).setVirtualThreads(true);
+    assertFalse(options.equals(virtual));
+    assertEquals(virtual, new DeploymentOptions(virtual));
+    assertEquals(virtual.hashCode(), new DeploymentOptions(virtual).hashCode());
   }
 
   @Test
@@ -157,6 +173,7 @@ public class DeploymentTest extends VertxTestBase {
     assertEquals(def.getWorkerPoolName(), json.getWorkerPoolName());
     assertEquals(def.getWorkerPoolSize(), json.getWorkerPoolSize());
     assertEquals(def.getMaxWorkerExecuteTime(), json.getMaxWorkerExecuteTime());
+    assertEquals(def.isVirtualThreads(), json.isVirtualThreads());
   }
 
   @Test
@@ -172,6 +189,7 @@ public class DeploymentTest extends VertxTestBase {
     String poolName = TestUtils.randomAlphaString(10);
     int poolSize = TestUtils.randomPositiveInt();
     long maxWorkerExecuteTime = TestUtils.randomPositiveLong();
+    boolean virtualThreads = rand.nextBoolean();
     JsonObject json = new JsonObject();
     json.put("config", config);
     json.put("worker", worker);
@@ -183,6 +201,7 @@ public class DeploymentTest extends VertxTestBase {
     json.put("workerPoolName", poolName);
     json.put("workerPoolSize", poolSize);
     json.put("maxWorkerExecuteTime", maxWorkerExecuteTime);
+    json.put("virtualThreads", virtualThreads);
     DeploymentOptions options = new DeploymentOptions(json);
     assertEquals(worker, options.isWorker());
     assertEquals(multiThreaded, options.isMultiThreaded());
@@ -194,6 +213,7 @@ public class DeploymentTest extends VertxTestBase {
     assertEquals(poolName, options.getWorkerPoolName());
     assertEquals(poolSize, options.getWorkerPoolSize());
     assertEquals(maxWorkerExecuteTime, options.getMaxWorkerExecuteTime());
+    assertEquals(virtualThreads, options.isVirtualThreads());
   }
 
   @Test
@@ -210,6 +230,7 @@ public class DeploymentTest extends VertxTestBase {
     String poolName = TestUtils.randomAlphaString(10);
     int poolSize = TestUtils.randomPositiveInt();
     long maxWorkerExecuteTime = TestUtils.randomPositiveLong();
+    boolean virtualThreads = rand.nextBoolean();
     options.setConfig(config);
     options.setWorker(worker);
     options.setMultiThreaded(multiThreaded);
@@ -220,6 +241,7 @@ public class DeploymentTest extends VertxTestBase {
     options.setWorkerPoolName(poolName);
     options.setWorkerPoolSize(poolSize);
     options.setMaxWorkerExecuteTime(maxWorkerExecuteTime);
+    options.setVirtualThreads(virtualThreads);
     JsonObject json = options.toJson();
     DeploymentOptions copy = new DeploymentOptions(json);
     assertEquals(worker, copy.isWorker());
@@ -232,6 +254,83 @@ public class DeploymentTest extends VertxTestBase {
     assertEquals(poolName, copy.getWorkerPoolName());
     assertEquals(poolSize, copy.getWorkerPoolSize());
     assertEquals(maxWorkerExecuteTime, copy.getMaxWorkerExecuteTime());
+    assertEquals(virtualThreads, copy.isVirtualThreads());
+  }
+
+  @Test
+  public void testDeployWorkerOnVirtualThreads() throws Exception {
+    Assume.assumeTrue(isVirtualThreadsSupported());
+    // More concurrent blocking tasks than threads in the worker pool
+    int num = 100;
+    vertx.deployVerticle(new AbstractVerticle() {
+      @Override
+      public void start() throws Exception {
+        assertTrue(Context.isOnWorkerThread());
+        assertSame(context, Vertx.currentContext());
+        CountDownLatch latch = new CountDownLatch(num);
+        AtomicInteger count = new AtomicInteger();
+        for (int i = 0;i < num;i++) {
+          vertx.<Boolean>executeBlocking(fut -> {
+            assertSame(context, Vertx.currentContext());
+            latch.countDown();
+            try {
+              fut.complete(latch.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+              fut.fail(e);
+            }
+          }, false, ar -> {
+            assertTrue(ar.result());
+            assertSame(context, Vertx.currentContext());
+            if (count.incrementAndGet() == num) {
+              testComplete();
+            }
+          });
+        }
+      }
+    }, new DeploymentOptions().setWorker(true).setVirtualThreads(true));
+    await();
+  }
+
+  @Test
+  public void testDeployWorkerOnVirtualThreadsFallback() throws Exception {
+    Assume.assumeFalse(isVirtualThreadsSupported());
+    vertx.deployVerticle(new AbstractVerticle() {
+      @Override
+      public void start() throws Exception {
+        assertTrue(Context.isOnWorkerThread());
+        assertTrue(Thread.currentThread().getName().startsWith("vert.x-worker-thread-"));
+        testComplete();
+      }
+    }, new DeploymentOptions().setWorker(true).setVirtualThreads(true));
+    await();
+  }
+
+  @Test
+  public void testDeployVirtualThreadsWithWorkerPoolName() throws Exception {
+    DeploymentOptions options = new DeploymentOptions().setWorker(true).setVirtualThreads(true).setWorkerPoolName("foo");
+    try {
+      vertx.deployVerticle(new MyVerticle(), options, ar -> {
+      });
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    try {
+      vertx.deployVerticle(MyVerticle.class.getName(), options, ar -> {
+      });
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+  }
+
+  private static boolean isVirtualThreadsSupported() {
+    try {
+      Thread.class.getMethod("ofVirtual");
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
   }
 
   @Test
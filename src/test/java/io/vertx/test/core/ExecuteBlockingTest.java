@@ -16,10 +16,18 @@
 
 package io.vertx.test.core;
 
+import io.vertx.core.BlockingTask;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.WorkerExecutor;
 import org.junit.Test;
 
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -166,4 +174,184 @@ public class ExecuteBlockingTest extends VertxTestBase {
     long leeway = 1000;
     assertTrue(now - start < pause + leeway);
   }
+
+  @Test
+  public void testSubmitBlockingDeadline() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicBoolean executed = new AtomicBoolean();
+    vertx.runOnContext(v -> {
+      vertx.executeBlocking(future -> {
+        try {
+          awaitLatch(latch);
+        } catch (InterruptedException e) {
+          fail(e);
+        }
+        future.complete();
+      }, true, null);
+      vertx.submitBlocking(future -> {
+        executed.set(true);
+        future.complete();
+      }, true, 10, onFailure(err -> {
+        assertTrue(err instanceof TimeoutException);
+        assertFalse(executed.get());
+        testComplete();
+      }));
+      vertx.setTimer(100, id -> latch.countDown());
+    });
+    await();
+  }
+
+  @Test
+  public void testSubmitBlockingDeadlineWhilePending() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicBoolean executed = new AtomicBoolean();
+    vertx.runOnContext(v -> {
+      vertx.executeBlocking(future -> {
+        try {
+          awaitLatch(latch);
+        } catch (InterruptedException e) {
+          fail(e);
+        }
+        future.complete();
+      }, true, null);
+      vertx.submitBlocking(future -> {
+        executed.set(true);
+        future.complete();
+      }, true, 10, onFailure(err -> {
+        // Failed while the previous ordered task is still running
+        assertTrue(err instanceof TimeoutException);
+        assertEquals(1, latch.getCount());
+        latch.countDown();
+        vertx.executeBlocking(future -> {
+          assertFalse(executed.get());
+          future.complete();
+        }, true, onSuccess(res -> testComplete()));
+      }));
+    });
+    await();
+  }
+
+  @Test
+  public void testSubmitBlockingWithinDeadline() {
+    vertx.runOnContext(v -> {
+      vertx.<String>submitBlocking(future -> future.complete("done!"), true, 10000, onSuccess(res -> {
+        assertEquals("done!", res);
+        testComplete();
+      }));
+    });
+    await();
+  }
+
+  @Test
+  public void testSubmitBlockingCancelPending() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicBoolean executed = new AtomicBoolean();
+    vertx.runOnContext(v -> {
+      vertx.executeBlocking(future -> {
+        try {
+          awaitLatch(latch);
+        } catch (InterruptedException e) {
+          fail(e);
+        }
+        future.complete();
+      }, true, null);
+      BlockingTask task = vertx.submitBlocking(future -> {
+        executed.set(true);
+        future.complete();
+      }, true, 0, onFailure(err -> {
+        assertTrue(err instanceof CancellationException);
+        latch.countDown();
+        vertx.executeBlocking(future -> {
+          assertFalse(executed.get());
+          future.complete();
+        }, true, onSuccess(res -> testComplete()));
+      }));
+      assertTrue(task.cancel(false));
+      assertTrue(task.isCancelled());
+      assertFalse(task.cancel(false));
+    });
+    await();
+  }
+
+  @Test
+  public void testSubmitBlockingCancelInterrupt() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    AtomicBoolean interrupted = new AtomicBoolean();
+    vertx.runOnContext(v -> {
+      BlockingTask task = vertx.submitBlocking(future -> {
+        started.countDown();
+        try {
+          Thread.sleep(10000);
+        } catch (InterruptedException e) {
+          interrupted.set(true);
+        }
+        future.complete();
+      }, false, 0, onFailure(err -> {
+        assertTrue(err instanceof CancellationException);
+        assertTrue(interrupted.get());
+        testComplete();
+      }));
+      vertx.executeBlocking(future -> {
+        try {
+          awaitLatch(started);
+        } catch (InterruptedException e) {
+          fail(e);
+        }
+        future.complete();
+      }, false, onSuccess(res -> {
+        assertTrue(task.cancel(true));
+      }));
+    });
+    await();
+  }
+
+  @Test
+  public void testSubmitBlockingDefaultImplementation() throws Exception {
+    WorkerExecutor delegate = vertx.createSharedWorkerExecutor("vert.x-submit-blocking-default", 1);
+    WorkerExecutor executor = new WorkerExecutor() {
+      @Override
+      public <T> void executeBlocking(Handler<Future<T>> blockingCodeHandler, boolean ordered, Handler<AsyncResult<T>> resultHandler) {
+        delegate.executeBlocking(blockingCodeHandler, ordered, resultHandler);
+      }
+      @Override
+      public boolean isMetricsEnabled() {
+        return false;
+      }
+    };
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicBoolean executed = new AtomicBoolean();
+    vertx.runOnContext(v -> {
+      executor.executeBlocking(future -> {
+        try {
+          awaitLatch(latch);
+        } catch (InterruptedException e) {
+          fail(e);
+        }
+        future.complete();
+      }, true, null);
+      executor.submitBlocking(future -> {
+        executed.set(true);
+        future.complete();
+      }, true, 10, onFailure(err -> {
+        assertTrue(err instanceof TimeoutException);
+      }));
+      BlockingTask task = executor.submitBlocking(future -> {
+        executed.set(true);
+        future.complete();
+      }, true, 0, onFailure(err -> {
+        assertTrue(err instanceof CancellationException);
+        executor.<String>submitBlocking(future -> future.complete("done!"), true, 10000, onSuccess(res -> {
+          assertEquals("done!", res);
+          assertFalse(executed.get());
+          delegate.close();
+          testComplete();
+        }));
+      }));
+      assertTrue(task.cancel(false));
+      assertTrue(task.isCancelled());
+      assertFalse(task.cancel(false));
+      vertx.setTimer(100, id -> latch.countDown());
+    });
+    await();
+  }
 }
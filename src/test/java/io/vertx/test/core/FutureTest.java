@@ -32,6 +32,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -574,6 +575,79 @@ public class FutureTest extends VertxTestBase {
     assertTrue(composite.isComplete());
   }
 
+  @Test
+  public void testJoinCollect() {
+    List<Future<Integer>> futures = new ArrayList<>();
+    for (int i = 0;i < 10;i++) {
+      futures.add(Future.future());
+    }
+    futures.add(Future.succeededFuture(10));
+    Checker<List<Integer>> checker = new Checker<>(CompositeFuture.join(futures, Collectors.toList()));
+    for (int i = 9;i >= 0;i--) {
+      checker.assertNotCompleted();
+      futures.get(i).complete(i);
+    }
+    checker.assertSucceeded(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+  }
+
+  @Test
+  public void testJoinCollectFailed() {
+    Throwable cause1 = new Throwable();
+    Throwable cause2 = new Throwable();
+    Future<String> f1 = Future.future();
+    Future<String> f2 = Future.future();
+    Future<String> f3 = Future.future();
+    Checker<List<String>> checker = new Checker<>(CompositeFuture.join(Arrays.asList(f1, f2, f3), Collectors.toList()));
+    f2.fail(cause1);
+    checker.assertNotCompleted();
+    f1.fail(cause2);
+    checker.assertNotCompleted();
+    f3.complete("foo");
+    checker.assertFailed(cause1);
+  }
+
+  @Test
+  public void testJoinCollectorFails() {
+    RuntimeException cause = new RuntimeException();
+    Future<String> f1 = Future.future();
+    Checker<String> checker = new Checker<>(CompositeFuture.join(Collections.singletonList(f1), Collectors.reducing("", (s1, s2) -> {
+      throw cause;
+    })));
+    f1.complete("foo");
+    checker.assertFailed(cause);
+  }
+
+  @Test
+  public void testJoinCollectWithEmptyList() {
+    Checker<List<String>> checker = new Checker<>(CompositeFuture.join(Collections.<Future<String>>emptyList(), Collectors.toList()));
+    checker.assertSucceeded(Collections.emptyList());
+  }
+
+  @Test
+  public void testJoinCollectConcurrentCompletion() throws Exception {
+    int size = 10000;
+    List<Future<Integer>> futures = new ArrayList<>();
+    for (int i = 0;i < size;i++) {
+      futures.add(Future.future());
+    }
+    Future<Integer> sum = CompositeFuture.join(futures, Collectors.summingInt(i -> i));
+    Thread[] threads = new Thread[4];
+    for (int i = 0;i < threads.length;i++) {
+      int offset = i;
+      threads[i] = new Thread(() -> {
+        for (int j = offset;j < size;j += threads.length) {
+          futures.get(j).complete(j);
+        }
+      });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertTrue(sum.succeeded());
+    assertEquals(size * (size - 1) / 2, (int) sum.result());
+  }
+
   @Test
   public void testCompositeFutureToList() {
     Future<String> f1 = Future.future();
@@ -750,6 +824,96 @@ public class FutureTest extends VertxTestBase {
     checker.assertSucceeded(null);
   }
 
+  @Test
+  public void testCombinatorsOnSucceededFuture() {
+    Future<Integer> fut = Future.future();
+    fut.complete(3);
+    testCombinatorsOnSucceededFuture(fut);
+    testCombinatorsOnSucceededFuture(Future.succeededFuture(3));
+  }
+
+  private void testCombinatorsOnSucceededFuture(Future<Integer> fut) {
+    RuntimeException cause = new RuntimeException();
+    new Checker<>(fut.map(Object::toString)).assertSucceeded("3");
+    new Checker<>(fut.map("foo")).assertSucceeded("foo");
+    new Checker<>(fut.map(i -> { throw cause; })).assertFailed(cause);
+    new Checker<>(fut.compose(i -> Future.succeededFuture(i + 1))).assertSucceeded(4);
+    new Checker<>(fut.compose(i -> { throw cause; })).assertFailed(cause);
+    new Checker<>(fut.otherwise(err -> 4)).assertSucceeded(3);
+    new Checker<>(fut.otherwise(4)).assertSucceeded(3);
+    new Checker<>(fut.recover(err -> Future.succeededFuture(4))).assertSucceeded(3);
+    Future<Integer> pending = Future.future();
+    Checker<Integer> checker = new Checker<>(fut.compose(i -> pending));
+    checker.assertNotCompleted();
+    pending.complete(5);
+    checker.assertSucceeded(5);
+    Future<Integer> shared = Future.future();
+    Future<Integer> composed = fut.compose(i -> shared);
+    assertNotSame(shared, composed);
+  }
+
+  @Test
+  public void testComposeAndRecoverWithPendingFuture() {
+    AtomicInteger composeCount = new AtomicInteger();
+    AtomicInteger recoverCount = new AtomicInteger();
+    Future<Integer> fut1 = Future.future();
+    Future<String> next1 = Future.future();
+    Checker<String> checker1 = new Checker<>(fut1.compose(i -> {
+      composeCount.incrementAndGet();
+      return next1;
+    }));
+    Future<Integer> fut2 = Future.future();
+    Future<Integer> next2 = Future.future();
+    Checker<Integer> checker2 = new Checker<>(fut2.recover(err -> {
+      recoverCount.incrementAndGet();
+      return next2;
+    }));
+    fut1.complete(3);
+    fut2.fail(new Throwable());
+    checker1.assertNotCompleted();
+    checker2.assertNotCompleted();
+    next1.complete("foo");
+    next2.complete(4);
+    checker1.assertSucceeded("foo");
+    checker2.assertSucceeded(4);
+    assertEquals(1, composeCount.get());
+    assertEquals(1, recoverCount.get());
+  }
+
+  @Test
+  public void testCombinatorsOnFailedFuture() {
+    Throwable cause = new Throwable();
+    Future<Integer> fut = Future.future();
+    fut.fail(cause);
+    testCombinatorsOnFailedFuture(fut, cause);
+    testCombinatorsOnFailedFuture(Future.failedFuture(cause), cause);
+  }
+
+  private void testCombinatorsOnFailedFuture(Future<Integer> fut, Throwable cause) {
+    RuntimeException failure = new RuntimeException();
+    new Checker<>(fut.map(Object::toString)).assertFailed(cause);
+    new Checker<>(fut.map("foo")).assertFailed(cause);
+    new Checker<>(fut.compose(i -> Future.succeededFuture(i + 1))).assertFailed(cause);
+    new Checker<>(fut.otherwise(err -> 4)).assertSucceeded(4);
+    new Checker<>(fut.otherwise(err -> { throw failure; })).assertFailed(failure);
+    new Checker<>(fut.otherwise(4)).assertSucceeded(4);
+    new Checker<>(fut.recover(err -> Future.succeededFuture(4))).assertSucceeded(4);
+    new Checker<>(fut.recover(err -> { throw failure; })).assertFailed(failure);
+  }
+
+  @Test
+  public void testMapChain() {
+    Future<Integer> fut = Future.future();
+    Future<Integer> mapped = fut;
+    for (int i = 0;i < 100;i++) {
+      mapped = mapped.map(v -> v + 1).compose(v -> Future.succeededFuture(v + 1));
+    }
+    Checker<Integer> checker = new Checker<>(mapped);
+    checker.assertNotCompleted();
+    fut.complete(0);
+    checker.assertSucceeded(200);
+  }
+
   @Test
   public void testRecoverSuccessWithSuccess() {
     AtomicBoolean called = new AtomicBoolean();
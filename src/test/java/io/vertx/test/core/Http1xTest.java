@@ -1584,6 +1584,47 @@ public class Http1xTest extends HttpTest {
     testComplete();
   }
 
+  @Test
+  public void testListenerPerEventLoop() throws Exception {
+    // With the epoll transport each server has its own socket, otherwise the servers share a socket
+    client.close();
+    server.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setKeepAlive(false));
+    int numServers = 4;
+    int numRequests = numServers * 25;
+    CountDownLatch latchListen = new CountDownLatch(numServers);
+    for (int i = 0; i < numServers; i++) {
+      AtomicReference<Context> context = new AtomicReference<>();
+      vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setListenerPerEventLoop(true))
+        .requestHandler(req -> {
+          // The connection is handled by the event loop of the server
+          assertSame(context.get(), Vertx.currentContext());
+          assertTrue(((ContextImpl) context.get()).nettyEventLoop().inEventLoop());
+          req.response().end();
+        }).listen(onSuccess(s -> {
+          context.set(Vertx.currentContext());
+          assertEquals(DEFAULT_HTTP_PORT, s.actualPort());
+          latchListen.countDown();
+        }));
+    }
+    awaitLatch(latchListen);
+    VertxInternal vertxInternal = (VertxInternal) vertx;
+    if (vertxInternal.transport().supportsReusePortBalancing()) {
+      assertTrue(vertxInternal.sharedHttpServers().isEmpty());
+    } else {
+      assertEquals(1, vertxInternal.sharedHttpServers().size());
+    }
+    CountDownLatch latchClient = new CountDownLatch(numRequests);
+    for (int i = 0; i < numRequests; i++) {
+      client.request(HttpMethod.GET, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+        assertEquals(200, resp.statusCode());
+        latchClient.countDown();
+      }).end();
+    }
+    awaitLatch(latchClient);
+    testComplete();
+  }
+
   @Test
   public void testSharedServersRoundRobinWithOtherServerRunningOnDifferentPort() throws Exception {
     // Have a server running on a different port to make sure it doesn't interact
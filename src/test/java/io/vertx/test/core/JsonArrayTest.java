@@ -759,6 +759,58 @@ public class JsonArrayTest {
     assertFalse(iter.hasNext());
   }
 
+  @Test
+  public void testReadOnlyCopy() {
+    jsonArray.add("foo");
+    jsonArray.add(new JsonObject().put("foo", "bar"));
+    jsonArray.add(new JsonArray().add(123));
+    JsonArray view = jsonArray.readOnlyCopy();
+    assertTrue(view.isReadOnly());
+    assertFalse(jsonArray.isReadOnly());
+    assertSame(view, view.readOnlyCopy());
+    assertEquals(jsonArray, view);
+    assertEquals(jsonArray.encode(), view.encode());
+    assertSame(view.getJsonObject(1), view.getJsonObject(1));
+    assertSame(view.getJsonArray(2), view.getJsonArray(2));
+    jsonArray.add("bar");
+    jsonArray.getJsonObject(1).put("foo", "quux");
+    assertEquals(3, view.size());
+    assertEquals("bar", view.getJsonObject(1).getString("foo"));
+    jsonArray.remove(3);
+    jsonArray.getJsonObject(1).put("foo", "bar");
+    try {
+      view.add("quux");
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // Ok
+    }
+    try {
+      view.remove(0);
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // Ok
+    }
+    try {
+      view.getJsonObject(1).put("wibble", "quux");
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // Ok
+    }
+    try {
+      view.getJsonArray(2).add(456);
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // Ok
+    }
+    JsonArray copy = view.copy();
+    assertFalse(copy.isReadOnly());
+    assertEquals(jsonArray, copy);
+    copy.add("quux");
+    copy.getJsonObject(1).put("wibble", "quux");
+    assertEquals(3, jsonArray.size());
+    assertFalse(jsonArray.getJsonObject(1).containsKey("wibble"));
+  }
+
   @Test
   public void testCopy() {
     jsonArray.add("foo");
@@ -1459,6 +1459,66 @@ public class JsonObjectTest {
     assertEquals("blah", copy.getString("eek"));
   }
 
+  @Test
+  public void testReadOnlyCopy() {
+    jsonObject.put("foo", "bar");
+    jsonObject.put("wibble", new JsonObject().put("quux", 123));
+    jsonObject.put("eek", new JsonArray().add("blah"));
+    JsonObject view = jsonObject.readOnlyCopy();
+    assertTrue(view.isReadOnly());
+    assertFalse(jsonObject.isReadOnly());
+    assertSame(view, view.readOnlyCopy());
+    assertEquals(jsonObject, view);
+    assertEquals(jsonObject.encode(), view.encode());
+    assertSame(view.getJsonObject("wibble"), view.getJsonObject("wibble"));
+    assertSame(view.getJsonArray("eek"), view.getJsonArray("eek"));
+    jsonObject.put("oob", "flarb");
+    jsonObject.getJsonObject("wibble").put("quux", 456);
+    assertFalse(view.containsKey("oob"));
+    assertEquals(123, (int) view.getJsonObject("wibble").getInteger("quux"));
+    jsonObject.remove("oob");
+    jsonObject.getJsonObject("wibble").put("quux", 123);
+    try {
+      view.put("blah", "flib");
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // Ok
+    }
+    try {
+      view.remove("foo");
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // Ok
+    }
+    try {
+      view.getJsonObject("wibble").put("blah", "flib");
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // Ok
+    }
+    try {
+      view.getJsonArray("eek").add("flib");
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // Ok
+    }
+    try {
+      Iterator<Map.Entry<String, Object>> iter = view.iterator();
+      iter.next();
+      iter.remove();
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // Ok
+    }
+    JsonObject copy = view.copy();
+    assertFalse(copy.isReadOnly());
+    assertEquals(jsonObject, copy);
+    copy.put("blah", "flib");
+    copy.getJsonObject("wibble").put("blah", "flib");
+    assertFalse(jsonObject.containsKey("blah"));
+    assertFalse(jsonObject.getJsonObject("wibble").containsKey("blah"));
+  }
+
   @Test
   public void testInvalidValsOnCopy1() {
     Map<String, Object> invalid = new HashMap<>();
@@ -21,6 +21,7 @@ import io.vertx.core.eventbus.*;
 import io.vertx.core.eventbus.impl.HandlerRegistration;
 import io.vertx.core.http.CaseInsensitiveHeaders;
 import io.vertx.core.impl.*;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.streams.Pump;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.core.streams.WriteStream;
@@ -518,6 +519,119 @@ public class LocalEventBusTest extends EventBusTestBase {
     await();
   }
 
+  @Test
+  public void testSendWithTimeoutManyPendingReplies() {
+    int num = 1000;
+    eb.<Integer>consumer(ADDRESS1).handler(msg -> {
+      // Only reply to even messages
+      if (msg.body() % 2 == 0) {
+        msg.reply(msg.body());
+      }
+    });
+    AtomicInteger replies = new AtomicInteger();
+    AtomicInteger timeouts = new AtomicInteger();
+    for (int i = 0; i < num; i++) {
+      int expected = i;
+      eb.send(ADDRESS1, i, new DeliveryOptions().setSendTimeout(100), (AsyncResult<Message<Integer>> ar) -> {
+        if (ar.succeeded()) {
+          assertEquals(0, expected % 2);
+          assertEquals(expected, (int) ar.result().body());
+          replies.incrementAndGet();
+        } else {
+          assertEquals(1, expected % 2);
+          assertEquals(ReplyFailure.TIMEOUT, ((ReplyException) ar.cause()).failureType());
+          timeouts.incrementAndGet();
+        }
+        if (replies.get() + timeouts.get() == num) {
+          assertEquals(num / 2, replies.get());
+          assertEquals(num / 2, timeouts.get());
+          testComplete();
+        }
+      });
+    }
+    await();
+  }
+
+  @Test
+  public void testSendWithEventLoopAffinity() throws Exception {
+    vertx.close();
+    vertx = Vertx.vertx(new VertxOptions()
+      .setEventLoopPoolSize(4)
+      .setEventBusOptions(new EventBusOptions().setEventLoopAffinity(true)));
+    eb = vertx.eventBus();
+    int instances = 4;
+    int num = 10;
+    Set<Context> contexts = new ConcurrentHashSet<>();
+    AtomicInteger received = new AtomicInteger();
+    CountDownLatch latch = new CountDownLatch(instances);
+    for (int i = 0; i < instances; i++) {
+      vertx.deployVerticle(new AbstractVerticle() {
+        @Override
+        public void start(Future<Void> startFuture) throws Exception {
+          contexts.add(context);
+          vertx.eventBus().<String>consumer(ADDRESS1, msg -> {
+            // Each message is handled by the consumer of the sender event loop
+            assertEquals(msg.body(), Thread.currentThread().getName());
+            if (received.incrementAndGet() == instances * num) {
+              testComplete();
+            }
+          }).completionHandler(startFuture);
+        }
+      }, onSuccess(id -> latch.countDown()));
+    }
+    awaitLatch(latch);
+    for (Context context : contexts) {
+      context.runOnContext(v -> {
+        for (int i = 0; i < num; i++) {
+          eb.send(ADDRESS1, Thread.currentThread().getName());
+        }
+      });
+    }
+    await();
+  }
+
+  @Test
+  public void testSendBurstDeliveredInOrder() {
+    int num = 10000;
+    AtomicInteger expected = new AtomicInteger();
+    eb.<Integer>consumer(ADDRESS1).handler(msg -> {
+      assertEquals(expected.getAndIncrement(), (int) msg.body());
+      if (expected.get() == num) {
+        testComplete();
+      }
+    }).completionHandler(onSuccess(v -> {
+      for (int i = 0; i < num; i++) {
+        eb.send(ADDRESS1, i);
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testHandlerFailureDoesNotStallDelivery() {
+    int num = 1000;
+    AtomicInteger failures = new AtomicInteger();
+    Context ctx = vertx.getOrCreateContext();
+    ctx.exceptionHandler(err -> failures.incrementAndGet());
+    ctx.runOnContext(v1 -> {
+      AtomicInteger received = new AtomicInteger();
+      eb.<Integer>consumer(ADDRESS1).handler(msg -> {
+        assertEquals(received.getAndIncrement(), (int) msg.body());
+        if (received.get() == num) {
+          assertEquals(num / 10, failures.get());
+          testComplete();
+        } else if (msg.body() % 10 == 0) {
+          throw new RuntimeException("failure");
+        }
+      }).completionHandler(onSuccess(v2 -> {
+        for (int i = 0; i < num; i++) {
+          eb.send(ADDRESS1, i);
+        }
+      }));
+    });
+    await();
+  }
+
   @Test
   public void testReplyToSendWithNoReplyHandler() {
     eb.<String>consumer(ADDRESS1).handler((Message<String> msg) -> {
@@ -591,6 +705,131 @@ public class LocalEventBusTest extends EventBusTestBase {
     await();
   }
 
+  @Test
+  public void testPublishReadOnlyBodyNotCopied() {
+    JsonObject body = new JsonObject().put("foo", "bar").readOnlyCopy();
+    int numHandlers = 5;
+    AtomicInteger count = new AtomicInteger();
+    for (int i = 0; i < numHandlers; i++) {
+      eb.<JsonObject>consumer(ADDRESS1).handler((Message<JsonObject> msg) -> {
+        assertSame(body, msg.body());
+        if (count.incrementAndGet() == numHandlers) {
+          testComplete();
+        }
+      });
+    }
+    eb.publish(ADDRESS1, body);
+    await();
+  }
+
+  @Test
+  public void testPartitionedConsumer() {
+    int numKeys = 10;
+    int numMessages = 1000;
+    Map<String, Integer> lastByKey = new ConcurrentHashMap<>();
+    AtomicInteger received = new AtomicInteger();
+    runOnWorkerContext(() -> {
+      MessageConsumer<Integer> consumer = eb.consumer(ADDRESS1);
+      consumer.partitionBy(msg -> msg.headers().get("key"), 4);
+      consumer.handler(msg -> {
+        assertTrue(Context.isOnWorkerThread());
+        String key = msg.headers().get("key");
+        Integer last = lastByKey.put(key, msg.body());
+        // Messages with the same key are handled in order
+        assertTrue(last == null || last < msg.body());
+        if (received.incrementAndGet() == numMessages) {
+          testComplete();
+        }
+      });
+      consumer.completionHandler(onSuccess(v -> {
+        for (int i = 0; i < numMessages; i++) {
+          eb.send(ADDRESS1, i, new DeliveryOptions().addHeader("key", "key-" + (i % numKeys)));
+        }
+      }));
+    });
+    await();
+  }
+
+  @Test
+  public void testPartitionedConsumerBuffersWhenLaneFull() {
+    int numMessages = 100;
+    AtomicInteger expected = new AtomicInteger();
+    CountDownLatch blocked = new CountDownLatch(1);
+    runOnWorkerContext(() -> {
+      MessageConsumer<Integer> consumer = eb.consumer(ADDRESS1);
+      // A single key and a single message per lane, so the other messages are buffered by the consumer
+      consumer.setMaxBufferedMessages(numMessages);
+      consumer.partitionBy(msg -> "key", numMessages);
+      consumer.handler(msg -> {
+        if (msg.body() == 0) {
+          try {
+            blocked.await();
+          } catch (InterruptedException e) {
+            fail(e);
+          }
+        }
+        assertEquals(expected.getAndIncrement(), (int) msg.body());
+        if (expected.get() == numMessages) {
+          testComplete();
+        }
+      });
+      consumer.completionHandler(onSuccess(v -> {
+        for (int i = 0; i < numMessages; i++) {
+          eb.send(ADDRESS1, i);
+        }
+        blocked.countDown();
+      }));
+    });
+    await();
+  }
+
+  @Test
+  public void testPartitionRegisteredConsumer() {
+    MessageConsumer<Integer> consumer = eb.consumer(ADDRESS1, msg -> {});
+    assertIllegalStateException(() -> consumer.partitionBy(msg -> "key", 4));
+    assertIllegalArgumentException(() -> eb.consumer(ADDRESS2).partitionBy(msg -> "key", 0));
+  }
+
+  @Test
+  public void testPartitionedConsumerOnEventLoop() {
+    int numKeys = 10;
+    int numMessages = 1000;
+    Map<String, Integer> lastByKey = new ConcurrentHashMap<>();
+    AtomicInteger received = new AtomicInteger();
+    vertx.runOnContext(v -> {
+      Context context = Vertx.currentContext();
+      assertTrue(context.isEventLoopContext());
+      MessageConsumer<Integer> consumer = eb.consumer(ADDRESS1);
+      consumer.partitionBy(msg -> msg.headers().get("key"), 4);
+      consumer.handler(msg -> {
+        // The lanes run on the worker pool of the event loop context
+        assertTrue(Context.isOnWorkerThread());
+        assertSame(context, Vertx.currentContext());
+        String key = msg.headers().get("key");
+        Integer last = lastByKey.put(key, msg.body());
+        assertTrue(last == null || last < msg.body());
+        if (received.incrementAndGet() == numMessages) {
+          testComplete();
+        }
+      });
+      consumer.completionHandler(onSuccess(v2 -> {
+        for (int i = 0; i < numMessages; i++) {
+          eb.send(ADDRESS1, i, new DeliveryOptions().addHeader("key", "key-" + (i % numKeys)));
+        }
+      }));
+    });
+    await();
+  }
+
+  private void runOnWorkerContext(Runnable task) {
+    vertx.deployVerticle(new AbstractVerticle() {
+      @Override
+      public void start() {
+        task.run();
+      }
+    }, new DeploymentOptions().setWorker(true), onSuccess(id -> {}));
+  }
+
   @Test
   public void testPublishSameHandlerRegisteredTwice() {
     String str = TestUtils.randomUnicodeString(1000);
@@ -1200,6 +1439,25 @@ public class LocalEventBusTest extends EventBusTestBase {
     await();
   }
 
+  @Test
+  public void testProducerWithReregisteredConsumer() {
+    MessageProducer<String> publisher = eb.publisher(ADDRESS1);
+    MessageConsumer<String> first = eb.consumer(ADDRESS1);
+    first.handler(msg -> {
+      assertEquals("first", msg.body());
+      first.unregister(ar -> {
+        assertTrue(ar.succeeded());
+        eb.<String>consumer(ADDRESS1, msg2 -> {
+          assertEquals("second", msg2.body());
+          testComplete();
+        });
+        publisher.write("second");
+      });
+    });
+    publisher.write("first");
+    await();
+  }
+
   @Test
   public void testPublisherWithOptions() {
     String str = TestUtils.randomUnicodeString(100);
@@ -40,7 +40,9 @@ import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.core.metrics.MetricsOptions;
 import io.vertx.core.net.NetSocket;
+import io.vertx.core.spi.metrics.EventLoopStatistics;
 import io.vertx.core.spi.metrics.PoolMetrics;
+import io.vertx.core.spi.metrics.PoolStatistics;
 import io.vertx.test.fakemetrics.EndpointMetric;
 import io.vertx.test.fakemetrics.FakeDatagramSocketMetrics;
 import io.vertx.test.fakemetrics.FakeEventBusMetrics;
@@ -68,6 +70,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -929,6 +932,72 @@ public class MetricsTest extends VertxTestBase {
     assertEquals(metrics.numberOfWaitingTasks(), 0);
   }
 
+  @Test
+  public void testEventLoopStatistics() throws Exception {
+    FakeVertxMetrics metrics = FakeMetricsBase.getMetrics(vertx);
+    List<EventLoopStatistics> eventLoops = metrics.getEventLoops();
+    assertEquals(getOptions().getEventLoopPoolSize(), eventLoops.size());
+    AtomicReference<String> taskThread = new AtomicReference<>();
+    vertx.runOnContext(v -> {
+      taskThread.set(Thread.currentThread().getName());
+      try {
+        Thread.sleep(20);
+      } catch (InterruptedException e) {
+        fail(e);
+      }
+    });
+    assertWaitUntil(() -> taskThread.get() != null);
+    EventLoopStatistics taskLoop = eventLoops.stream().filter(loop -> taskThread.get().equals(loop.name())).findFirst().get();
+    assertWaitUntil(() -> taskLoop.taskTime() >= TimeUnit.MILLISECONDS.toNanos(20));
+    assertTrue(taskLoop.taskCount() >= 1);
+    assertTrue(taskLoop.busyTime() >= taskLoop.taskTime());
+    assertTrue(taskLoop.executionTimePercentile(100) >= TimeUnit.MILLISECONDS.toNanos(20));
+    assertTrue(taskLoop.dispatchLatencyPercentile(100) > 0);
+    AtomicReference<String> ioThread = new AtomicReference<>();
+    CountDownLatch listenLatch = new CountDownLatch(1);
+    vertx.createNetServer().connectHandler(so -> {
+      so.handler(buff -> {
+        ioThread.set(Thread.currentThread().getName());
+        so.write(buff);
+      });
+    }).listen(1234, "localhost", onSuccess(s -> listenLatch.countDown()));
+    awaitLatch(listenLatch);
+    vertx.createNetClient().connect(1234, "localhost", onSuccess(so -> {
+      so.handler(buff -> testComplete());
+      so.write("hello");
+    }));
+    await();
+    EventLoopStatistics ioLoop = eventLoops.stream().filter(loop -> ioThread.get().equals(loop.name())).findFirst().get();
+    assertWaitUntil(() -> ioLoop.ioCount() >= 1);
+    assertTrue(ioLoop.ioTime() > 0);
+    assertTrue(ioLoop.pendingTasks() >= 0);
+  }
+
+  @Test
+  public void testThreadPoolMetricsWithSkippedTask() throws Exception {
+    FakePoolMetrics metrics = (FakePoolMetrics) FakePoolMetrics.getPoolMetrics().get("vert.x-worker-thread");
+    CountDownLatch latch = new CountDownLatch(1);
+    vertx.runOnContext(v -> {
+      vertx.executeBlocking(future -> {
+        try {
+          awaitLatch(latch);
+        } catch (InterruptedException e) {
+          fail(e);
+        }
+        future.complete();
+      }, true, null);
+      vertx.submitBlocking(future -> future.complete(), true, 1, onFailure(err -> {
+        vertx.submitBlocking(future -> future.complete(), true, 0, ar -> testComplete()).cancel(false);
+      }));
+      vertx.setTimer(50, id -> latch.countDown());
+    });
+    await();
+    waitUntil(() -> metrics.numberOfWaitingTasks() == 0 && metrics.numberOfCompletedTasks() == 1);
+    assertEquals(3, metrics.numberOfSubmittedTask());
+    assertEquals(2, metrics.numberOfSkippedTasks());
+    assertEquals(1, metrics.numberOfCompletedTasks());
+  }
+
   @Test
   public void testThreadPoolMetricsWithInternalExecuteBlocking() {
     // Internal blocking thread pool is used by blocking file system actions.
@@ -1145,4 +1214,40 @@ public class MetricsTest extends VertxTestBase {
       future.complete(null);
     };
   }
+
+  @Test
+  public void testAdaptiveWorkerPool() {
+    Vertx vertx = vertx(getOptions()
+      .setWorkerPoolAdaptive(true)
+      .setWorkerPoolTargetWaitTime(TimeUnit.MILLISECONDS.toNanos(10))
+      .setWorkerPoolKeepAliveTime(TimeUnit.MILLISECONDS.toNanos(100)));
+    int poolSize = 4;
+    WorkerExecutor workerExec = vertx.createSharedWorkerExecutor("adaptive-pool", poolSize);
+    FakePoolMetrics metrics = (FakePoolMetrics) FakePoolMetrics.getPoolMetrics().get("adaptive-pool");
+    PoolStatistics statistics = (PoolStatistics) metrics.getPool();
+    assertEquals(1, statistics.minSize());
+    assertEquals(poolSize, statistics.maxSize());
+    // The tasks wait for each other, so they complete only when the pool has grown to its maximum size
+    CountDownLatch latch = new CountDownLatch(poolSize);
+    AtomicInteger count = new AtomicInteger();
+    for (int i = 0;i < poolSize;i++) {
+      workerExec.<Boolean>executeBlocking(fut -> {
+        latch.countDown();
+        try {
+          fut.complete(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+          fut.fail(e);
+        }
+      }, false, ar -> {
+        assertTrue(ar.result());
+        if (count.incrementAndGet() == poolSize) {
+          testComplete();
+        }
+      });
+    }
+    await();
+    assertTrue(statistics.waitTimePercentile(100) >= TimeUnit.MILLISECONDS.toNanos(10));
+    // The idle threads are removed
+    waitUntil(() -> statistics.size() == 1);
+  }
 }
@@ -98,6 +98,7 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -384,6 +385,10 @@ public class NetTest extends VertxTestBase {
     assertEquals(options, options.setSni(true));
     assertTrue(options.isSni());
 
+    assertFalse(options.isListenerPerEventLoop());
+    assertEquals(options, options.setListenerPerEventLoop(true));
+    assertTrue(options.isListenerPerEventLoop());
+
     testComplete();
   }
 
@@ -637,6 +642,7 @@ public class NetTest extends VertxTestBase {
     boolean openSslSessionCacheEnabled = rand.nextBoolean();
     SSLEngineOptions sslEngine = TestUtils.randomBoolean() ? new JdkSSLEngineOptions() : new OpenSSLEngineOptions();
     boolean sni = TestUtils.randomBoolean();
+    boolean listenerPerEventLoop = TestUtils.randomBoolean();
 
     options.setSendBufferSize(sendBufferSize);
     options.setReceiveBufferSize(receiverBufferSize);
@@ -659,6 +665,7 @@ public class NetTest extends VertxTestBase {
     options.setUseAlpn(useAlpn);
     options.setSslEngineOptions(sslEngine);
     options.setSni(sni);
+    options.setListenerPerEventLoop(listenerPerEventLoop);
 
     NetServerOptions copy = new NetServerOptions(options);
     assertEquals(sendBufferSize, copy.getSendBufferSize());
@@ -687,6 +694,7 @@ public class NetTest extends VertxTestBase {
     assertEquals(useAlpn, copy.isUseAlpn());
     assertEquals(sslEngine, copy.getSslEngineOptions());
     assertEquals(sni, copy.isSni());
+    assertEquals(listenerPerEventLoop, copy.isListenerPerEventLoop());
   }
 
   @Test
@@ -713,6 +721,7 @@ public class NetTest extends VertxTestBase {
     assertEquals(def.isUseAlpn(), json.isUseAlpn());
     assertEquals(def.getSslEngineOptions(), json.getSslEngineOptions());
     assertEquals(def.isSni(), json.isSni());
+    assertEquals(def.isListenerPerEventLoop(), json.isListenerPerEventLoop());
   }
 
   @Test
@@ -747,6 +756,7 @@ public class NetTest extends VertxTestBase {
     boolean openSslSessionCacheEnabled = rand.nextBoolean();
     String sslEngine = TestUtils.randomBoolean() ? "jdkSslEngineOptions" : "openSslEngineOptions";
     boolean sni = TestUtils.randomBoolean();
+    boolean listenerPerEventLoop = TestUtils.randomBoolean();
 
     JsonObject json = new JsonObject();
     json.put("sendBufferSize", sendBufferSize)
@@ -769,7 +779,8 @@ public class NetTest extends VertxTestBase {
       .put("useAlpn", useAlpn)
       .put(sslEngine, new JsonObject())
       .put("openSslSessionCacheEnabled", openSslSessionCacheEnabled)
-      .put("sni", sni);
+      .put("sni", sni)
+      .put("listenerPerEventLoop", listenerPerEventLoop);
 
     NetServerOptions options = new NetServerOptions(json);
     assertEquals(sendBufferSize, options.getSendBufferSize());
@@ -808,6 +819,7 @@ public class NetTest extends VertxTestBase {
         break;
     }
     assertEquals(sni, options.isSni());
+    assertEquals(listenerPerEventLoop, options.isListenerPerEventLoop());
 
     // Test other keystore/truststore types
     json.remove("keyStoreOptions");
@@ -1770,6 +1782,73 @@ public class NetTest extends VertxTestBase {
     testSharedServersRoundRobin();
   }
 
+  @Test
+  public void testListenerPerEventLoop() throws Exception {
+    // With the epoll transport each server has its own socket, otherwise the servers share a socket
+    int numServers = 4;
+    int numConnections = numServers * 10;
+    server.close();
+    List<NetServer> servers = new CopyOnWriteArrayList<>();
+    CountDownLatch latchListen = new CountDownLatch(numServers);
+    AtomicInteger connections = new AtomicInteger();
+    for (int i = 0; i < numServers; i++) {
+      vertx.deployVerticle(new AbstractVerticle() {
+        @Override
+        public void start(Future<Void> startFuture) {
+          Context serverContext = context;
+          NetServer theServer = vertx.createNetServer(new NetServerOptions().setListenerPerEventLoop(true));
+          servers.add(theServer);
+          theServer.connectHandler(sock -> {
+            // The connection is handled by the event loop of the server
+            assertSame(serverContext, Vertx.currentContext());
+            assertTrue(((ContextImpl) serverContext).nettyEventLoop().inEventLoop());
+            connections.incrementAndGet();
+            sock.handler(sock::write);
+          }).listen(testAddress, ar -> {
+            assertTrue(ar.succeeded());
+            startFuture.complete();
+            latchListen.countDown();
+          });
+        }
+      });
+    }
+    awaitLatch(latchListen);
+    VertxInternal vertxInternal = (VertxInternal) vertx;
+    if (vertxInternal.transport().supportsReusePortBalancing() && testAddress.path() == null) {
+      assertTrue(vertxInternal.sharedNetServers().isEmpty());
+    } else {
+      assertEquals(1, vertxInternal.sharedNetServers().size());
+    }
+    CountDownLatch latchConns = new CountDownLatch(numConnections);
+    for (int i = 0; i < numConnections; i++) {
+      client.connect(testAddress, onSuccess(so -> {
+        so.handler(buff -> {
+          so.close();
+          latchConns.countDown();
+        });
+        so.write("ping");
+      }));
+    }
+    awaitLatch(latchConns);
+    assertEquals(numConnections, connections.get());
+    // The remaining servers still accept connections
+    CountDownLatch closeLatch = new CountDownLatch(1);
+    servers.get(0).close(onSuccess(v -> closeLatch.countDown()));
+    awaitLatch(closeLatch);
+    CountDownLatch latchConns2 = new CountDownLatch(numConnections);
+    for (int i = 0; i < numConnections; i++) {
+      client.connect(testAddress, onSuccess(so -> {
+        so.handler(buff -> {
+          so.close();
+          latchConns2.countDown();
+        });
+        so.write("ping");
+      }));
+    }
+    awaitLatch(latchConns2);
+    testComplete();
+  }
+
   @Test
   // This tests using NetSocket.writeHandlerID (on the server side)
   // Send some data and make sure it is fanned out to all connections
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2011-2017 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.test.core;
+
+import io.vertx.core.VertxOptions;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the timer tests with the timers scheduled by the timer wheel of the event loops.
+ */
+public class TimerWheelTest extends TimerTest {
+
+  @Override
+  protected VertxOptions getOptions() {
+    return super.getOptions().setTimerWheelEnabled(true).setTimerWheelTickDuration(1);
+  }
+
+  @Test
+  public void testManyTimersCancelled() {
+    int num = 100000;
+    vertx.runOnContext(v -> {
+      long[] ids = new long[num];
+      for (int i = 0; i < num; i++) {
+        ids[i] = vertx.setTimer(1 + i % 1000, id -> fail());
+      }
+      AtomicInteger fired = new AtomicInteger();
+      for (int i = 0; i < num; i++) {
+        assertTrue(vertx.cancelTimer(ids[i]));
+      }
+      vertx.setTimer(1, id -> fired.incrementAndGet());
+      vertx.setTimer(1500, id -> {
+        assertEquals(1, fired.get());
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testTimerAfterManyRounds() {
+    // The deadline is several rotations of the wheel away
+    long start = System.currentTimeMillis();
+    vertx.setTimer(1200, id -> {
+      assertTrue(System.currentTimeMillis() - start >= 1200);
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testPeriodicDoesNotDrift() {
+    long start = System.nanoTime();
+    long period = 20;
+    int count = 50;
+    AtomicInteger fired = new AtomicInteger();
+    vertx.setPeriodic(period, id -> {
+      if (fired.incrementAndGet() == count) {
+        vertx.cancelTimer(id);
+        long elapsed = (System.nanoTime() - start) / 1000000;
+        // A periodic rescheduled from the firing time would accumulate the tick delay each time
+        assertTrue("Elapsed " + elapsed, elapsed < period * count + period * 5);
+        testComplete();
+      }
+    });
+    await();
+  }
+}
@@ -154,6 +154,52 @@ public class VertxOptionsTest extends VertxTestBase {
     } catch (IllegalArgumentException e) {
       // OK
     }
+    assertFalse(options.isWorkerPoolAdaptive());
+    assertEquals(options, options.setWorkerPoolAdaptive(true));
+    assertTrue(options.isWorkerPoolAdaptive());
+    assertEquals(1, options.getWorkerPoolMinSize());
+    rand = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setWorkerPoolMinSize(rand));
+    assertEquals(rand, options.getWorkerPoolMinSize());
+    try {
+      options.setWorkerPoolMinSize(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    assertEquals(10l * 1000000, options.getWorkerPoolTargetWaitTime()); // 10 milliseconds in nano seconds
+    rand = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setWorkerPoolTargetWaitTime(rand));
+    assertEquals(rand, options.getWorkerPoolTargetWaitTime());
+    try {
+      options.setWorkerPoolTargetWaitTime(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    assertEquals(1l * 60 * 1000 * 1000000, options.getWorkerPoolKeepAliveTime()); // 1 minute in nano seconds
+    rand = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setWorkerPoolKeepAliveTime(rand));
+    assertEquals(rand, options.getWorkerPoolKeepAliveTime());
+    try {
+      options.setWorkerPoolKeepAliveTime(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    assertFalse(options.isTimerWheelEnabled());
+    assertEquals(options, options.setTimerWheelEnabled(true));
+    assertTrue(options.isTimerWheelEnabled());
+    assertEquals(10, options.getTimerWheelTickDuration());
+    rand = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setTimerWheelTickDuration(rand));
+    assertEquals(rand, options.getTimerWheelTickDuration());
+    try {
+      options.setTimerWheelTickDuration(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
     ClusterManager mgr = new FakeClusterManager();
     assertNull(options.getClusterManager());
     assertEquals(options, options.setClusterManager(mgr));
@@ -216,7 +262,13 @@ public class VertxOptionsTest extends VertxTestBase {
     long clusterPingReplyInterval = TestUtils.randomPositiveLong();
     int maxEventLoopExecuteTime = TestUtils.randomPositiveInt();
     int maxWorkerExecuteTime = TestUtils.randomPositiveInt();
+    int workerPoolMinSize = TestUtils.randomPositiveInt();
+    long workerPoolTargetWaitTime = TestUtils.randomPositiveLong();
+    long workerPoolKeepAliveTime = TestUtils.randomPositiveLong();
+    long timerWheelTickDuration = TestUtils.randomPositiveLong();
     Random rand = new Random();
+    boolean workerPoolAdaptive = rand.nextBoolean();
+    boolean timerWheelEnabled = rand.nextBoolean();
     boolean haEnabled = rand.nextBoolean();
     boolean fileResolverCachingEnabled = rand.nextBoolean();
     boolean metricsEnabled = rand.nextBoolean();
@@ -235,6 +287,12 @@ public class VertxOptionsTest extends VertxTestBase {
     options.setClusterPingReplyInterval(clusterPingReplyInterval);
     options.setMaxEventLoopExecuteTime(maxEventLoopExecuteTime);
     options.setMaxWorkerExecuteTime(maxWorkerExecuteTime);
+    options.setWorkerPoolAdaptive(workerPoolAdaptive);
+    options.setWorkerPoolMinSize(workerPoolMinSize);
+    options.setWorkerPoolTargetWaitTime(workerPoolTargetWaitTime);
+    options.setWorkerPoolKeepAliveTime(workerPoolKeepAliveTime);
+    options.setTimerWheelEnabled(timerWheelEnabled);
+    options.setTimerWheelTickDuration(timerWheelTickDuration);
     options.setHAEnabled(haEnabled);
     options.setFileResolverCachingEnabled(fileResolverCachingEnabled);
     options.setQuorumSize(quorumSize);
@@ -256,6 +314,12 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(clusterPublicHost, options.getClusterPublicHost());
     assertEquals(maxEventLoopExecuteTime, options.getMaxEventLoopExecuteTime());
     assertEquals(maxWorkerExecuteTime, options.getMaxWorkerExecuteTime());
+    assertEquals(workerPoolAdaptive, options.isWorkerPoolAdaptive());
+    assertEquals(workerPoolMinSize, options.getWorkerPoolMinSize());
+    assertEquals(workerPoolTargetWaitTime, options.getWorkerPoolTargetWaitTime());
+    assertEquals(workerPoolKeepAliveTime, options.getWorkerPoolKeepAliveTime());
+    assertEquals(timerWheelEnabled, options.isTimerWheelEnabled());
+    assertEquals(timerWheelTickDuration, options.getTimerWheelTickDuration());
     assertEquals(haEnabled, options.isHAEnabled());
     assertEquals(fileResolverCachingEnabled, options.isFileResolverCachingEnabled());
     assertEquals(quorumSize, options.getQuorumSize());
@@ -281,6 +345,12 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(def.getBlockedThreadCheckInterval(), json.getBlockedThreadCheckInterval());
     assertEquals(def.getMaxEventLoopExecuteTime(), json.getMaxEventLoopExecuteTime());
     assertEquals(def.getMaxWorkerExecuteTime(), json.getMaxWorkerExecuteTime());
+    assertEquals(def.isWorkerPoolAdaptive(), json.isWorkerPoolAdaptive());
+    assertEquals(def.getWorkerPoolMinSize(), json.getWorkerPoolMinSize());
+    assertEquals(def.getWorkerPoolTargetWaitTime(), json.getWorkerPoolTargetWaitTime());
+    assertEquals(def.getWorkerPoolKeepAliveTime(), json.getWorkerPoolKeepAliveTime());
+    assertEquals(def.isTimerWheelEnabled(), json.isTimerWheelEnabled());
+    assertEquals(def.getTimerWheelTickDuration(), json.getTimerWheelTickDuration());
     assertEquals(def.getInternalBlockingPoolSize(), json.getInternalBlockingPoolSize());
     assertEquals(def.isHAEnabled(), json.isHAEnabled());
     assertEquals(def.getQuorumSize(), json.getQuorumSize());
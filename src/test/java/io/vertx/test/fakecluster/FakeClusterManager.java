@@ -35,6 +35,7 @@ import io.vertx.core.spi.cluster.ClusterManager;
 import io.vertx.core.spi.cluster.NodeListener;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -383,6 +384,17 @@ public class FakeClusterManager implements ClusterManager {
       }, taskQueue, completionHandler);
     }
 
+    @Override
+    public void addAll(Collection<K> keys, V v, Handler<AsyncResult<Void>> completionHandler) {
+      ContextInternal ctx = vertx.getOrCreateContext();
+      ctx.executeBlocking(fut -> {
+        for (K k : keys) {
+          map.computeIfAbsent(k, key -> new ChoosableSet<>(1)).add(v);
+        }
+        fut.complete();
+      }, taskQueue, completionHandler);
+    }
+
     @Override
     public void get(final K k, Handler<AsyncResult<ChoosableIterable<V>>> asyncResultHandler) {
       ContextInternal ctx = vertx.getOrCreateContext();
@@ -414,6 +426,23 @@ public class FakeClusterManager implements ClusterManager {
       }, taskQueue, completionHandler);
     }
 
+    @Override
+    public void removeAll(Collection<K> keys, V v, Handler<AsyncResult<Set<K>>> completionHandler) {
+      ContextInternal ctx = vertx.getOrCreateContext();
+      ctx.executeBlocking(fut -> {
+        Set<K> removed = new HashSet<>();
+        for (K k : keys) {
+          map.computeIfPresent(k, (key, vals) -> {
+            if (vals.remove(v)) {
+              removed.add(key);
+            }
+            return vals.isEmpty() ? null : vals;
+          });
+        }
+        fut.complete(removed);
+      }, taskQueue, completionHandler);
+    }
+
     @Override
     public void removeAllForValue(final V v, Handler<AsyncResult<Void>> completionHandler) {
       removeAllMatching(v::equals, completionHandler);
@@ -31,10 +31,12 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class FakePoolMetrics implements PoolMetrics<Void> {
   private final static Map<String, PoolMetrics> METRICS = new ConcurrentHashMap<>();
 
+  private final Object pool;
   private final int poolSize;
 
   private final AtomicInteger submitted = new AtomicInteger();
   private final AtomicInteger completed = new AtomicInteger();
+  private final AtomicInteger skipped = new AtomicInteger();
   private final AtomicInteger idle = new AtomicInteger();
   private final AtomicInteger waiting = new AtomicInteger();
   private final AtomicInteger running = new AtomicInteger();
@@ -42,12 +44,21 @@ public class FakePoolMetrics implements PoolMetrics<Void> {
   private final AtomicBoolean closed = new AtomicBoolean();
 
   public FakePoolMetrics(String name, int poolSize) {
+    this(null, name, poolSize);
+  }
+
+  public FakePoolMetrics(Object pool, String name, int poolSize) {
+    this.pool = pool;
     this.poolSize = poolSize;
     this.name = name;
     this.idle.set(this.poolSize);
     METRICS.put(name, this);
   }
 
+  public Object getPool() {
+    return pool;
+  }
+
   public int getPoolSize() {
     return poolSize;
   }
@@ -67,6 +78,12 @@ public class FakePoolMetrics implements PoolMetrics<Void> {
     waiting.decrementAndGet();
   }
 
+  @Override
+  public void skipped(Void t) {
+    waiting.decrementAndGet();
+    skipped.incrementAndGet();
+  }
+
   @Override
   public Void begin(Void t) {
     waiting.decrementAndGet();
@@ -104,6 +121,10 @@ public class FakePoolMetrics implements PoolMetrics<Void> {
     return completed.get();
   }
 
+  public int numberOfSkippedTasks() {
+    return skipped.get();
+  }
+
   public int numberOfWaitingTasks() {
     return waiting.get();
   }
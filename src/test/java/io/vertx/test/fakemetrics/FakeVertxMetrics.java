@@ -30,6 +30,7 @@ import io.vertx.core.net.NetServerOptions;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.spi.metrics.*;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -39,6 +40,8 @@ public class FakeVertxMetrics extends FakeMetricsBase implements VertxMetrics {
 
   public static AtomicReference<EventBus> eventBus = new AtomicReference<>();
 
+  private volatile List<EventLoopStatistics> eventLoops;
+
   public FakeVertxMetrics(Vertx vertx) {
     super(vertx);
   }
@@ -134,7 +137,7 @@ public class FakeVertxMetrics extends FakeMetricsBase implements VertxMetrics {
 
   @Override
   public <P> PoolMetrics<?> createMetrics(P pool, String poolType, String poolName, int maxPoolSize) {
-    return new FakePoolMetrics(poolName, maxPoolSize);
+    return new FakePoolMetrics(pool, poolName, maxPoolSize);
   }
 
   public boolean isEnabled() {
@@ -145,4 +148,14 @@ public class FakeVertxMetrics extends FakeMetricsBase implements VertxMetrics {
   public void eventBusInitialized(EventBus bus) {
     this.eventBus.set(bus);
   }
+
+  @Override
+  public boolean eventLoopsCreated(List<EventLoopStatistics> eventLoops) {
+    this.eventLoops = eventLoops;
+    return true;
+  }
+
+  public List<EventLoopStatistics> getEventLoops() {
+    return eventLoops;
+  }
 }
\ No newline at end of file